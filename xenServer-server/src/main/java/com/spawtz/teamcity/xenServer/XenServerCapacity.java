@@ -0,0 +1,286 @@
+package com.spawtz.teamcity.xenServer;
+
+import com.xensource.xenapi.Connection;
+import com.xensource.xenapi.Host;
+import com.xensource.xenapi.Types;
+import com.xensource.xenapi.VM;
+import jetbrains.buildServer.clouds.QuotaException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control and placement for new instances. Caches the free memory and recent CPU load of the pool's
+ * enabled hosts and the memory each image needs to start, refreshed in the background every REFRESH_SECONDS, and
+ * turns a start down with a QuotaException when the image has reached its instance limit or no host could fit it
+ * next to the starts admitted since the last refresh. Turning it down up front spares a clone that would only fail
+ * to boot with HOST_NOT_ENOUGH_FREE_MEMORY. With a placement policy the admitted start is also given the host to
+ * start on. Should the figures be unavailable, as for an image's first start or while the refresh fails, the start
+ * is let through and placed by the server.
+ */
+public class XenServerCapacity {
+    private static final long REFRESH_SECONDS = 30;
+    private static final String CPU_LOAD = "cpu_avg";
+
+    private final XenServerSessionManager _sessionManager;
+    private final XenServerInventory _inventory;
+    private final int _maxInstances;
+    private final XenServerPlacementPolicy _policy;
+    private final ConcurrentMap<String, VM> _templates = new ConcurrentHashMap<String, VM>();
+    private final Map<Host, HostLoad> _hosts = new LinkedHashMap<Host, HostLoad>();
+    private final Map<String, Long> _requiredMemory = new HashMap<String, Long>();
+    private final List<Reservation> _reservations = new ArrayList<Reservation>();
+    private ScheduledExecutorService _executor;
+
+    /**
+     * @param maxInstances the most instances of an image, or 0 for no limit
+     * @param policy       how to pick the host of an instance, or null to leave it to the server
+     */
+    XenServerCapacity(@NotNull XenServerSessionManager sessionManager, @NotNull XenServerInventory inventory, int maxInstances,
+                      @Nullable XenServerPlacementPolicy policy) {
+        _sessionManager = sessionManager;
+        _inventory = inventory;
+        _maxInstances = maxInstances;
+        _policy = policy;
+    }
+
+    synchronized void start() {
+        if (_executor != null)
+            return;
+        _executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "XenServer capacity refresh");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        _executor.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                refresh();
+            }
+        }, 0, REFRESH_SECONDS, TimeUnit.SECONDS);
+    }
+
+    synchronized void dispose() {
+        if (_executor != null) {
+            _executor.shutdownNow();
+            _executor = null;
+        }
+    }
+
+    /**
+     * Reserves room for a new instance of the image, or throws a QuotaException when there is none. The caller
+     * starts the instance on the reservation's host, if it has one, and releases the reservation once the instance
+     * has started or failed to.
+     */
+    @NotNull
+    synchronized Reservation admit(@NotNull String imageId, @NotNull VM template) throws QuotaException {
+        if (_maxInstances > 0 && countInstances(imageId) >= _maxInstances)
+            throw new QuotaException("Image " + imageId + " already has the maximum of " + _maxInstances + " instances");
+
+        if (_templates.putIfAbsent(imageId, template) == null && _executor != null) {
+            // fetch the new image's figures now rather than at the next scheduled refresh
+            _executor.execute(new Runnable() {
+                public void run() {
+                    refresh();
+                }
+            });
+        }
+        Long required = _requiredMemory.get(imageId);
+        if (required == null) {
+            // without the figures the start goes ahead and the server has the final say
+            return new Reservation(0, null);
+        }
+
+        List<HostLoad> candidates = getCandidates(getLoads(imageId), required, _policy);
+        if (candidates.isEmpty())
+            throw new QuotaException("No host in the pool has the " + (required >> 20) + " MiB of free memory an instance of image " + imageId + " needs");
+
+        Reservation reservation = new Reservation(required, _policy == null ? null : candidates.get(0).host);
+        _reservations.add(reservation);
+        return reservation;
+    }
+
+    /**
+     * Gives the reservation up. That of an instance that started stays counted until the next refresh, whose
+     * figures include the instance.
+     */
+    synchronized void release(@NotNull Reservation reservation, boolean started) {
+        if (started)
+            reservation.started = true;
+        else
+            _reservations.remove(reservation);
+    }
+
+    /**
+     * The hosts with the memory for an instance, best first by the policy, or in no particular order without one.
+     */
+    @NotNull
+    static List<HostLoad> getCandidates(@NotNull Collection<HostLoad> hosts, long required, @Nullable XenServerPlacementPolicy policy) {
+        List<HostLoad> candidates = new ArrayList<HostLoad>();
+        for (HostLoad host : hosts) {
+            if (host.freeMemory >= required)
+                candidates.add(host);
+        }
+        if (policy != null)
+            Collections.sort(candidates, policy);
+        return candidates;
+    }
+
+    /**
+     * The hosts as they will be once the admitted starts have booted. A start placed on a host takes its memory
+     * off that host and counts as one of its instances; the starts left to the server take theirs, largest first,
+     * off the host with the most room.
+     */
+    private List<HostLoad> getLoads(String imageId) {
+        Map<Host, HostLoad> loads = new LinkedHashMap<Host, HostLoad>();
+        for (HostLoad host : _hosts.values()) {
+            loads.put(host.host, new HostLoad(host.host, host.freeMemory, host.cpuLoad));
+        }
+        for (VM vm : _inventory.getInstances(imageId)) {
+            VM.LazyRecord record = _inventory.getVm(vm);
+            HostLoad host = record == null || record.getPowerState() != Types.VmPowerState.RUNNING ? null : loads.get(record.getResidentOn());
+            if (host != null)
+                host.agents++;
+        }
+        List<Reservation> unplaced = new ArrayList<Reservation>();
+        for (Reservation reservation : _reservations) {
+            HostLoad host = reservation.host == null ? null : loads.get(reservation.host);
+            if (host == null) {
+                unplaced.add(reservation);
+            } else {
+                host.freeMemory -= reservation.memory;
+                // a started instance is already counted as running
+                if (!reservation.started)
+                    host.agents++;
+            }
+        }
+        Collections.sort(unplaced, new Comparator<Reservation>() {
+            public int compare(Reservation a, Reservation b) {
+                return Long.compare(b.memory, a.memory);
+            }
+        });
+        for (Reservation reservation : unplaced) {
+            HostLoad most = null;
+            for (HostLoad host : loads.values()) {
+                if (most == null || host.freeMemory > most.freeMemory)
+                    most = host;
+            }
+            if (most != null)
+                most.freeMemory -= reservation.memory;
+        }
+        return new ArrayList<HostLoad>(loads.values());
+    }
+
+    /**
+     * Fetches the figures off the admitting threads. The enabled hosts come from the inventory; their free memory
+     * and load, and the memory of the images admitted so far, take a call each.
+     */
+    private void refresh() {
+        // the instances started by now are in the figures about to be fetched
+        List<Reservation> started = new ArrayList<Reservation>();
+        synchronized (this) {
+            for (Reservation reservation : _reservations) {
+                if (reservation.started)
+                    started.add(reservation);
+            }
+        }
+        try {
+            Connection c = _sessionManager.getConnection();
+            // templates rarely change, but pick up a changed memory setting with the hosts
+            Map<String, Long> requiredMemory = new HashMap<String, Long>();
+            for (Map.Entry<String, VM> template : _templates.entrySet()) {
+                requiredMemory.put(template.getKey(), template.getValue().getMemoryDynamicMax(c) + template.getValue().computeMemoryOverhead(c));
+            }
+            List<HostLoad> hosts = new ArrayList<HostLoad>();
+            for (Map.Entry<Host, Host.LazyRecord> host : _inventory.getHosts().entrySet()) {
+                if (!Boolean.TRUE.equals(host.getValue().getEnabled()))
+                    continue;
+                double cpuLoad = 0;
+                if (_policy == XenServerPlacementPolicy.LEAST_LOADED) {
+                    try {
+                        cpuLoad = host.getKey().queryDataSource(c, CPU_LOAD);
+                    } catch (Types.XenAPIException e) {
+                        // a host that does not record the data source is taken as idle
+                        e.printStackTrace();
+                    }
+                }
+                hosts.add(new HostLoad(host.getKey(), host.getKey().computeFreeMemory(c), cpuLoad));
+            }
+            synchronized (this) {
+                _hosts.clear();
+                for (HostLoad host : hosts) {
+                    _hosts.put(host.host, host);
+                }
+                _requiredMemory.clear();
+                _requiredMemory.putAll(requiredMemory);
+                _reservations.removeAll(started);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            // stale figures would turn starts down that the pool now has room for
+            synchronized (this) {
+                _hosts.clear();
+                _requiredMemory.clear();
+            }
+        }
+    }
+
+    /**
+     * Counts the instances of the image that are starting or up, leaving out those being torn down.
+     */
+    private int countInstances(String imageId) {
+        Set<String> pending = new HashSet<String>();
+        for (XenServerCloudInstance instance : _inventory.getPendingInstances(imageId)) {
+            pending.add(instance.getInstanceId());
+        }
+        int count = pending.size();
+        for (VM vm : _inventory.getInstances(imageId)) {
+            VM.LazyRecord record = _inventory.getVm(vm);
+            if (!_inventory.isStopping(vm) && (record == null || !pending.contains(record.getNameLabel())))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * What a placement policy knows of a host.
+     */
+    static class HostLoad {
+        final Host host;
+        long freeMemory;
+        final double cpuLoad;
+        /**
+         * The instances of the image running or being started on the host.
+         */
+        int agents;
+
+        HostLoad(Host host, long freeMemory, double cpuLoad) {
+            this.host = host;
+            this.freeMemory = freeMemory;
+            this.cpuLoad = cpuLoad;
+        }
+    }
+
+    /**
+     * The memory set aside for an instance that has been admitted but is not yet running, and the host it is to
+     * start on, or null when the server places it.
+     */
+    static class Reservation {
+        final long memory;
+        final Host host;
+        boolean started;
+
+        Reservation(long memory, @Nullable Host host) {
+            this.memory = memory;
+            this.host = host;
+        }
+    }
+}
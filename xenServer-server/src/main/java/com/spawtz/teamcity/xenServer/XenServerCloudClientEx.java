@@ -6,72 +6,211 @@ import jetbrains.buildServer.clouds.*;
 import jetbrains.buildServer.serverSide.AgentDescription;
 import jetbrains.buildServer.serverSide.BuildAgentManager;
 import jetbrains.buildServer.serverSide.SBuildAgent;
+import org.apache.xmlrpc.XmlRpcException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.net.ssl.*;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.PrintWriter;
-import java.net.URL;
-import java.security.SecureRandom;
-import java.security.cert.X509Certificate;
+import java.net.MalformedURLException;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class XenServerCloudClientEx implements CloudClientEx {
+    private static final long DISPOSE_WAIT_SECONDS = 60;
+
     private CloudClientParameters _parameters;
     private BuildAgentManager _agentFinder;
+    private XenServerSessionManager _sessionManager;
+    private XenServerInventory _inventory;
+    private int _warmPoolSize;
+    private boolean _warmPoolSuspended;
+    private String _terminateMode;
+    private final Set<VM> _snapshotting = ConcurrentHashMap.<VM>newKeySet();
+    private final XenServerTeardownQueue _teardownQueue = new XenServerTeardownQueue();
+    private XenServerStorageCollector _storageCollector;
+    private XenServerOrphanReaper _reaper;
+    private XenServerCapacity _capacity;
+    private final ConcurrentMap<String, XenServerWarmPool> _warmPools = new ConcurrentHashMap<String, XenServerWarmPool>();
 
-    XenServerCloudClientEx(CloudClientParameters parameters, BuildAgentManager agentFinder) {
+    XenServerCloudClientEx(CloudClientParameters parameters, BuildAgentManager agentFinder) throws MalformedURLException {
         _parameters = parameters;
         _agentFinder = agentFinder;
+        _sessionManager = new XenServerSessionManager(parameters);
+        _inventory = new XenServerInventory(_sessionManager);
+        _warmPoolSize = getIntParameter(parameters, XenServerCloudParameters.WARM_POOL_SIZE, 0);
+        _warmPoolSuspended = XenServerCloudParameters.WARM_POOL_SUSPENDED.equals(parameters.getParameter(XenServerCloudParameters.WARM_POOL_MODE));
+        String terminateMode = parameters.getParameter(XenServerCloudParameters.TERMINATE_MODE);
+        _terminateMode = terminateMode == null ? XenServerCloudParameters.TERMINATE_DESTROY : terminateMode;
+        _storageCollector = new XenServerStorageCollector(_inventory,
+                getIntParameter(parameters, XenServerCloudParameters.DESTROYS_PER_SR, XenServerCloudParameters.DEFAULT_DESTROYS_PER_SR),
+                Boolean.parseBoolean(parameters.getParameter(XenServerCloudParameters.SCAN_AFTER_DESTROY)));
+        _capacity = new XenServerCapacity(_sessionManager, _inventory, getIntParameter(parameters, XenServerCloudParameters.MAX_INSTANCES, 0),
+                XenServerPlacementPolicy.fromParameter(parameters.getParameter(XenServerCloudParameters.PLACEMENT)));
+        _capacity.start();
+        String templateId = parameters.getParameter(XenServerCloudParameters.TEMPLATE);
+        if (templateId != null) {
+            _reaper = new XenServerOrphanReaper(_sessionManager, _inventory, agentFinder, templateId,
+                    getIntParameter(parameters, XenServerCloudParameters.ORPHAN_RUNNING_GRACE, XenServerCloudParameters.DEFAULT_ORPHAN_RUNNING_GRACE),
+                    getIntParameter(parameters, XenServerCloudParameters.ORPHAN_HALTED_GRACE, XenServerCloudParameters.DEFAULT_ORPHAN_HALTED_GRACE),
+                    new Consumer<XenServerCloudInstance>() {
+                        public void accept(XenServerCloudInstance orphan) {
+                            destroy(orphan);
+                        }
+                    });
+            _reaper.start();
+        }
+    }
+
+    private static int getIntParameter(CloudClientParameters parameters, String name, int defaultValue) {
+        String value = parameters.getParameter(name);
+        return value == null || value.trim().isEmpty() ? defaultValue : Integer.parseInt(value.trim());
     }
 
     @NotNull
     @Override
     public CloudInstance startNewInstance(@NotNull CloudImage cloudImage, @NotNull CloudInstanceUserData cloudInstanceUserData) throws QuotaException {
         cloudInstanceUserData.addAgentConfigurationParameter("jetbrains.buildServer.clouds.CloudConstants#AGENT_TERMINATE_AFTER_BUILD", "true");
+        XenServerCapacity.Reservation admitted = null;
         try {
-            HostnameVerifier hv = new HostnameVerifier()
-            {
-                public boolean verify(String hostname, SSLSession session)
-                {
-                    return session.getPeerHost().equals(hostname);
+            final Connection connection = _sessionManager.getConnection();
+            final String imageId = cloudImage.getId();
+            XenServerCloudImage image = (XenServerCloudImage) cloudImage;
+            // turned down here rather than by the server once the clone has been made
+            final XenServerCapacity.Reservation reservation = _capacity.admit(imageId, image.getVm());
+            admitted = reservation;
+            XenServerWarmPool warmPool = getWarmPool(connection, imageId);
+            VM warm = warmPool == null ? null : warmPool.take();
+            final XenServerCloudInstance instance;
+            CompletableFuture<VM> cloned;
+            if (warm != null) {
+                VM.LazyRecord record = _inventory.getVm(warm);
+                instance = new XenServerCloudInstance(connection, _inventory, imageId, record != null ? record.getNameLabel() : warm.getNameLabel(connection));
+                cloned = CompletableFuture.completedFuture(warm);
+                warmPool.refill(image);
+            } else {
+                instance = new XenServerCloudInstance(connection, _inventory, imageId, XenServerCloudInstance.newVmName(imageId));
+                cloned = image.cloneAsync(instance.getInstanceId(), isResetOnBoot());
+            }
+            _inventory.addPending(instance);
+
+            // the instance is returned as STARTING straight away; the clone and the boot run as server tasks,
+            // waited for through the inventory's task events rather than on a dispatch thread
+            cloned.thenCompose(new Function<VM, CompletableFuture<Task>>() {
+                public CompletableFuture<Task> apply(final VM clone) {
+                    return connection.submit(new Connection.Call<Task>() {
+                        public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                            VM.Record record = clone.getRecord(c);
+                            _inventory.addInstance(imageId, clone, record);
+                            if (!instance.attach(clone)) {
+                                destroy(instance);
+                                throw new CancellationException("Instance " + instance.getInstanceId() + " was terminated while it was being cloned");
+                            }
+                            clone.setIsATemplate(c, false);
+                            HashSet<String> tags = new HashSet<String>();
+                            tags.add(imageId);
+                            clone.setTags(c, tags);
+                            // a clone from a suspended warm pool has already booted
+                            boolean suspended = record.powerState == Types.VmPowerState.SUSPENDED;
+                            if (reservation.host != null && canBootOn(c, clone, reservation.host))
+                                return suspended ? clone.resumeOnAsync(c, reservation.host, false, true) : clone.startOnAsync(c, reservation.host, false, true);
+                            return suspended ? clone.resumeAsync(c, false, true) : clone.startAsync(c, false, true);
+                        }
+                    });
+                }
+            }).thenCompose(new Function<Task, CompletableFuture<Task.Record>>() {
+                public CompletableFuture<Task.Record> apply(Task task) {
+                    return _inventory.awaitTask(connection, task);
                 }
-            };
-
-            HttpsURLConnection.setDefaultHostnameVerifier(hv);
-            TrustManager[] trustAllCerts = new TrustManager[]{
-                    new X509TrustManager(){
-                        public X509Certificate[] getAcceptedIssuers(){ return null; }
-                        public void checkClientTrusted(X509Certificate[] certs, String authType) {}
-                        public void checkServerTrusted(X509Certificate[] certs, String authType) {}
+            }).whenComplete(new BiConsumer<Task.Record, Throwable>() {
+                public void accept(Task.Record started, Throwable e) {
+                    VM clone = instance.getVm();
+                    if (clone != null)
+                        _inventory.bootCompleted(clone);
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    _capacity.release(reservation, cause == null);
+                    if (cause == null) {
+                        _inventory.removePending(instance);
+                    } else if (!(cause instanceof CancellationException)) {
+                        cause.printStackTrace();
+                        instance.setErrorInfo(new CloudErrorInfo("Failed to start " + instance.getInstanceId(), cause.toString(), cause));
                     }
-            };
-
-            try {
-                SSLContext sslContext = SSLContext.getInstance("SSL");
-                sslContext.init(null, trustAllCerts, new SecureRandom());
-                HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-            } catch (Exception e){
-                e.printStackTrace();
-            }
-            Connection connection = new Connection(new URL("https://" + _parameters.getParameter("clouds.xenserver.server")));
-            Session.loginWithPassword(connection, _parameters.getParameter("clouds.xenserver.userName"), _parameters.getParameter("clouds.xenserver.password"), APIVersion.latest().toString());
-
-            VM template = VM.getByUuid(connection, cloudImage.getId());
-            VM clone = template.createClone(connection, "buildagent-" + UUID.randomUUID().toString());
-            clone.setIsATemplate(connection, false);
-            HashSet<String> tags = new HashSet<String>();
-            tags.add(cloudImage.getId());
-            clone.setTags(connection,tags);
-            clone.start(connection,false,true);
-            return new XenServerCloudInstance(connection, clone);
+                }
+            });
+            return instance;
+        } catch (QuotaException ex) {
+            throw ex;
         } catch (Exception ex) {
+            if (admitted != null)
+                _capacity.release(admitted, false);
             throw new RuntimeException(ex);
         }
     }
 
+    /**
+     * Whether clones get disks that reset on boot, which is how recycling profiles clean their instances. Clones of
+     * profiles with a suspended warm pool keep persistent disks, as reset-on-boot disks do not survive a suspend.
+     */
+    private boolean isResetOnBoot() {
+        return XenServerCloudParameters.TERMINATE_RECYCLE.equals(_terminateMode) && !_warmPoolSuspended;
+    }
+
+    /**
+     * Queues the instance to be destroyed, whatever the profile does with terminated instances.
+     */
+    private void destroy(final XenServerCloudInstance instance) {
+        _teardownQueue.submit(instance.getInstanceId(), new Supplier<CompletableFuture<Void>>() {
+            public CompletableFuture<Void> get() {
+                return instance.stopAsync(_storageCollector);
+            }
+        });
+    }
+
+    /**
+     * Whether the VM can start on the host, which it cannot when its disks are on storage the host does not see.
+     */
+    private static boolean canBootOn(Connection c, VM vm, Host host) throws XmlRpcException {
+        try {
+            vm.assertCanBootHere(c, host);
+            return true;
+        } catch (Types.XenAPIException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The warm pool of the image, or null when the profile keeps none. Profiles that recycle or revert their
+     * terminated instances always have one, to take them back.
+     */
+    @Nullable
+    private XenServerWarmPool getWarmPool(final Connection connection, String imageId) {
+        if (_warmPoolSize <= 0 && XenServerCloudParameters.TERMINATE_DESTROY.equals(_terminateMode))
+            return null;
+        XenServerWarmPool pool = _warmPools.get(imageId);
+        if (pool == null) {
+            XenServerWarmPool created = new XenServerWarmPool(connection, _inventory, imageId, _warmPoolSize, _warmPoolSuspended,
+                    isResetOnBoot(), new Consumer<VM>() {
+                        public void accept(VM clone) {
+                            destroy(new XenServerCloudInstance(connection, _inventory, clone));
+                        }
+                    });
+            pool = _warmPools.putIfAbsent(imageId, created);
+            if (pool == null)
+                pool = created;
+        }
+        return pool;
+    }
+
     @Override
     public void restartInstance(@NotNull CloudInstance cloudInstance) {
         XenServerCloudInstance instance = (XenServerCloudInstance)cloudInstance;
@@ -88,20 +227,40 @@ public class XenServerCloudClientEx implements CloudClientEx {
             //exception handling left as an exercise for the reader
             //thank you for the opportunity, but i'm afraid I must kindly decline
         }
-        XenServerCloudInstance instance = (XenServerCloudInstance)cloudInstance;
-        String agentName = "buildagent_" + instance.getNetworkIdentity();
+        final XenServerCloudInstance instance = (XenServerCloudInstance)cloudInstance;
+        String agentName = XenServerCloudInstance.AGENT_NAME_PREFIX + instance.getNetworkIdentity();
         SBuildAgent agent = _agentFinder.findAgentByName(agentName, false);
-        assert agent != null;
-        agent.setAuthorized(false, null, "");
+        // an instance that failed to provision has no agent
+        if (agent != null)
+            agent.setAuthorized(false, null, "");
 
-        instance.stop();
+        _teardownQueue.submit(instance.getInstanceId(), new Supplier<CompletableFuture<Void>>() {
+            public CompletableFuture<Void> get() {
+                if (XenServerCloudParameters.TERMINATE_RECYCLE.equals(_terminateMode))
+                    return instance.recycleAsync(_storageCollector);
+                if (XenServerCloudParameters.TERMINATE_REVERT.equals(_terminateMode))
+                    return instance.revertAsync(_storageCollector);
+                return instance.stopAsync(_storageCollector);
+            }
+        });
         //noinspection ConstantConditions
         //_agentFinder.
     }
 
     @Override
     public void dispose() {
-
+        if (_reaper != null)
+            _reaper.dispose();
+        _capacity.dispose();
+        // the work under way needs the session and the inventory's task events, so it is given a while to finish first
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(DISPOSE_WAIT_SECONDS);
+        for (XenServerWarmPool warmPool : _warmPools.values()) {
+            warmPool.close(deadline);
+        }
+        _teardownQueue.close(deadline);
+        _storageCollector.close(deadline);
+        _inventory.dispose();
+        _sessionManager.dispose();
     }
 
     @Override
@@ -113,33 +272,8 @@ public class XenServerCloudClientEx implements CloudClientEx {
     @Override
     public CloudImage findImageById(@NotNull String s) throws CloudException {
         try {
-            HostnameVerifier hv = new HostnameVerifier()
-            {
-                public boolean verify(String hostname, SSLSession session)
-                {
-                    return session.getPeerHost().equals(hostname);
-                }
-            };
-
-            HttpsURLConnection.setDefaultHostnameVerifier(hv);
-            TrustManager[] trustAllCerts = new TrustManager[]{
-                    new X509TrustManager(){
-                        public X509Certificate[] getAcceptedIssuers(){ return null; }
-                        public void checkClientTrusted(X509Certificate[] certs, String authType) {}
-                        public void checkServerTrusted(X509Certificate[] certs, String authType) {}
-                    }
-            };
-
-            try {
-                SSLContext sslContext = SSLContext.getInstance("SSL");
-                sslContext.init(null, trustAllCerts, new SecureRandom());
-                HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-            } catch (Exception e){
-                e.printStackTrace();
-            }
-            Connection connection = new Connection(new URL("https://" + _parameters.getParameter("clouds.xenserver.server")));
-            Session.loginWithPassword(connection, _parameters.getParameter("clouds.xenserver.userName"), _parameters.getParameter("clouds.xenserver.password"), APIVersion.latest().toString());
-            return new XenServerCloudImage(connection, VM.getByUuid(connection, s));
+            Connection connection = _sessionManager.getConnection();
+            return new XenServerCloudImage(connection, _inventory, VM.getByUuid(connection, s), s);
         } catch (Exception ex) {
             return null;
         }
@@ -149,51 +283,48 @@ public class XenServerCloudClientEx implements CloudClientEx {
     @Override
     public CloudInstance findInstanceByAgent(@NotNull AgentDescription agentDescription) {
         try {
-            CloudImage cloudImage = (CloudImage) getImages().toArray()[0];
-            for (CloudInstance cloudInstance : cloudImage.getInstances()) {
-                if (cloudInstance.containsAgent(agentDescription))
-                    return cloudInstance;
-            }
-            return null;
+            VM vm = _inventory.findVmByAgent(agentDescription.toString().split(" ")[0]);
+            if (vm == null && agentDescription instanceof SBuildAgent)
+                vm = _inventory.findVmByAgent(((SBuildAgent) agentDescription).getHostAddress());
+            if (vm == null || !_inventory.getInstances(_parameters.getParameter(XenServerCloudParameters.TEMPLATE)).contains(vm))
+                return null;
+            XenServerCloudInstance instance = new XenServerCloudInstance(_sessionManager.getConnection(), _inventory, vm);
+            // TeamCity looks the instance up when its agent registers, which is the state reverts return to
+            if (XenServerCloudParameters.TERMINATE_REVERT.equals(_terminateMode))
+                snapshot(instance, vm);
+            return instance;
         }
         catch(Exception ignored){
             return null;
         }
     }
 
+    private void snapshot(XenServerCloudInstance instance, final VM vm) {
+        if (!_snapshotting.add(vm))
+            return;
+        instance.snapshotAsync().whenComplete(new BiConsumer<Void, Throwable>() {
+            public void accept(Void ignored, Throwable e) {
+                _snapshotting.remove(vm);
+                if (e != null)
+                    e.printStackTrace();
+            }
+        });
+    }
+
     @NotNull
     @Override
     public Collection<? extends CloudImage> getImages() throws CloudException {
         LinkedList<CloudImage> result = new LinkedList<CloudImage>();
         try {
-            HostnameVerifier hv = new HostnameVerifier()
-            {
-                public boolean verify(String hostname, SSLSession session)
-                {
-                    return session.getPeerHost().equals(hostname);
-                }
-            };
-
-            HttpsURLConnection.setDefaultHostnameVerifier(hv);
-            TrustManager[] trustAllCerts = new TrustManager[]{
-                    new X509TrustManager(){
-                        public X509Certificate[] getAcceptedIssuers(){ return null; }
-                        public void checkClientTrusted(X509Certificate[] certs, String authType) {}
-                        public void checkServerTrusted(X509Certificate[] certs, String authType) {}
-                    }
-            };
-
-            try {
-                SSLContext sslContext = SSLContext.getInstance("SSL");
-                sslContext.init(null, trustAllCerts, new SecureRandom());
-                HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-            } catch (Exception e){
-                e.printStackTrace();
-            }
-            Connection connection = new Connection(new URL("https://" + _parameters.getParameter("clouds.xenserver.server")));
-            Session.loginWithPassword(connection, _parameters.getParameter("clouds.xenserver.userName"), _parameters.getParameter("clouds.xenserver.password"), APIVersion.latest().toString());
+            Connection connection = _sessionManager.getConnection();
 
-            result.add(new XenServerCloudImage(connection, VM.getByUuid(connection, _parameters.getParameter("clouds.xenserver.template"))));
+            String templateId = _parameters.getParameter("clouds.xenserver.template");
+            XenServerCloudImage image = new XenServerCloudImage(connection, _inventory, VM.getByUuid(connection, templateId), templateId);
+            result.add(image);
+            // TeamCity polls the images regularly, which keeps the warm pool topped up
+            XenServerWarmPool warmPool = getWarmPool(connection, templateId);
+            if (warmPool != null)
+                warmPool.refill(image);
         } catch (Exception ignored) {}
         return result;
     }
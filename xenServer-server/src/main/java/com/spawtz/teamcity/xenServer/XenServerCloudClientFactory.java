@@ -1,9 +1,6 @@
 package com.spawtz.teamcity.xenServer;
 
-import com.xensource.xenapi.APIVersion;
-import com.xensource.xenapi.Connection;
-import com.xensource.xenapi.Session;
-import com.xensource.xenapi.VM;
+import com.xensource.xenapi.ConnectionPool;
 import jetbrains.buildServer.clouds.*;
 import jetbrains.buildServer.serverSide.AgentDescription;
 import jetbrains.buildServer.serverSide.BuildAgentManager;
@@ -13,14 +10,6 @@ import jetbrains.buildServer.web.openapi.PluginDescriptor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.net.ssl.*;
-import java.io.IOException;
-import java.net.InetAddress;
-import java.net.Socket;
-import java.net.URL;
-import java.net.UnknownHostException;
-import java.security.SecureRandom;
-import java.security.cert.X509Certificate;
 import java.util.*;
 
 public class XenServerCloudClientFactory implements CloudClientFactory {
@@ -55,7 +44,19 @@ public class XenServerCloudClientFactory implements CloudClientFactory {
     @NotNull
     @Override
     public Map<String, String> getInitialParameterValues() {
-        return new HashMap<String, String>();
+        HashMap<String, String> result = new HashMap<String, String>();
+        result.put(XenServerCloudParameters.MAX_CONNECTIONS, String.valueOf(ConnectionPool.DEFAULT_MAX_CONNECTIONS_PER_HOST));
+        result.put(XenServerCloudParameters.PROTOCOL, XenServerCloudParameters.PROTOCOL_JSON_RPC);
+        result.put(XenServerCloudParameters.WARM_POOL_SIZE, "0");
+        result.put(XenServerCloudParameters.WARM_POOL_MODE, XenServerCloudParameters.WARM_POOL_HALTED);
+        result.put(XenServerCloudParameters.TERMINATE_MODE, XenServerCloudParameters.TERMINATE_DESTROY);
+        result.put(XenServerCloudParameters.DESTROYS_PER_SR, String.valueOf(XenServerCloudParameters.DEFAULT_DESTROYS_PER_SR));
+        result.put(XenServerCloudParameters.SCAN_AFTER_DESTROY, "false");
+        result.put(XenServerCloudParameters.ORPHAN_RUNNING_GRACE, String.valueOf(XenServerCloudParameters.DEFAULT_ORPHAN_RUNNING_GRACE));
+        result.put(XenServerCloudParameters.ORPHAN_HALTED_GRACE, String.valueOf(XenServerCloudParameters.DEFAULT_ORPHAN_HALTED_GRACE));
+        result.put(XenServerCloudParameters.MAX_INSTANCES, "0");
+        result.put(XenServerCloudParameters.PLACEMENT, XenServerCloudParameters.PLACEMENT_SERVER);
+        return result;
     }
 
     @NotNull
@@ -66,38 +67,29 @@ public class XenServerCloudClientFactory implements CloudClientFactory {
             public Collection<InvalidProperty> process(Map<String, String> map) {
                 LinkedList<InvalidProperty> result = new LinkedList<InvalidProperty>();
                 for (String key : map.keySet()) {
-                    if (key.startsWith("clouds.xenserver") && (map.get(key) == null || map.get(key).equals("")))
+                    if (key.startsWith("clouds.xenserver") && !key.equals(XenServerCloudParameters.SCAN_AFTER_DESTROY) && (map.get(key) == null || map.get(key).equals("")))
                         result.add(new InvalidProperty(key, "Cannot be empty"));
                 }
+                String maxConnections = map.get(XenServerCloudParameters.MAX_CONNECTIONS);
+                if (maxConnections != null && !maxConnections.equals("") && !isPositiveNumber(maxConnections))
+                    result.add(new InvalidProperty(XenServerCloudParameters.MAX_CONNECTIONS, "Must be a positive number"));
+                String destroysPerSR = map.get(XenServerCloudParameters.DESTROYS_PER_SR);
+                if (destroysPerSR != null && !destroysPerSR.equals("") && !isPositiveNumber(destroysPerSR))
+                    result.add(new InvalidProperty(XenServerCloudParameters.DESTROYS_PER_SR, "Must be a positive number"));
+                for (String key : Arrays.asList(XenServerCloudParameters.WARM_POOL_SIZE, XenServerCloudParameters.ORPHAN_RUNNING_GRACE, XenServerCloudParameters.ORPHAN_HALTED_GRACE,
+                        XenServerCloudParameters.MAX_INSTANCES)) {
+                    String value = map.get(key);
+                    if (value != null && !value.equals("") && !isNonNegativeNumber(value))
+                        result.add(new InvalidProperty(key, "Must be zero or a positive number"));
+                }
                 if (result.size() == 0) {
                     try {
-                        HostnameVerifier hv = new HostnameVerifier()
-                        {
-                            public boolean verify(String hostname, SSLSession session)
-                            {
-                                return session.getPeerHost().equals(hostname);
-                            }
-                        };
-
-                        HttpsURLConnection.setDefaultHostnameVerifier(hv);
-                        TrustManager[] trustAllCerts = new TrustManager[]{
-                                new X509TrustManager(){
-                                    public X509Certificate[] getAcceptedIssuers(){ return null; }
-                                    public void checkClientTrusted(X509Certificate[] certs, String authType) {}
-                                    public void checkServerTrusted(X509Certificate[] certs, String authType) {}
-                                }
-                        };
-
+                        XenServerSessionManager sessionManager = new XenServerSessionManager(map.get("clouds.xenserver.server"), map.get("clouds.xenserver.userName"), map.get("clouds.xenserver.password"), maxConnections, map.get(XenServerCloudParameters.PROTOCOL));
                         try {
-                            SSLContext sslContext = SSLContext.getInstance("SSL");
-                            sslContext.init(null, trustAllCerts, new SecureRandom());
-                            HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-                        } catch (Exception e){
-                            e.printStackTrace();
+                            sessionManager.getConnection();
+                        } finally {
+                            sessionManager.dispose();
                         }
-                        Connection connection = new Connection(new URL("https://" + map.get("clouds.xenserver.server")));
-                        Session session = Session.loginWithPassword(connection, map.get("clouds.xenserver.userName"), map.get("clouds.xenserver.password"), APIVersion.latest().toString());
-                        session.getLastActive(connection);
                     } catch (Exception e) {
                         result.add(new InvalidProperty("clouds.xenserver.userName", "Invalid credentials"));
                     }
@@ -107,6 +99,22 @@ public class XenServerCloudClientFactory implements CloudClientFactory {
         };
     }
 
+    private static boolean isPositiveNumber(String value) {
+        try {
+            return Integer.parseInt(value.trim()) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isNonNegativeNumber(String value) {
+        try {
+            return Integer.parseInt(value.trim()) >= 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     @Override
     public boolean canBeAgentOfType(@NotNull AgentDescription agentDescription) {
         return true;
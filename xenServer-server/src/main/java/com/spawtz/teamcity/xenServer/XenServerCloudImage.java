@@ -1,7 +1,9 @@
 package com.spawtz.teamcity.xenServer;
 
 import com.xensource.xenapi.Connection;
+import com.xensource.xenapi.Task;
 import com.xensource.xenapi.Types;
+import com.xensource.xenapi.VDI;
 import com.xensource.xenapi.VM;
 import jetbrains.buildServer.clouds.CloudErrorInfo;
 import jetbrains.buildServer.clouds.CloudImage;
@@ -17,24 +19,34 @@ import java.io.PrintWriter;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 public class XenServerCloudImage implements CloudImage {
     private Connection _connection;
+    private XenServerInventory _inventory;
     private VM _vm;
+    private String _id;
 
-    XenServerCloudImage(Connection connection, VM vm) {
+    XenServerCloudImage(Connection connection, XenServerInventory inventory, VM vm, String id) {
         _connection = connection;
+        _inventory = inventory;
         _vm = vm;
+        _id = id;
     }
 
     @NotNull
     @Override
     public String getId() {
-        try {
-            return _vm.getUuid(_connection);
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
-        }
+        return _id;
+    }
+
+    /**
+     * The template the image clones.
+     */
+    @NotNull
+    VM getVm() {
+        return _vm;
     }
 
     @NotNull
@@ -51,16 +63,13 @@ public class XenServerCloudImage implements CloudImage {
     @Override
     public Collection<? extends CloudInstance> getInstances() {
         try {
-            LinkedList<XenServerCloudInstance> result = new LinkedList<XenServerCloudInstance>();
-            Set<VM> children = VM.getAll(_connection);
-            final String templateId = _vm.getUuid(_connection);
-            for (VM child : children)
+            LinkedList<XenServerCloudInstance> result = new LinkedList<XenServerCloudInstance>(_inventory.getPendingInstances(getId()));
+            for (VM child : _inventory.getInstances(getId()))
             {
-                for (String tag : child.getTags(_connection)) {
-                    if (tag.equals(templateId)) {
-                        result.add(new XenServerCloudInstance(_connection, child));
-                    }
-                }
+                // a clone that is still booting is listed through its pending instance
+                VM.LazyRecord record = _inventory.getVm(child);
+                if (record == null || _inventory.getPending(record.getNameLabel()) == null)
+                    result.add(new XenServerCloudInstance(_connection, _inventory, child));
             }
             return result;
         } catch (Exception ex) {
@@ -71,12 +80,54 @@ public class XenServerCloudImage implements CloudImage {
     @Nullable
     @Override
     public CloudInstance findInstanceById(@NotNull String s) {
-        try {
-            VM vm = VM.getByUuid(_connection, s);
-            return new XenServerCloudInstance(_connection, vm);
-        } catch (Exception ex) {
-            return null;
+        XenServerCloudInstance pending = _inventory.getPending(s);
+        if (pending != null && getId().equals(pending.getImageId()))
+            return pending;
+        Set<VM> children = _inventory.getInstances(getId());
+        for (VM child : children) {
+            VM.LazyRecord record = _inventory.getVm(child);
+            if (record != null && s.equals(record.getNameLabel()))
+                return new XenServerCloudInstance(_connection, _inventory, child);
         }
+        // instances started by earlier versions are known by the UUID of their VM
+        for (VM child : children) {
+            VM.LazyRecord record = _inventory.getVm(child);
+            if (record != null && s.equals(record.getUuid()))
+                return new XenServerCloudInstance(_connection, _inventory, child);
+        }
+        return null;
+    }
+
+    /**
+     * Clones the image's template as a server task. The future completes with the clone, still a template and
+     * not yet tagged, once the task has finished and, if resetOnBoot is set, its disks have been switched to
+     * revert on every boot.
+     */
+    @NotNull
+    CompletableFuture<VM> cloneAsync(@NotNull final String name, final boolean resetOnBoot) {
+        return _connection.submit(new Connection.Call<Task>() {
+            public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                return _vm.createCloneAsync(c, name);
+            }
+        }).thenCompose(new Function<Task, CompletableFuture<Task.Record>>() {
+            public CompletableFuture<Task.Record> apply(Task task) {
+                return _inventory.awaitTask(_connection, task);
+            }
+        }).thenCompose(new Function<Task.Record, CompletableFuture<VM>>() {
+            public CompletableFuture<VM> apply(final Task.Record cloned) {
+                return _connection.submit(new Connection.Call<VM>() {
+                    public VM call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                        VM clone = Types.toVM(Types.toAsyncResult(cloned));
+                        if (resetOnBoot) {
+                            for (VDI disk : XenServerCloudInstance.getDisks(c, clone)) {
+                                disk.setOnBoot(c, Types.OnBoot.RESET);
+                            }
+                        }
+                        return clone;
+                    }
+                });
+            }
+        });
     }
 
     @Nullable
@@ -14,15 +14,82 @@ import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.PrintWriter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 public class XenServerCloudInstance implements CloudInstance {
+    static final String AGENT_NAME_PREFIX = "buildagent_";
+    static final String VM_NAME_PREFIX = "buildagent-";
+    static final String CLEAN_SNAPSHOT_NAME = "teamcity-clean";
+
+    /**
+     * A fresh name label for a VM of the image. It holds the image ID, so the orphan reaper can tell this profile's
+     * clones from those of other profiles before they are tagged.
+     */
+    @NotNull
+    static String newVmName(@NotNull String imageId) {
+        return VM_NAME_PREFIX + imageId + "-" + UUID.randomUUID().toString();
+    }
+
+    /**
+     * Whether the name label is one given by earlier versions, VM_NAME_PREFIX followed by a bare UUID. Their
+     * instances took the VM's UUID as their ID, which TeamCity keeps across restarts, so those VMs keep it.
+     */
+    static boolean isLegacyVmName(@Nullable String name) {
+        if (name == null || !name.startsWith(VM_NAME_PREFIX))
+            return false;
+        String suffix = name.substring(VM_NAME_PREFIX.length());
+        try {
+            return UUID.fromString(suffix).toString().equalsIgnoreCase(suffix);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     private Connection _connection;
-    private VM _vm;
+    private XenServerInventory _inventory;
+    private volatile VM _vm;
+    private String _name;
+    private String _imageId;
+    private volatile CloudErrorInfo _errorInfo;
+    private boolean _stopped;
+
 
+    XenServerCloudInstance(Connection connection, XenServerInventory inventory, VM vm) {
+        _connection = connection;
+        _inventory = inventory;
+        _vm = vm;
+    }
 
-    XenServerCloudInstance(Connection connection, VM vm) {
+    /**
+     * An instance that is still being provisioned. It has no VM until the clone named name has been created.
+     */
+    XenServerCloudInstance(Connection connection, XenServerInventory inventory, String imageId, String name) {
         _connection = connection;
+        _inventory = inventory;
+        _imageId = imageId;
+        _name = name;
+    }
+
+    @Nullable
+    VM getVm() {
+        return _vm;
+    }
+
+    /**
+     * Gives a provisioned instance its freshly cloned VM. Returns false if the instance was stopped in the
+     * meantime, in which case the caller should discard the clone.
+     */
+    synchronized boolean attach(@NotNull VM vm) {
         _vm = vm;
+        return !_stopped;
+    }
+
+    /**
+     * Reports that provisioning failed; the instance stays listed, in the ERROR state, until it is terminated.
+     */
+    void setErrorInfo(@NotNull CloudErrorInfo errorInfo) {
+        _errorInfo = errorInfo;
     }
 
     void restart() {
@@ -35,35 +102,225 @@ public class XenServerCloudInstance implements CloudInstance {
         }
     }
 
-    void stop() {
-        try {
-            _vm.hardShutdown(_connection);
-            Set<VBD> vbds = _vm.getVBDs(_connection);
-            for (VBD vbd : vbds) {
-                try {
-                    vbd.getVDI(_connection).destroy(_connection);
+    /**
+     * Shuts the VM down and destroys it together with its snapshots, handing all their disks to the storage
+     * collector. Every step runs as a server task, the VM and its snapshots being destroyed in parallel.
+     */
+    @NotNull
+    CompletableFuture<Void> stopAsync(@NotNull final XenServerStorageCollector collector) {
+        final VM vm;
+        synchronized (this) {
+            _stopped = true;
+            _inventory.removePending(this);
+            // still cloning: the clone is discarded when it is attached
+            if (_vm == null)
+                return CompletableFuture.completedFuture(null);
+            vm = _vm;
+        }
+        _inventory.stopping(vm);
+        return shutdownAsync(vm).thenCompose(new Function<Void, CompletableFuture<Map<VM, List<VDI>>>>() {
+            public CompletableFuture<Map<VM, List<VDI>>> apply(Void ignored) {
+                return _connection.submit(new Connection.Call<Map<VM, List<VDI>>>() {
+                    public Map<VM, List<VDI>> call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                        Map<VM, List<VDI>> disks = new HashMap<VM, List<VDI>>();
+                        disks.put(vm, getDisks(c, vm));
+                        for (VM snapshot : vm.getSnapshots(c)) {
+                            disks.put(snapshot, getDisks(c, snapshot));
+                        }
+                        return disks;
+                    }
+                });
+            }
+        }).thenCompose(new Function<Map<VM, List<VDI>>, CompletableFuture<Void>>() {
+            public CompletableFuture<Void> apply(final Map<VM, List<VDI>> disks) {
+                List<CompletableFuture<Void>> destroyed = new ArrayList<CompletableFuture<Void>>();
+                for (final VM owner : disks.keySet()) {
+                    destroyed.add(runTask(new Connection.Call<Task>() {
+                        public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                            return owner.destroyAsync(c);
+                        }
+                    }));
+                }
+                return allOf(destroyed).thenCompose(new Function<Void, CompletableFuture<Void>>() {
+                    public CompletableFuture<Void> apply(Void ignored) {
+                        _inventory.removeVm(vm);
+                        List<VDI> orphaned = new ArrayList<VDI>();
+                        for (List<VDI> owned : disks.values()) {
+                            orphaned.addAll(owned);
+                        }
+                        return collector.collect(_connection, orphaned);
+                    }
+                });
+            }
+        });
+    }
 
-                } catch (Exception ignored) {
+    /**
+     * Shuts the VM down and hands it back to the image's warm pool under a fresh name, to be started again by a
+     * later instance. Only VMs whose disks all reset on boot, and so start as clean as a new clone, are recycled;
+     * any other VM is destroyed as by stopAsync.
+     */
+    @NotNull
+    CompletableFuture<Void> recycleAsync(@NotNull final XenServerStorageCollector collector) {
+        final VM vm = _vm;
+        if (vm == null || _inventory.isBooting(vm))
+            return stopAsync(collector);
+        final String imageId = getImageId();
+        _inventory.stopping(vm);
+        return _connection.submit(new Connection.Call<Boolean>() {
+            public Boolean call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                for (VDI disk : getDisks(c, vm)) {
+                    if (disk.getOnBoot(c) != Types.OnBoot.RESET)
+                        return false;
                 }
-                try {
-                    vbd.destroy(_connection);
-                } catch (Exception ignored) {
+                return true;
+            }
+        }).thenCompose(new Function<Boolean, CompletableFuture<Void>>() {
+            public CompletableFuture<Void> apply(Boolean resetsOnBoot) {
+                if (!resetsOnBoot)
+                    return stopAsync(collector);
+                _inventory.removePending(XenServerCloudInstance.this);
+                return shutdownAsync(vm).thenCompose(new Function<Void, CompletableFuture<Void>>() {
+                    public CompletableFuture<Void> apply(Void ignored) {
+                        return returnToPoolAsync(vm, imageId);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Takes the snapshot revertAsync returns the VM to, unless the VM has one already. It is meant to be taken
+     * once the instance's agent has registered, so every later run starts with an agent that is already registered.
+     */
+    @NotNull
+    CompletableFuture<Void> snapshotAsync() {
+        final VM vm = _vm;
+        VM.LazyRecord record = vm == null ? null : _inventory.getVm(vm);
+        if (record == null || (record.getSnapshots() != null && !record.getSnapshots().isEmpty()))
+            return CompletableFuture.completedFuture(null);
+        return runTask(new Connection.Call<Task>() {
+            public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                return vm.snapshotAsync(c, CLEAN_SNAPSHOT_NAME);
+            }
+        }).thenCompose(new Function<Void, CompletableFuture<Void>>() {
+            public CompletableFuture<Void> apply(Void snapshotted) {
+                return _connection.submit(new Connection.Call<Void>() {
+                    public Void call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                        // so a lookup before the VM's event arrives does not snapshot it again
+                        _inventory.updateVm(vm, vm.getRecord(c));
+                        return null;
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Shuts the VM down, reverts it to its clean snapshot and hands it back to the image's warm pool under a
+     * fresh name. A VM without a clean snapshot, whose agent never registered, is destroyed as by stopAsync.
+     */
+    @NotNull
+    CompletableFuture<Void> revertAsync(@NotNull final XenServerStorageCollector collector) {
+        final VM vm = _vm;
+        if (vm == null || _inventory.isBooting(vm))
+            return stopAsync(collector);
+        final String imageId = getImageId();
+        _inventory.stopping(vm);
+        return _connection.submit(new Connection.Call<VM>() {
+            public VM call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                for (VM snapshot : vm.getSnapshots(c)) {
+                    if (CLEAN_SNAPSHOT_NAME.equals(snapshot.getNameLabel(c)))
+                        return snapshot;
                 }
+                return null;
             }
+        }).thenCompose(new Function<VM, CompletableFuture<Void>>() {
+            public CompletableFuture<Void> apply(final VM clean) {
+                if (clean == null)
+                    return stopAsync(collector);
+                _inventory.removePending(XenServerCloudInstance.this);
+                return shutdownAsync(vm).thenCompose(new Function<Void, CompletableFuture<Void>>() {
+                    public CompletableFuture<Void> apply(Void ignored) {
+                        return runTask(new Connection.Call<Task>() {
+                            public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                                return clean.revertAsync(c);
+                            }
+                        });
+                    }
+                }).thenCompose(new Function<Void, CompletableFuture<Void>>() {
+                    public CompletableFuture<Void> apply(Void ignored) {
+                        return returnToPoolAsync(vm, imageId);
+                    }
+                });
+            }
+        });
+    }
 
-            _vm.destroy(_connection);
-        } catch (Types.XenAPIException e) {
-            e.printStackTrace();
-        } catch (XmlRpcException e) {
-            e.printStackTrace();
+    private CompletableFuture<Void> shutdownAsync(final VM vm) {
+        final VM.LazyRecord record = _inventory.getVm(vm);
+        if (record != null && record.getPowerState() == Types.VmPowerState.HALTED)
+            return CompletableFuture.completedFuture(null);
+        return runTask(new Connection.Call<Task>() {
+            public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                // VMs the inventory does not hold, such as clones still flagged as templates, are checked first
+                if (record == null && vm.getPowerState(c) == Types.VmPowerState.HALTED)
+                    return null;
+                return vm.hardShutdownAsync(c);
+            }
+        });
+    }
+
+    /**
+     * Renames and retags a halted VM so the image's warm pool hands it out again.
+     */
+    private CompletableFuture<Void> returnToPoolAsync(final VM vm, final String imageId) {
+        return _connection.submit(new Connection.Call<Void>() {
+            public Void call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                vm.setNameLabel(c, newVmName(imageId));
+                HashSet<String> tags = new HashSet<String>();
+                tags.add(XenServerWarmPool.WARM_TAG_PREFIX + imageId);
+                vm.setTags(c, tags);
+                _inventory.updateVm(vm, vm.getRecord(c));
+                _inventory.stopCompleted(vm);
+                return null;
+            }
+        });
+    }
+
+    private CompletableFuture<Void> runTask(Connection.Call<Task> call) {
+        return _inventory.runTask(_connection, call);
+    }
+
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * The virtual disks of the VM, leaving out its CD and floppy drives.
+     */
+    @NotNull
+    static List<VDI> getDisks(@NotNull Connection connection, @NotNull VM vm) throws Types.XenAPIException, XmlRpcException {
+        List<VDI> disks = new ArrayList<VDI>();
+        for (VBD vbd : vm.getVBDs(connection)) {
+            VBD.Record record = vbd.getRecord(connection);
+            if (record.type == Types.VbdType.DISK && record.VDI != null && !record.VDI.isNull())
+                disks.add(record.VDI);
         }
+        return disks;
     }
 
     @NotNull
     @Override
     public String getInstanceId() {
+        if (_name != null)
+            return _name;
         try {
-            return _vm.getUuid(_connection);
+            VM.LazyRecord record = _inventory.getVm(_vm);
+            String name = record != null ? record.getNameLabel() : _vm.getNameLabel(_connection);
+            if (isLegacyVmName(name))
+                return record != null ? record.getUuid() : _vm.getUuid(_connection);
+            return name;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -73,7 +330,7 @@ public class XenServerCloudInstance implements CloudInstance {
     @Override
     public String getName() {
         try {
-            return "buildagent_" + getNetworkIdentity();
+            return AGENT_NAME_PREFIX + getNetworkIdentity();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -82,8 +339,12 @@ public class XenServerCloudInstance implements CloudInstance {
     @NotNull
     @Override
     public String getImageId() {
+        if (_imageId != null)
+            return _imageId;
         try {
-            return (String) _vm.getTags(_connection).toArray()[0];
+            VM.LazyRecord record = _inventory.getVm(_vm);
+            Set<String> tags = record != null ? record.getTags() : _vm.getTags(_connection);
+            return (String) tags.toArray()[0];
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -93,7 +354,8 @@ public class XenServerCloudInstance implements CloudInstance {
     @Override
     public CloudImage getImage() {
         try {
-            return new XenServerCloudImage(_connection, VM.getByUuid(_connection, getImageId()));
+            String imageId = getImageId();
+            return new XenServerCloudImage(_connection, _inventory, VM.getByUuid(_connection, imageId), imageId);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -108,24 +370,8 @@ public class XenServerCloudInstance implements CloudInstance {
     @Nullable
     @Override
     public String getNetworkIdentity() {
-        try {
-            VMGuestMetrics metrics = _vm.getGuestMetrics(_connection);
-            Map<String, String> networks = metrics.getNetworks(_connection);
-            try {
-                PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter("D:\\agent.txt", true)));
-                for (String s : networks.keySet()) {
-                    out.println(s + ": " + networks.get(s));
-                }
-
-                out.close();
-            } catch (Exception e) {
-            }
-            String key = (String) networks.keySet().toArray()[0];
-            return networks.get(key);
-
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        VM vm = _vm;
+        return vm == null ? null : _inventory.getAddress(vm);
     }
 
     private static HashSet<String> _runningVms = new HashSet<String>();
@@ -133,34 +379,39 @@ public class XenServerCloudInstance implements CloudInstance {
     @NotNull
     @Override
     public InstanceStatus getStatus() {
-        try {
-            if(!_runningVms.contains(_vm.getUuid(_connection))){
-                _runningVms.add(_vm.getUuid(_connection));
-                return InstanceStatus.STARTING;
-            }
-
-            Types.VmPowerState powerState = _vm.getPowerState(_connection);
-            if (powerState == Types.VmPowerState.RUNNING)
-                return InstanceStatus.RUNNING;
+        if (_errorInfo != null)
+            return InstanceStatus.ERROR;
+        VM vm = _vm;
+        if (vm == null)
+            return InstanceStatus.STARTING;
+        if (_inventory.isStopping(vm))
+            return InstanceStatus.STOPPING;
+        if (_inventory.isBooting(vm))
+            return InstanceStatus.STARTING;
+        // an attached VM is in the inventory before it boots, so one missing from it has been destroyed
+        VM.LazyRecord record = _inventory.getVm(vm);
+        if (record == null)
             return InstanceStatus.STOPPED;
-        } catch (Types.XenAPIException e) {
-            e.printStackTrace();
-        } catch (XmlRpcException e) {
-            e.printStackTrace();
+        if(!_runningVms.contains(record.getUuid())){
+            _runningVms.add(record.getUuid());
+            return InstanceStatus.STARTING;
         }
+
+        if (record.getPowerState() == Types.VmPowerState.RUNNING)
+            return InstanceStatus.RUNNING;
         return InstanceStatus.STOPPED;
     }
 
     @Nullable
     @Override
     public CloudErrorInfo getErrorInfo() {
-        return null;
+        return _errorInfo;
     }
 
     @Override
     public boolean containsAgent(@NotNull AgentDescription agentDescription) {
         try {
-            String currentAgentName = "buildagent_" + getNetworkIdentity();
+            String currentAgentName = AGENT_NAME_PREFIX + getNetworkIdentity();
             String agentName = agentDescription.toString().split(" ")[0];
 
             return currentAgentName.equals(agentName);
@@ -9,6 +9,36 @@ public interface XenServerCloudParameters {
     String USER_NAME = "clouds.xenserver.userName";
     String PASSWORD = "clouds.xenserver.password";
     String TEMPLATE = "clouds.xenserver.template";
+    String MAX_CONNECTIONS = "clouds.xenserver.maxConnections";
+    String PROTOCOL = "clouds.xenserver.protocol";
+    String WARM_POOL_SIZE = "clouds.xenserver.warmPoolSize";
+    String WARM_POOL_MODE = "clouds.xenserver.warmPoolMode";
+    String TERMINATE_MODE = "clouds.xenserver.terminateMode";
+    String DESTROYS_PER_SR = "clouds.xenserver.destroysPerSR";
+    String SCAN_AFTER_DESTROY = "clouds.xenserver.scanAfterDestroy";
+    String ORPHAN_RUNNING_GRACE = "clouds.xenserver.orphanRunningGrace";
+    String ORPHAN_HALTED_GRACE = "clouds.xenserver.orphanHaltedGrace";
+    String MAX_INSTANCES = "clouds.xenserver.maxInstances";
+    String PLACEMENT = "clouds.xenserver.placement";
+
+    String PROTOCOL_JSON_RPC = "json-rpc";
+    String PROTOCOL_XML_RPC = "xml-rpc";
+
+    String WARM_POOL_HALTED = "halted";
+    String WARM_POOL_SUSPENDED = "suspended";
+
+    String TERMINATE_DESTROY = "destroy";
+    String TERMINATE_RECYCLE = "recycle";
+    String TERMINATE_REVERT = "revert";
+
+    String PLACEMENT_SERVER = "server";
+    String PLACEMENT_SPREAD = "spread";
+    String PLACEMENT_PACK = "pack";
+    String PLACEMENT_LEAST_LOADED = "leastLoaded";
+
+    int DEFAULT_DESTROYS_PER_SR = 2;
+    int DEFAULT_ORPHAN_RUNNING_GRACE = 30;
+    int DEFAULT_ORPHAN_HALTED_GRACE = 10;
 
     String AGENT_CLOUD_TYPE = "agent.cloud.type";
 }
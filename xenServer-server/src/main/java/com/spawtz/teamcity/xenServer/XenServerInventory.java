@@ -0,0 +1,513 @@
+package com.spawtz.teamcity.xenServer;
+
+import com.xensource.xenapi.*;
+import org.apache.xmlrpc.XmlRpcException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * In-memory copy of the guest VM, guest metrics, host and task records of a pool. It is loaded with one
+ * getAllRecords call per class, the VMs being filtered on the server, and then kept current by a background
+ * thread long-polling event.from, so the cloud image and instance objects can answer TeamCity's polls without
+ * calling the server. It also holds the instances still being provisioned and completes the waits on the tasks
+ * of asynchronous calls.
+ */
+public class XenServerInventory {
+    private static final Set<String> CLASSES = new HashSet<String>(Arrays.asList("vm", "vm_guest_metrics", "host", "task"));
+    private static final double EVENT_TIMEOUT_SECONDS = 30;
+    private static final long RETRY_DELAY_MILLIS = 5000;
+    private static final long SNAPSHOT_WAIT_SECONDS = 60;
+    private static final String GUEST_VMS = "field \"is_a_template\"=\"false\" and field \"is_control_domain\"=\"false\"";
+
+    private final XenServerSessionManager _sessionManager;
+    private final CountDownLatch _loaded = new CountDownLatch(1);
+    private volatile Map<VM, VM.LazyRecord> _vms = new ConcurrentHashMap<VM, VM.LazyRecord>();
+    private volatile Map<VMGuestMetrics, VMGuestMetrics.Record> _guestMetrics = new ConcurrentHashMap<VMGuestMetrics, VMGuestMetrics.Record>();
+    private volatile Map<Host, Host.LazyRecord> _hosts = new ConcurrentHashMap<Host, Host.LazyRecord>();
+    private volatile Map<Task, Task.Record> _tasks = new ConcurrentHashMap<Task, Task.Record>();
+    private final ConcurrentMap<String, VM> _vmsByAddress = new ConcurrentHashMap<String, VM>();
+    private final ConcurrentMap<VM, String> _addresses = new ConcurrentHashMap<VM, String>();
+    private final ConcurrentMap<VMGuestMetrics, VM> _vmsByGuestMetrics = new ConcurrentHashMap<VMGuestMetrics, VM>();
+    private final Set<VM> _booting = ConcurrentHashMap.<VM>newKeySet();
+    private final Set<VM> _stopping = ConcurrentHashMap.<VM>newKeySet();
+    private volatile ConcurrentMap<String, Set<VM>> _instancesByImage = new ConcurrentHashMap<String, Set<VM>>();
+    private final ConcurrentMap<String, XenServerCloudInstance> _pending = new ConcurrentHashMap<String, XenServerCloudInstance>();
+    private final ConcurrentMap<Task, CompletableFuture<Task.Record>> _taskWaiters = new ConcurrentHashMap<Task, CompletableFuture<Task.Record>>();
+    private final ConcurrentMap<VM, CompletableFuture<String>> _addressWaiters = new ConcurrentHashMap<VM, CompletableFuture<String>>();
+    private Thread _thread;
+    private volatile boolean _disposed;
+
+    XenServerInventory(@NotNull XenServerSessionManager sessionManager) {
+        _sessionManager = sessionManager;
+    }
+
+    /**
+     * The records of the guest VMs of the pool. Templates and control domains are left out, except for the clones
+     * this profile is still booting.
+     */
+    @NotNull
+    Map<VM, VM.LazyRecord> getVms() {
+        awaitSnapshot();
+        return Collections.unmodifiableMap(_vms);
+    }
+
+    @Nullable
+    VM.LazyRecord getVm(@NotNull VM vm) {
+        awaitSnapshot();
+        return _vms.get(vm);
+    }
+
+    /**
+     * The VMs tagged with the UUID of the given image, that is the instances cloned from it.
+     */
+    @NotNull
+    Set<VM> getInstances(@NotNull String imageId) {
+        awaitSnapshot();
+        Set<VM> instances = _instancesByImage.get(imageId);
+        return instances == null ? Collections.<VM>emptySet() : Collections.unmodifiableSet(instances);
+    }
+
+    /**
+     * Records a VM just cloned from the image, before its events arrive. It counts as booting until
+     * bootCompleted() is called.
+     */
+    synchronized void addInstance(@NotNull String imageId, @NotNull VM vm, @NotNull VM.Record record) {
+        if (!_vms.containsKey(vm))
+            _vms.put(vm, VM.LazyRecord.of(record));
+        instancesOf(_instancesByImage, imageId).add(vm);
+        _booting.add(vm);
+    }
+
+    /**
+     * Records the current state of a VM this profile has just changed, before its events arrive.
+     */
+    synchronized void updateVm(@NotNull VM vm, @NotNull VM.Record record) {
+        putVm(vm, VM.LazyRecord.of(record));
+    }
+
+    /**
+     * Marks a VM this profile is configuring or booting outside of an instance start, such as a warm clone, until
+     * bootCompleted() is called.
+     */
+    void booting(@NotNull VM vm) {
+        _booting.add(vm);
+    }
+
+    void bootCompleted(@NotNull VM vm) {
+        _booting.remove(vm);
+    }
+
+    /**
+     * Whether the VM was cloned by this profile and is still being configured and started.
+     */
+    boolean isBooting(@NotNull VM vm) {
+        return _booting.contains(vm);
+    }
+
+    /**
+     * Marks a VM as being torn down, until stopCompleted() or removeVm() is called.
+     */
+    void stopping(@NotNull VM vm) {
+        _stopping.add(vm);
+    }
+
+    void stopCompleted(@NotNull VM vm) {
+        _stopping.remove(vm);
+    }
+
+    boolean isStopping(@NotNull VM vm) {
+        return _stopping.contains(vm);
+    }
+
+    /**
+     * Forgets a VM just destroyed, before its events arrive.
+     */
+    synchronized void removeVm(@NotNull VM vm) {
+        _booting.remove(vm);
+        _stopping.remove(vm);
+        putVm(vm, null);
+    }
+
+    /**
+     * Registers an instance that is still being provisioned, so its image lists it before its VM exists.
+     */
+    void addPending(@NotNull XenServerCloudInstance instance) {
+        _pending.put(instance.getInstanceId(), instance);
+    }
+
+    void removePending(@NotNull XenServerCloudInstance instance) {
+        _pending.remove(instance.getInstanceId(), instance);
+    }
+
+    /**
+     * The instance being provisioned under the given instance ID, the name label of its VM.
+     */
+    @Nullable
+    XenServerCloudInstance getPending(@NotNull String instanceId) {
+        return _pending.get(instanceId);
+    }
+
+    /**
+     * The instances of the given image that are still being provisioned.
+     */
+    @NotNull
+    Collection<XenServerCloudInstance> getPendingInstances(@NotNull String imageId) {
+        List<XenServerCloudInstance> instances = new ArrayList<XenServerCloudInstance>();
+        for (XenServerCloudInstance instance : _pending.values()) {
+            if (imageId.equals(instance.getImageId()))
+                instances.add(instance);
+        }
+        return instances;
+    }
+
+    /**
+     * Returns a future completed with the record of the task once it has finished, after which the task is
+     * destroyed. It fails with the error the call would have thrown when the task fails, and with a BadAsyncResult
+     * when it is cancelled or destroyed.
+     */
+    @NotNull
+    CompletableFuture<Task.Record> awaitTask(@NotNull final Connection connection, @NotNull final Task task) {
+        return awaitTask(task).whenComplete(new BiConsumer<Task.Record, Throwable>() {
+            public void accept(Task.Record record, Throwable e) {
+                connection.submit(new Connection.Call<Void>() {
+                    public Void call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                        task.destroy(c);
+                        return null;
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Makes an asynchronous call and waits for its task to finish. A call that returns no task, having found
+     * nothing to do, completes at once.
+     */
+    @NotNull
+    CompletableFuture<Void> runTask(@NotNull final Connection connection, @NotNull Connection.Call<Task> call) {
+        return connection.submit(call).thenCompose(new Function<Task, CompletableFuture<Task.Record>>() {
+            public CompletableFuture<Task.Record> apply(Task task) {
+                return task == null ? CompletableFuture.<Task.Record>completedFuture(null) : awaitTask(connection, task);
+            }
+        }).thenApply(new Function<Task.Record, Void>() {
+            public Void apply(Task.Record finished) {
+                return null;
+            }
+        });
+    }
+
+    private CompletableFuture<Task.Record> awaitTask(Task task) {
+        awaitSnapshot();
+        CompletableFuture<Task.Record> future = new CompletableFuture<Task.Record>();
+        CompletableFuture<Task.Record> existing = _taskWaiters.putIfAbsent(task, future);
+        if (existing != null)
+            return existing;
+        // the task may have finished before the waiter was registered
+        taskChanged(task, _tasks.get(task), false);
+        return future;
+    }
+
+    /**
+     * The IP address the VM's agent registers with, the first network its guest agent reports.
+     */
+    @Nullable
+    String getAddress(@NotNull VM vm) {
+        awaitSnapshot();
+        return _addresses.get(vm);
+    }
+
+    /**
+     * Returns a future completed with the VM's address once its guest agent reports one, which is when it has
+     * booted far enough to run the build agent. It fails if the VM is destroyed first.
+     */
+    @NotNull
+    CompletableFuture<String> awaitAddress(@NotNull VM vm) {
+        awaitSnapshot();
+        CompletableFuture<String> future = new CompletableFuture<String>();
+        CompletableFuture<String> existing = _addressWaiters.putIfAbsent(vm, future);
+        if (existing != null)
+            return existing;
+        String address = _addresses.get(vm);
+        if (address != null && _addressWaiters.remove(vm, future))
+            future.complete(address);
+        return future;
+    }
+
+    /**
+     * The VM whose agent registered with the given IP address or agent name.
+     */
+    @Nullable
+    VM findVmByAgent(@NotNull String agentNameOrAddress) {
+        awaitSnapshot();
+        VM vm = _vmsByAddress.get(agentNameOrAddress);
+        if (vm == null && agentNameOrAddress.startsWith(XenServerCloudInstance.AGENT_NAME_PREFIX))
+            vm = _vmsByAddress.get(agentNameOrAddress.substring(XenServerCloudInstance.AGENT_NAME_PREFIX.length()));
+        return vm;
+    }
+
+    @Nullable
+    VMGuestMetrics.Record getGuestMetrics(@Nullable VMGuestMetrics metrics) {
+        awaitSnapshot();
+        return metrics == null ? null : _guestMetrics.get(metrics);
+    }
+
+    @NotNull
+    Map<Host, Host.LazyRecord> getHosts() {
+        awaitSnapshot();
+        return Collections.unmodifiableMap(_hosts);
+    }
+
+    @Nullable
+    Host.LazyRecord getHost(@Nullable Host host) {
+        awaitSnapshot();
+        return host == null ? null : _hosts.get(host);
+    }
+
+    @Nullable
+    Task.Record getTask(@Nullable Task task) {
+        awaitSnapshot();
+        return task == null ? null : _tasks.get(task);
+    }
+
+    /**
+     * Stops the event thread. The records already loaded stay readable.
+     */
+    synchronized void dispose() {
+        _disposed = true;
+        if (_thread != null) {
+            _thread.interrupt();
+            _thread = null;
+        }
+        for (Task task : _taskWaiters.keySet()) {
+            CompletableFuture<Task.Record> future = _taskWaiters.remove(task);
+            if (future != null)
+                future.completeExceptionally(new IllegalStateException("The inventory has been disposed"));
+        }
+        for (VM vm : _addressWaiters.keySet()) {
+            CompletableFuture<String> future = _addressWaiters.remove(vm);
+            if (future != null)
+                future.completeExceptionally(new IllegalStateException("The inventory has been disposed"));
+        }
+    }
+
+    /**
+     * Starts the event thread on first use and waits for it to load the first snapshot.
+     */
+    private void awaitSnapshot() {
+        if (_loaded.getCount() == 0)
+            return;
+        synchronized (this) {
+            if (_thread == null && !_disposed) {
+                _thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        watch();
+                    }
+                }, "XenServer inventory");
+                _thread.setDaemon(true);
+                _thread.start();
+            }
+        }
+        try {
+            _loaded.await(SNAPSHOT_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void watch() {
+        String token = null;
+        while (!_disposed) {
+            try {
+                Connection connection = _sessionManager.getConnection();
+                if (token == null) {
+                    token = load(connection);
+                    _loaded.countDown();
+                    for (Task task : _taskWaiters.keySet()) {
+                        taskChanged(task, _tasks.get(task), false);
+                    }
+                }
+                EventBatch batch = Event.from(connection, CLASSES, token, EVENT_TIMEOUT_SECONDS);
+                for (Event.Record event : batch.events) {
+                    apply(event);
+                }
+                token = batch.token;
+            } catch (Types.EventsLost e) {
+                token = null;
+            } catch (Exception e) {
+                if (_disposed)
+                    return;
+                e.printStackTrace();
+                // stop callers from waiting for a snapshot that cannot be loaded; they see no records until it is
+                _loaded.countDown();
+                token = null;
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                } catch (InterruptedException ignored) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the records with a fresh snapshot and returns the event token to continue from. The token is
+     * taken before the snapshot, so changes made while it loads are replayed rather than missed.
+     */
+    private String load(Connection connection) throws Types.XenAPIException, XmlRpcException {
+        String token = Event.from(connection, Collections.<String>emptySet(), "", 0.0).token;
+        Map<VM, VM.LazyRecord> vms = new ConcurrentHashMap<VM, VM.LazyRecord>(VM.getAllLazyRecordsWhere(connection, GUEST_VMS));
+        ConcurrentMap<String, Set<VM>> instancesByImage = new ConcurrentHashMap<String, Set<VM>>();
+        for (Map.Entry<VM, VM.LazyRecord> vm : vms.entrySet()) {
+            index(instancesByImage, vm.getKey(), null, vm.getValue());
+        }
+        Map<VMGuestMetrics, VMGuestMetrics.Record> guestMetrics = new ConcurrentHashMap<VMGuestMetrics, VMGuestMetrics.Record>(VMGuestMetrics.getAllRecords(connection));
+        synchronized (this) {
+            _vms = vms;
+            _instancesByImage = instancesByImage;
+            _guestMetrics = guestMetrics;
+            _vmsByGuestMetrics.clear();
+            _vmsByAddress.clear();
+            _addresses.clear();
+            for (Map.Entry<VM, VM.LazyRecord> vm : vms.entrySet()) {
+                if (vm.getValue().getGuestMetrics() != null && !vm.getValue().getGuestMetrics().isNull())
+                    _vmsByGuestMetrics.put(vm.getValue().getGuestMetrics(), vm.getKey());
+                indexAddress(vm.getKey(), vm.getValue());
+            }
+        }
+        _hosts = new ConcurrentHashMap<Host, Host.LazyRecord>(Host.getAllLazyRecords(connection));
+        _tasks = new ConcurrentHashMap<Task, Task.Record>(Task.getAllRecords(connection));
+        return token;
+    }
+
+    private synchronized void apply(Event.Record event) {
+        boolean deleted = event.operation == Types.EventOperation.DEL || event.snapshot == null;
+        if ("vm".equals(event.clazz)) {
+            VM vm = Types.toVM(event.ref);
+            VM.LazyRecord current = deleted ? null : VM.LazyRecord.of((VM.Record) event.snapshot);
+            if (current != null && !_booting.contains(vm)
+                    && (Boolean.TRUE.equals(current.getIsATemplate()) || Boolean.TRUE.equals(current.getIsControlDomain())))
+                current = null;
+            putVm(vm, current);
+        } else if ("vm_guest_metrics".equals(event.clazz)) {
+            VMGuestMetrics metrics = Types.toVMGuestMetrics(event.ref);
+            update(_guestMetrics, metrics, (VMGuestMetrics.Record) event.snapshot, deleted);
+            VM vm = _vmsByGuestMetrics.get(metrics);
+            if (vm != null)
+                indexAddress(vm, _vms.get(vm));
+        } else if ("host".equals(event.clazz)) {
+            update(_hosts, Types.toHost(event.ref), Host.LazyRecord.of((Host.Record) event.snapshot), deleted);
+        } else if ("task".equals(event.clazz)) {
+            Task task = Types.toTask(event.ref);
+            update(_tasks, task, (Task.Record) event.snapshot, deleted);
+            taskChanged(task, (Task.Record) event.snapshot, deleted);
+        }
+    }
+
+    /**
+     * Replaces the record of the VM, or removes the VM when current is null, and reindexes it.
+     */
+    private void putVm(VM vm, @Nullable VM.LazyRecord current) {
+        VM.LazyRecord previous = current == null ? _vms.remove(vm) : _vms.put(vm, current);
+        index(_instancesByImage, vm, previous, current);
+        if (previous != null && previous.getGuestMetrics() != null)
+            _vmsByGuestMetrics.remove(previous.getGuestMetrics());
+        if (current != null && current.getGuestMetrics() != null && !current.getGuestMetrics().isNull())
+            _vmsByGuestMetrics.put(current.getGuestMetrics(), vm);
+        indexAddress(vm, current);
+    }
+
+    /**
+     * Completes the wait on the task, if there is one, once the task has finished.
+     */
+    private void taskChanged(Task task, @Nullable Task.Record record, boolean deleted) {
+        CompletableFuture<Task.Record> future = _taskWaiters.get(task);
+        if (future == null || (!deleted && (record == null || record.status == Types.TaskStatusType.PENDING
+                || record.status == Types.TaskStatusType.CANCELLING)))
+            return;
+        _taskWaiters.remove(task, future);
+        if (deleted) {
+            future.completeExceptionally(new Types.BadAsyncResult("Task " + task.toWireString() + " was destroyed before it finished"));
+            return;
+        }
+        if (record.status == Types.TaskStatusType.SUCCESS) {
+            future.complete(record);
+            return;
+        }
+        try {
+            // throws the error of the failed or cancelled task
+            Types.toAsyncResult(record);
+        } catch (Types.XenAPIException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Moves the VM between the instance sets of the images its old and new tags name.
+     */
+    private static void index(ConcurrentMap<String, Set<VM>> instancesByImage, VM vm, @Nullable VM.LazyRecord previous, @Nullable VM.LazyRecord current) {
+        Set<String> tags = current == null || current.getTags() == null || Boolean.TRUE.equals(current.getIsATemplate())
+                ? Collections.<String>emptySet() : current.getTags();
+        if (current == null) {
+            for (Set<VM> instances : instancesByImage.values()) {
+                instances.remove(vm);
+            }
+        } else if (previous != null && previous.getTags() != null) {
+            for (String tag : previous.getTags()) {
+                Set<VM> instances = instancesByImage.get(tag);
+                if (instances != null && !tags.contains(tag))
+                    instances.remove(vm);
+            }
+        }
+        for (String tag : tags) {
+            instancesOf(instancesByImage, tag).add(vm);
+        }
+    }
+
+    /**
+     * Points the VM's current address, if its guest agent reports one, at the VM.
+     */
+    private void indexAddress(VM vm, @Nullable VM.LazyRecord record) {
+        String address = null;
+        VMGuestMetrics.Record metrics = record == null || record.getGuestMetrics() == null ? null : _guestMetrics.get(record.getGuestMetrics());
+        if (metrics != null && metrics.networks != null && !metrics.networks.isEmpty())
+            address = metrics.networks.values().iterator().next();
+        String previous = address == null ? _addresses.remove(vm) : _addresses.put(vm, address);
+        if (previous != null && !previous.equals(address))
+            _vmsByAddress.remove(previous, vm);
+        if (address != null)
+            _vmsByAddress.put(address, vm);
+        CompletableFuture<String> waiter = address != null || record == null ? _addressWaiters.remove(vm) : null;
+        if (waiter != null && address != null)
+            waiter.complete(address);
+        else if (waiter != null)
+            waiter.completeExceptionally(new Types.BadAsyncResult("VM " + vm.toWireString() + " was destroyed before it reported an address"));
+    }
+
+    private static Set<VM> instancesOf(ConcurrentMap<String, Set<VM>> instancesByImage, String imageId) {
+        Set<VM> instances = instancesByImage.get(imageId);
+        if (instances == null) {
+            Set<VM> created = ConcurrentHashMap.<VM>newKeySet();
+            instances = instancesByImage.putIfAbsent(imageId, created);
+            if (instances == null)
+                instances = created;
+        }
+        return instances;
+    }
+
+    private static <K, V> void update(Map<K, V> records, K ref, V record, boolean deleted) {
+        if (deleted)
+            records.remove(ref);
+        else
+            records.put(ref, record);
+    }
+}
@@ -0,0 +1,159 @@
+package com.spawtz.teamcity.xenServer;
+
+import com.xensource.xenapi.*;
+import jetbrains.buildServer.serverSide.BuildAgentManager;
+import jetbrains.buildServer.serverSide.SBuildAgent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Periodically reclaims the VMs of an image that the profile owns but no longer uses, such as those left behind
+ * by a server restart or by a start that failed halfway:
+ * <ul>
+ * <li>running instances and warm clones no registered or unregistered agent matches, after the running grace period;</li>
+ * <li>halted or suspended instances, and clones of the image still flagged as templates, after the halted grace
+ * period.</li>
+ * </ul>
+ * VMs being provisioned, booted, warmed up or torn down are left alone, as are those with operations in progress.
+ * A VM must stay a suspect for its whole grace period, so one that recovers in time is kept. A grace period of 0
+ * turns its kind of reclaiming off.
+ */
+public class XenServerOrphanReaper {
+    private static final long PERIOD_SECONDS = 60;
+    private static final RecordProjection CLONES = new RecordProjection("VM", "name_label", "current_operations");
+    private static final String UNFINISHED_CLONES = "field \"is_a_template\"=\"true\" and field \"is_a_snapshot\"=\"false\"";
+
+    private final XenServerSessionManager _sessionManager;
+    private final XenServerInventory _inventory;
+    private final BuildAgentManager _agentManager;
+    private final String _imageId;
+    private final long _runningGraceMillis;
+    private final long _haltedGraceMillis;
+    private final Consumer<XenServerCloudInstance> _reclaim;
+    private final Map<VM, Long> _suspects = new HashMap<VM, Long>();
+    private ScheduledExecutorService _executor;
+
+    /**
+     * @param reclaim tears down the instance of an orphaned VM
+     */
+    XenServerOrphanReaper(@NotNull XenServerSessionManager sessionManager, @NotNull XenServerInventory inventory, @NotNull BuildAgentManager agentManager,
+                          @NotNull String imageId, int runningGraceMinutes, int haltedGraceMinutes, @NotNull Consumer<XenServerCloudInstance> reclaim) {
+        _sessionManager = sessionManager;
+        _inventory = inventory;
+        _agentManager = agentManager;
+        _imageId = imageId;
+        _runningGraceMillis = TimeUnit.MINUTES.toMillis(runningGraceMinutes);
+        _haltedGraceMillis = TimeUnit.MINUTES.toMillis(haltedGraceMinutes);
+        _reclaim = reclaim;
+    }
+
+    synchronized void start() {
+        if (_executor != null || (_runningGraceMillis <= 0 && _haltedGraceMillis <= 0))
+            return;
+        _executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "XenServer orphan reaper");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        _executor.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                try {
+                    reap();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        }, PERIOD_SECONDS, PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    synchronized void dispose() {
+        if (_executor != null) {
+            _executor.shutdownNow();
+            _executor = null;
+        }
+    }
+
+    private void reap() throws Types.XenAPIException, org.apache.xmlrpc.XmlRpcException {
+        Connection connection = _sessionManager.getConnection();
+        Set<String> agents = new HashSet<String>();
+        for (SBuildAgent agent : _agentManager.<SBuildAgent>getRegisteredAgents()) {
+            agents.add(agent.getName());
+            agents.add(agent.getHostAddress());
+        }
+        for (SBuildAgent agent : _agentManager.<SBuildAgent>getUnregisteredAgents()) {
+            agents.add(agent.getName());
+            agents.add(agent.getHostAddress());
+        }
+
+        Map<VM, Long> graces = new HashMap<VM, Long>();
+        for (VM vm : _inventory.getInstances(_imageId)) {
+            VM.LazyRecord record = _inventory.getVm(vm);
+            if (record == null || isBusy(vm, record))
+                continue;
+            if (isUp(record))
+                graces.put(vm, hasAgent(vm, agents) ? null : _runningGraceMillis);
+            else
+                graces.put(vm, _haltedGraceMillis);
+        }
+        for (VM vm : _inventory.getInstances(XenServerWarmPool.WARM_TAG_PREFIX + _imageId)) {
+            // halted and suspended warm clones are the pool itself; those warming up count as booting
+            VM.LazyRecord record = _inventory.getVm(vm);
+            if (record != null && !isBusy(vm, record) && isUp(record) && !hasAgent(vm, agents))
+                graces.put(vm, _runningGraceMillis);
+        }
+        if (_haltedGraceMillis > 0) {
+            for (Map.Entry<String, RecordProjection.Record> clone : CLONES.getAllRecordsWhere(connection, UNFINISHED_CLONES).entrySet()) {
+                String name = (String) clone.getValue().get("name_label");
+                Object operations = clone.getValue().get("current_operations");
+                if (name != null && name.startsWith(XenServerCloudInstance.VM_NAME_PREFIX + _imageId + "-") && _inventory.getPending(name) == null
+                        && (!(operations instanceof Map) || ((Map) operations).isEmpty())) {
+                    VM vm = Types.toVM(clone.getKey());
+                    if (!_inventory.isBooting(vm) && !_inventory.isStopping(vm))
+                        graces.put(vm, _haltedGraceMillis);
+                }
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        _suspects.keySet().retainAll(graces.keySet());
+        for (Map.Entry<VM, Long> suspect : graces.entrySet()) {
+            Long grace = suspect.getValue();
+            if (grace == null || grace <= 0) {
+                _suspects.remove(suspect.getKey());
+                continue;
+            }
+            Long since = _suspects.get(suspect.getKey());
+            if (since == null) {
+                _suspects.put(suspect.getKey(), now);
+            } else if (now - since >= grace) {
+                _suspects.remove(suspect.getKey());
+                _reclaim.accept(new XenServerCloudInstance(connection, _inventory, suspect.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Whether the plugin is working on the VM or the server has operations on it in progress.
+     */
+    private boolean isBusy(VM vm, VM.LazyRecord record) {
+        return _inventory.isBooting(vm) || _inventory.isStopping(vm) || _inventory.getPending(record.getNameLabel()) != null
+                || (record.getCurrentOperations() != null && !record.getCurrentOperations().isEmpty());
+    }
+
+    private static boolean isUp(VM.LazyRecord record) {
+        return record.getPowerState() == Types.VmPowerState.RUNNING || record.getPowerState() == Types.VmPowerState.PAUSED;
+    }
+
+    private boolean hasAgent(VM vm, Set<String> agents) {
+        String address = _inventory.getAddress(vm);
+        return address != null && (agents.contains(address) || agents.contains(XenServerCloudInstance.AGENT_NAME_PREFIX + address));
+    }
+}
@@ -0,0 +1,59 @@
+package com.spawtz.teamcity.xenServer;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+
+/**
+ * How XenServerCapacity picks the host a new instance starts on, among those with the memory for it. Each policy
+ * orders the candidate hosts, best first.
+ */
+public enum XenServerPlacementPolicy implements Comparator<XenServerCapacity.HostLoad> {
+    /**
+     * The host running the fewest of the profile's instances, so concurrent builds do not share disks and CPUs.
+     */
+    SPREAD(XenServerCloudParameters.PLACEMENT_SPREAD) {
+        public int compare(XenServerCapacity.HostLoad a, XenServerCapacity.HostLoad b) {
+            int agents = Integer.compare(a.agents, b.agents);
+            return agents != 0 ? agents : Long.compare(b.freeMemory, a.freeMemory);
+        }
+    },
+    /**
+     * The host running the most of the profile's instances that still fits one more, which keeps whole hosts free
+     * for other work.
+     */
+    PACK(XenServerCloudParameters.PLACEMENT_PACK) {
+        public int compare(XenServerCapacity.HostLoad a, XenServerCapacity.HostLoad b) {
+            int agents = Integer.compare(b.agents, a.agents);
+            return agents != 0 ? agents : Long.compare(a.freeMemory, b.freeMemory);
+        }
+    },
+    /**
+     * The host with the lowest recent CPU load, whatever is running on it. Loads are compared in steps of a tenth,
+     * as they are only refreshed now and then, so a burst of starts is spread over the hosts about as idle.
+     */
+    LEAST_LOADED(XenServerCloudParameters.PLACEMENT_LEAST_LOADED) {
+        public int compare(XenServerCapacity.HostLoad a, XenServerCapacity.HostLoad b) {
+            int load = Long.compare(Math.round(a.cpuLoad * 10), Math.round(b.cpuLoad * 10));
+            return load != 0 ? load : Integer.compare(a.agents, b.agents);
+        }
+    };
+
+    private final String _parameter;
+
+    XenServerPlacementPolicy(String parameter) {
+        _parameter = parameter;
+    }
+
+    /**
+     * The policy with the given PLACEMENT value, or null for PLACEMENT_SERVER, which leaves placement to the server.
+     */
+    @Nullable
+    static XenServerPlacementPolicy fromParameter(@Nullable String parameter) {
+        for (XenServerPlacementPolicy policy : values()) {
+            if (policy._parameter.equals(parameter))
+                return policy;
+        }
+        return null;
+    }
+}
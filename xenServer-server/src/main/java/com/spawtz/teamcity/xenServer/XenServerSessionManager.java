@@ -0,0 +1,147 @@
+package com.spawtz.teamcity.xenServer;
+
+import com.xensource.xenapi.APIVersion;
+import com.xensource.xenapi.Connection;
+import com.xensource.xenapi.ConnectionPool;
+import com.xensource.xenapi.Session;
+import com.xensource.xenapi.Types;
+import jetbrains.buildServer.clouds.CloudClientParameters;
+import org.apache.xmlrpc.XmlRpcException;
+import org.jetbrains.annotations.NotNull;
+
+import javax.net.ssl.*;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+
+/**
+ * Owns the single XenAPI session of a cloud profile. The session is opened on first use, shared by the
+ * image and instance objects of the profile, re-opened when the server reports SESSION_INVALID and
+ * closed when the cloud client is disposed.
+ */
+public class XenServerSessionManager {
+    private final URL _url;
+    private final String _userName;
+    private final String _password;
+    private final int _maxConnections;
+    private final Connection.WireProtocol _protocol;
+    private ConnectionPool _pool;
+    private ManagedConnection _connection;
+
+    XenServerSessionManager(@NotNull CloudClientParameters parameters) throws MalformedURLException {
+        this(parameters.getParameter(XenServerCloudParameters.SERVER),
+             parameters.getParameter(XenServerCloudParameters.USER_NAME),
+             parameters.getParameter(XenServerCloudParameters.PASSWORD),
+             parameters.getParameter(XenServerCloudParameters.MAX_CONNECTIONS),
+             parameters.getParameter(XenServerCloudParameters.PROTOCOL));
+    }
+
+    XenServerSessionManager(String server, String userName, String password, String maxConnections, String protocol) throws MalformedURLException {
+        trustAllCertificates();
+        _url = new URL("https://" + server);
+        _userName = userName;
+        _password = password;
+        _maxConnections = maxConnections == null ? ConnectionPool.DEFAULT_MAX_CONNECTIONS_PER_HOST : Integer.parseInt(maxConnections.trim());
+        // profiles saved before the protocol could be chosen have no value and keep using XML-RPC
+        _protocol = XenServerCloudParameters.PROTOCOL_JSON_RPC.equals(protocol) ? Connection.WireProtocol.JSON_RPC : Connection.WireProtocol.XML_RPC;
+    }
+
+    /**
+     * Returns the logged in connection of this profile, logging in if no session has been opened yet.
+     */
+    @NotNull
+    synchronized Connection getConnection() throws Types.XenAPIException, XmlRpcException {
+        if (_connection == null) {
+            if (_pool == null)
+                _pool = new ConnectionPool(_maxConnections);
+            ManagedConnection connection = new ManagedConnection(_url, _pool);
+            connection.setWireProtocol(_protocol);
+            connection.login();
+            _connection = connection;
+        }
+        return _connection;
+    }
+
+    /**
+     * Logs the session out and closes its HTTP connections. A later call to getConnection() opens new ones.
+     */
+    synchronized void dispose() {
+        if (_connection != null) {
+            try {
+                Session.logout(_connection);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            _connection = null;
+        }
+        if (_pool != null) {
+            _pool.close();
+            _pool = null;
+        }
+    }
+
+    static void trustAllCertificates() {
+        HostnameVerifier hv = new HostnameVerifier()
+        {
+            public boolean verify(String hostname, SSLSession session)
+            {
+                return session.getPeerHost().equals(hostname);
+            }
+        };
+
+        HttpsURLConnection.setDefaultHostnameVerifier(hv);
+        TrustManager[] trustAllCerts = new TrustManager[]{
+                new X509TrustManager(){
+                    public X509Certificate[] getAcceptedIssuers(){ return null; }
+                    public void checkClientTrusted(X509Certificate[] certs, String authType) {}
+                    public void checkServerTrusted(X509Certificate[] certs, String authType) {}
+                }
+        };
+
+        try {
+            SSLContext sslContext = SSLContext.getInstance("SSL");
+            sslContext.init(null, trustAllCerts, new SecureRandom());
+            HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
+        } catch (Exception e){
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * A connection that logs in again and retries the call once when its session has expired or the
+     * pool master has restarted.
+     */
+    private class ManagedConnection extends Connection {
+        ManagedConnection(URL url, ConnectionPool pool) {
+            super(url, DEFAULT_REPLY_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT, pool);
+        }
+
+        void login() throws Types.XenAPIException, XmlRpcException {
+            Session.loginWithPassword(this, _userName, _password, APIVersion.latest().toString());
+        }
+
+        @Override
+        protected Map<?, ?> dispatch(String method_call, Object[] method_params) throws XmlRpcException, Types.XenAPIException {
+            String session = getSessionReference();
+            try {
+                return super.dispatch(method_call, method_params);
+            } catch (Types.SessionInvalid e) {
+                if (method_call.startsWith("session.") || method_params.length == 0 || !method_params[0].equals(session))
+                    throw e;
+                method_params[0] = relogin(session);
+                return super.dispatch(method_call, method_params);
+            }
+        }
+
+        /**
+         * Opens a new session unless another thread has already replaced the stale one.
+         */
+        private synchronized String relogin(String staleSession) throws Types.XenAPIException, XmlRpcException {
+            if (staleSession.equals(getSessionReference()))
+                login();
+            return getSessionReference();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.spawtz.teamcity.xenServer;
+
+import com.xensource.xenapi.*;
+import org.apache.xmlrpc.XmlRpcException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Destroys the disks of torn down instances in the background, at most a configured number at a time per SR,
+ * so that a burst of terminations does not set off a coalescing storm that slows the builds still running on
+ * the SR. The disks queued for an SR while earlier ones are being destroyed form one batch; when the batch is
+ * done the SR is optionally scanned once, rather than once per disk.
+ */
+public class XenServerStorageCollector {
+    private final XenServerInventory _inventory;
+    private final int _maxDestroysPerSR;
+    private final boolean _scan;
+    private final Map<SR, Batch> _batches = new HashMap<SR, Batch>();
+    private boolean _closed;
+
+    XenServerStorageCollector(@NotNull XenServerInventory inventory, int maxDestroysPerSR, boolean scan) {
+        _inventory = inventory;
+        _maxDestroysPerSR = maxDestroysPerSR;
+        _scan = scan;
+    }
+
+    /**
+     * Queues the disks for destruction. The future completes once they are queued, not once they are destroyed.
+     * Once the collector is closed the disks are reported and left alone.
+     */
+    @NotNull
+    CompletableFuture<Void> collect(@NotNull final Connection connection, @NotNull final Collection<VDI> disks) {
+        return connection.submit(new Connection.Call<Map<VDI, SR>>() {
+            public Map<VDI, SR> call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                Map<VDI, SR> srs = new HashMap<VDI, SR>();
+                for (VDI disk : disks) {
+                    srs.put(disk, disk.getSR(c));
+                }
+                return srs;
+            }
+        }).thenAccept(new Consumer<Map<VDI, SR>>() {
+            public void accept(Map<VDI, SR> srs) {
+                Set<SR> queued = new HashSet<SR>();
+                synchronized (XenServerStorageCollector.this) {
+                    if (_closed) {
+                        for (Map.Entry<VDI, SR> disk : srs.entrySet()) {
+                            leftBehind(disk.getKey(), disk.getValue());
+                        }
+                        return;
+                    }
+                    for (Map.Entry<VDI, SR> disk : srs.entrySet()) {
+                        Batch batch = _batches.get(disk.getValue());
+                        if (batch == null) {
+                            batch = new Batch(connection);
+                            _batches.put(disk.getValue(), batch);
+                        }
+                        batch.queued.add(disk.getKey());
+                        queued.add(disk.getValue());
+                    }
+                }
+                for (SR sr : queued) {
+                    startDestroys(sr);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops accepting disks and waits for those queued to be destroyed, but not past the deadline. Those still
+     * queued then are reported and left alone.
+     */
+    synchronized void close(long deadline) {
+        _closed = true;
+        long wait;
+        while (!_batches.isEmpty() && (wait = deadline - System.currentTimeMillis()) > 0) {
+            try {
+                wait(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (Map.Entry<SR, Batch> batch : _batches.entrySet()) {
+            for (VDI disk : batch.getValue().queued) {
+                leftBehind(disk, batch.getKey());
+            }
+            batch.getValue().queued.clear();
+        }
+    }
+
+    private static void leftBehind(VDI disk, SR sr) {
+        new IllegalStateException("Disk " + disk.toWireString() + " on SR " + sr.toWireString() + " was not destroyed, as its profile has been disposed").printStackTrace();
+    }
+
+    private synchronized void startDestroys(final SR sr) {
+        Batch batch = _batches.get(sr);
+        while (batch != null && batch.running < _maxDestroysPerSR && !batch.queued.isEmpty()) {
+            final VDI disk = batch.queued.poll();
+            batch.running++;
+            _inventory.runTask(batch.connection, new Connection.Call<Task>() {
+                public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                    return disk.destroyAsync(c);
+                }
+            }).whenComplete(new BiConsumer<Void, Throwable>() {
+                public void accept(Void ignored, Throwable e) {
+                    if (e != null)
+                        new IllegalStateException("Failed to destroy disk " + disk.toWireString() + " on SR " + sr.toWireString(), e).printStackTrace();
+                    destroyed(sr);
+                }
+            });
+        }
+    }
+
+    private void destroyed(final SR sr) {
+        Batch finished;
+        synchronized (this) {
+            Batch batch = _batches.get(sr);
+            batch.running--;
+            if (batch.running > 0 || !batch.queued.isEmpty()) {
+                finished = null;
+            } else {
+                _batches.remove(sr);
+                finished = batch;
+                notifyAll();
+            }
+        }
+        if (finished == null) {
+            startDestroys(sr);
+        } else if (_scan) {
+            _inventory.runTask(finished.connection, new Connection.Call<Task>() {
+                public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                    return sr.scanAsync(c);
+                }
+            }).whenComplete(new BiConsumer<Void, Throwable>() {
+                public void accept(Void ignored, Throwable e) {
+                    if (e != null)
+                        e.printStackTrace();
+                }
+            });
+        }
+    }
+
+    /**
+     * The disks of one SR waiting to be destroyed and the number being destroyed.
+     */
+    private static class Batch {
+        final Connection connection;
+        final Queue<VDI> queued = new ArrayDeque<VDI>();
+        int running;
+
+        Batch(Connection connection) {
+            this.connection = connection;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.spawtz.teamcity.xenServer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs instance teardowns in the background, at most MAX_CONCURRENT_TEARDOWNS at a time, so a burst of
+ * terminations neither holds TeamCity's threads nor floods the pool master with destroy tasks. The rest wait
+ * in arrival order.
+ */
+public class XenServerTeardownQueue {
+    static final int MAX_CONCURRENT_TEARDOWNS = 8;
+
+    private final Queue<Teardown> _queued = new ArrayDeque<Teardown>();
+    private int _running;
+    private boolean _closed;
+
+    /**
+     * Queues a teardown of the instance. The supplier starts it and returns the future of its completion. Once the
+     * queue is closed the teardown is reported and dropped.
+     */
+    synchronized void submit(@NotNull String instanceId, @NotNull Supplier<CompletableFuture<Void>> teardown) {
+        if (_closed) {
+            new IllegalStateException("Instance " + instanceId + " was not torn down, as its profile has been disposed").printStackTrace();
+            return;
+        }
+        _queued.add(new Teardown(instanceId, teardown));
+        startQueued();
+    }
+
+    /**
+     * Stops accepting teardowns and waits for the queued and running ones to complete, but not past the deadline.
+     * Those still queued then are reported and dropped; those running report themselves if they fail.
+     */
+    synchronized void close(long deadline) {
+        _closed = true;
+        long wait;
+        while ((_running > 0 || !_queued.isEmpty()) && (wait = deadline - System.currentTimeMillis()) > 0) {
+            try {
+                wait(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (Teardown teardown : _queued) {
+            new IllegalStateException("Instance " + teardown.instanceId + " was not torn down, as its profile has been disposed").printStackTrace();
+        }
+        _queued.clear();
+    }
+
+    private synchronized void startQueued() {
+        while (_running < MAX_CONCURRENT_TEARDOWNS && !_queued.isEmpty()) {
+            _running++;
+            final Teardown queued = _queued.poll();
+            CompletableFuture<Void> teardown;
+            try {
+                teardown = queued.start.get();
+            } catch (RuntimeException e) {
+                teardown = new CompletableFuture<Void>();
+                teardown.completeExceptionally(e);
+            }
+            teardown.whenComplete(new BiConsumer<Void, Throwable>() {
+                public void accept(Void ignored, Throwable e) {
+                    if (e != null)
+                        new IllegalStateException("Failed to tear instance " + queued.instanceId + " down", e).printStackTrace();
+                    synchronized (XenServerTeardownQueue.this) {
+                        _running--;
+                        XenServerTeardownQueue.this.notifyAll();
+                    }
+                    startQueued();
+                }
+            });
+        }
+    }
+
+    private static class Teardown {
+        final String instanceId;
+        final Supplier<CompletableFuture<Void>> start;
+
+        Teardown(String instanceId, Supplier<CompletableFuture<Void>> start) {
+            this.instanceId = instanceId;
+            this.start = start;
+        }
+    }
+}
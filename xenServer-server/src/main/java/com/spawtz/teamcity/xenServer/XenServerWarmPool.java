@@ -0,0 +1,241 @@
+package com.spawtz.teamcity.xenServer;
+
+import com.xensource.xenapi.Connection;
+import com.xensource.xenapi.Task;
+import com.xensource.xenapi.Types;
+import com.xensource.xenapi.VM;
+import org.apache.xmlrpc.XmlRpcException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Clones of an image kept ready to be started, so starting an instance skips the clone. The clones are halted,
+ * or in suspend mode booted until their guest agent reports an address and then suspended, so starting one is a
+ * resume rather than a cold boot. They are tagged with WARM_TAG_PREFIX followed by the image ID rather than with
+ * the image ID, which keeps them out of the image's instances and lets the pool be found again in the inventory
+ * after a server restart. In recycling mode terminated instances also return to the pool, which can then hold
+ * more clones than its size.
+ */
+public class XenServerWarmPool {
+    static final String WARM_TAG_PREFIX = "teamcity-warm:";
+    static final int ADDRESS_TIMEOUT_MINUTES = 10;
+
+    private final Connection _connection;
+    private final XenServerInventory _inventory;
+    private final String _imageId;
+    private final int _size;
+    private final boolean _suspend;
+    private final boolean _resetOnBoot;
+    private final Consumer<VM> _discard;
+    private final ScheduledExecutorService _timer;
+    private final Set<VM> _taken = ConcurrentHashMap.<VM>newKeySet();
+    private int _cloning;
+    private boolean _closed;
+
+    /**
+     * @param discard tears down a clone that did not warm up in time
+     */
+    XenServerWarmPool(@NotNull Connection connection, @NotNull XenServerInventory inventory, @NotNull String imageId, int size, boolean suspend,
+                      boolean resetOnBoot, @NotNull Consumer<VM> discard) {
+        _connection = connection;
+        _inventory = inventory;
+        _imageId = imageId;
+        _size = size;
+        _suspend = suspend;
+        _resetOnBoot = resetOnBoot;
+        _discard = discard;
+        _timer = !suspend ? null : Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "XenServer warm pool timer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Takes a halted or suspended clone out of the pool, or returns null when the pool is empty. The caller tags
+     * it as an instance of the image and starts or resumes it.
+     */
+    @Nullable
+    VM take() {
+        Set<VM> warm = _inventory.getInstances(WARM_TAG_PREFIX + _imageId);
+        // clones taken earlier have been retagged by now
+        _taken.retainAll(warm);
+        for (VM vm : warm) {
+            if (isReady(vm) && _taken.add(vm))
+                return vm;
+        }
+        return null;
+    }
+
+    /**
+     * Starts cloning as many VMs as the pool is short of, counting the clones already under way.
+     */
+    synchronized void refill(@NotNull XenServerCloudImage image) {
+        if (_closed)
+            return;
+        int available = 0;
+        for (VM vm : _inventory.getInstances(WARM_TAG_PREFIX + _imageId)) {
+            if (isReady(vm) && !_taken.contains(vm))
+                available++;
+        }
+        for (int i = available + _cloning; i < _size; i++) {
+            _cloning++;
+            CompletableFuture<VM> warmed = image.cloneAsync(XenServerCloudInstance.newVmName(_imageId), _resetOnBoot).thenCompose(new Function<VM, CompletableFuture<VM>>() {
+                public CompletableFuture<VM> apply(final VM clone) {
+                    return warm(clone);
+                }
+            });
+            warmed.whenComplete(new BiConsumer<VM, Throwable>() {
+                public void accept(VM clone, Throwable e) {
+                    synchronized (XenServerWarmPool.this) {
+                        _cloning--;
+                        XenServerWarmPool.this.notifyAll();
+                    }
+                    if (e != null)
+                        e.printStackTrace();
+                }
+            });
+        }
+    }
+
+    /**
+     * Stops refilling and waits for the clones under way to be ready, but not past the deadline. Those still under
+     * way then are reported; a clone that gets its warm tag is found again by the next pool of the image, and one
+     * that does not is reclaimed by the orphan reaper.
+     */
+    synchronized void close(long deadline) {
+        _closed = true;
+        long wait;
+        while (_cloning > 0 && (wait = deadline - System.currentTimeMillis()) > 0) {
+            try {
+                wait(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (_cloning > 0)
+            new IllegalStateException(_cloning + " warm clones of image " + _imageId + " were still being prepared when its profile was disposed").printStackTrace();
+        if (_timer != null)
+            _timer.shutdownNow();
+    }
+
+    /**
+     * Tags the clone into the pool and, in suspend mode, boots and suspends it. The clone counts as booting in the
+     * inventory meanwhile, which keeps it from take() and from the orphan reaper. One whose guest agent did not
+     * report an address in time is torn down.
+     */
+    private CompletableFuture<VM> warm(final VM clone) {
+        _inventory.booting(clone);
+        CompletableFuture<VM> warmed = _connection.submit(new Connection.Call<VM>() {
+            public VM call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                clone.setIsATemplate(c, false);
+                HashSet<String> tags = new HashSet<String>();
+                tags.add(WARM_TAG_PREFIX + _imageId);
+                clone.setTags(c, tags);
+                _inventory.updateVm(clone, clone.getRecord(c));
+                return clone;
+            }
+        });
+        if (_suspend)
+            warmed = warmed.thenCompose(new Function<VM, CompletableFuture<VM>>() {
+                public CompletableFuture<VM> apply(VM tagged) {
+                    return bootAndSuspend(tagged);
+                }
+            });
+        return warmed.whenComplete(new BiConsumer<VM, Throwable>() {
+            public void accept(VM warm, Throwable e) {
+                if ((e instanceof CompletionException ? e.getCause() : e) instanceof TimeoutException) {
+                    // left running, so marked stopping before it stops counting as booting
+                    _inventory.stopping(clone);
+                    _discard.accept(clone);
+                }
+                // a clone that failed to warm up otherwise is still offered if it ended up halted
+                _inventory.bootCompleted(clone);
+            }
+        });
+    }
+
+    /**
+     * Starts the clone, waits up to ADDRESS_TIMEOUT_MINUTES for its guest agent to report an address and suspends
+     * it.
+     */
+    private CompletableFuture<VM> bootAndSuspend(final VM clone) {
+        return _connection.submit(new Connection.Call<Task>() {
+            public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                return clone.startAsync(c, false, true);
+            }
+        }).thenCompose(new Function<Task, CompletableFuture<Task.Record>>() {
+            public CompletableFuture<Task.Record> apply(Task task) {
+                return _inventory.awaitTask(_connection, task);
+            }
+        }).thenCompose(new Function<Task.Record, CompletableFuture<String>>() {
+            public CompletableFuture<String> apply(Task.Record started) {
+                return awaitAddress(clone);
+            }
+        }).thenCompose(new Function<String, CompletableFuture<Task>>() {
+            public CompletableFuture<Task> apply(String address) {
+                return _connection.submit(new Connection.Call<Task>() {
+                    public Task call(Connection c) throws Types.XenAPIException, XmlRpcException {
+                        return clone.suspendAsync(c);
+                    }
+                });
+            }
+        }).thenCompose(new Function<Task, CompletableFuture<Task.Record>>() {
+            public CompletableFuture<Task.Record> apply(Task task) {
+                return _inventory.awaitTask(_connection, task);
+            }
+        }).thenApply(new Function<Task.Record, VM>() {
+            public VM apply(Task.Record suspended) {
+                return clone;
+            }
+        });
+    }
+
+    /**
+     * The clone's address, failing with a TimeoutException after ADDRESS_TIMEOUT_MINUTES.
+     */
+    private CompletableFuture<String> awaitAddress(final VM clone) {
+        final CompletableFuture<String> address = new CompletableFuture<String>();
+        final ScheduledFuture<?> timeout = _timer.schedule(new Runnable() {
+            public void run() {
+                address.completeExceptionally(new TimeoutException("VM " + clone.toWireString() + " did not report an address within "
+                        + ADDRESS_TIMEOUT_MINUTES + " minutes of booting"));
+            }
+        }, ADDRESS_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        _inventory.awaitAddress(clone).whenComplete(new BiConsumer<String, Throwable>() {
+            public void accept(String reported, Throwable e) {
+                timeout.cancel(false);
+                if (e != null)
+                    address.completeExceptionally(e);
+                else
+                    address.complete(reported);
+            }
+        });
+        return address;
+    }
+
+    private boolean isReady(VM vm) {
+        if (_inventory.isBooting(vm))
+            return false;
+        VM.LazyRecord record = _inventory.getVm(vm);
+        return record != null && (record.getPowerState() == Types.VmPowerState.HALTED || record.getPowerState() == Types.VmPowerState.SUSPENDED);
+    }
+}
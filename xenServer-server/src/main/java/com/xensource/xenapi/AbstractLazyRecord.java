@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A record that keeps the raw struct returned by the server and converts each field the first time it is read.
+ * Callers that need a few fields of many records, such as the result of a get_all_records call, avoid decoding
+ * and holding on to the rest.
+ */
+public abstract class AbstractLazyRecord implements Types.Record
+{
+    /**
+     * Converts the raw value of a single field.
+     */
+    protected interface FieldDecoder
+    {
+        Object decode(Object raw);
+    }
+
+    private static final Object UNDECODED = new Object();
+
+    private final Map<String, Object> raw;
+
+    private final Object[] values;
+
+    protected AbstractLazyRecord(Map<String, Object> raw, int fieldCount)
+    {
+        this.raw = raw;
+        this.values = new Object[fieldCount];
+        Arrays.fill(this.values, UNDECODED);
+    }
+
+    /**
+     * @return The raw struct this record was created from
+     */
+    protected Map<String, Object> raw()
+    {
+        return raw;
+    }
+
+    /**
+     * Returns the field with the given index, decoding it from the raw struct member of the given name on first use.
+     */
+    protected synchronized Object field(int index, String name, FieldDecoder decoder)
+    {
+        Object value = values[index];
+        if (value == UNDECODED)
+        {
+            value = decoder.decode(raw.get(name));
+            values[index] = value;
+        }
+        return value;
+    }
+}
@@ -33,6 +33,8 @@ package com.xensource.xenapi;
 import java.net.URL;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.xmlrpc.XmlRpcException;
 import org.apache.xmlrpc.client.XmlRpcClient;
@@ -102,6 +104,11 @@ public class Connection
      */
     private final XmlRpcClient client;
 
+    /**
+     * The keep-alive HTTP connections the client's requests are sent over.
+     */
+    private final ConnectionPool pool;
+
     /**
      * Creates a connection to a particular server using a given url. This object can then be passed
      * in to any other API calls.
@@ -119,6 +126,7 @@ public class Connection
      */
     public Connection(URL url)
     {
+        this.pool = ConnectionPool.getDefault();
         this.client = getClientFromURL(url, DEFAULT_REPLY_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT);
     }
 
@@ -138,6 +146,24 @@ public class Connection
      */
     public Connection(URL url, int replyTimeout, int connTimeout)
     {
+        this(url, replyTimeout, connTimeout, ConnectionPool.getDefault());
+    }
+
+    /**
+     * Creates a connection to a particular server using a given url. This object can then be passed
+     * in to any other API calls.
+     *
+     * Note this constructor does NOT call Session.loginWithPassword; the programmer is responsible for calling it,
+     * passing the Connection as a parameter. No attempt to connect to the server is made until login is called.
+     *
+     * @param url The URL of the server to connect to
+     * @param replyTimeout The reply timeout for xml-rpc calls in seconds
+     * @param connTimeout The connection timeout for xml-rpc calls in seconds
+     * @param pool The pool of keep-alive HTTP connections the calls are sent over
+     */
+    public Connection(URL url, int replyTimeout, int connTimeout, ConnectionPool pool)
+    {
+        this.pool = pool;
         this.client = getClientFromURL(url, replyTimeout, connTimeout);
     }
 
@@ -157,6 +183,7 @@ public class Connection
      */
     public Connection(URL url, String sessionReference)
     {
+        this.pool = ConnectionPool.getDefault();
         this.client = getClientFromURL(url, DEFAULT_REPLY_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT);
         this.sessionReference = sessionReference;
     }
@@ -175,10 +202,69 @@ public class Connection
      */
     public Connection(URL url, String sessionReference, int replyTimeout, int connTimeout)
     {
+        this(url, sessionReference, replyTimeout, connTimeout, ConnectionPool.getDefault());
+    }
+
+    /**
+     * Creates a connection to a particular server using a given url. This object can then be passed
+     * in to any other API calls.
+     *
+     * @param url The URL of the server to connect to
+     * @param sessionReference A reference to a logged-in Session. Any method calls on this Connection will use it.
+     *                         This constructor does not call Session.loginWithPassword, and dispose() on the resulting
+     *                         Connection object does not call Session.logout. The programmer is responsible for
+     *                         ensuring the Session is logged in and out correctly.
+     * @param replyTimeout The reply timeout for xml-rpc calls in seconds
+     * @param connTimeout The connection timeout for xml-rpc calls in seconds
+     * @param pool The pool of keep-alive HTTP connections the calls are sent over
+     */
+    public Connection(URL url, String sessionReference, int replyTimeout, int connTimeout, ConnectionPool pool)
+    {
+        this.pool = pool;
         this.client = getClientFromURL(url, replyTimeout, connTimeout);
         this.sessionReference = sessionReference;
     }
 
+    /**
+     * The wire protocols calls can be dispatched with.
+     */
+    public enum WireProtocol
+    {
+        /**
+         * XML-RPC, served by all XenServer versions
+         */
+        XML_RPC,
+        /**
+         * JSON-RPC, served at /jsonrpc by recent XenServer versions. The Connection falls back to XML-RPC
+         * if the host does not serve it.
+         */
+        JSON_RPC
+    }
+
+    /**
+     * Set when calls are dispatched with JSON-RPC.
+     */
+    private volatile JsonRpcClient jsonRpcClient;
+
+    /**
+     * Selects the wire protocol used by subsequent calls on this Connection. The default is XML-RPC.
+     */
+    public void setWireProtocol(WireProtocol protocol)
+    {
+        jsonRpcClient = protocol == WireProtocol.JSON_RPC
+                ? new JsonRpcClient(pool.getHttpClient(config.getServerURL()), config)
+                : null;
+    }
+
+    /**
+     * @return The wire protocol calls are currently dispatched with. This becomes XML_RPC if JSON-RPC was
+     * selected but the host turned out not to serve it.
+     */
+    public WireProtocol getWireProtocol()
+    {
+        return jsonRpcClient != null ? WireProtocol.JSON_RPC : WireProtocol.XML_RPC;
+    }
+
     private XmlRpcClientConfigImpl config = new XmlRpcClientConfigImpl();
 
     public XmlRpcClientConfigImpl getConfig()
@@ -194,6 +280,8 @@ public class Connection
         config.setConnectionTimeout(connWait * 1000);
         XmlRpcClient client = new XmlRpcClient();
         client.setConfig(config);
+        client.setTypeFactory(new WireTypeFactory(client));
+        client.setTransportFactory(pool.getTransportFactory(client, url));
         return client;
     }
 
@@ -213,7 +301,7 @@ public class Connection
      */
     protected Map dispatch(String method_call, Object[] method_params) throws XmlRpcException, XenAPIException
     {
-        Map response = (Map) client.execute(method_call, method_params);
+        Map response = execute(method_call, method_params);
 
         if (method_call.equals("session.login_with_password") &&
             response.get("Status").equals("Success"))
@@ -246,7 +334,7 @@ public class Connection
                         URL client_url = clientConfig.getServerURL();
                         URL masterUrl = new URL(client_url.getProtocol(), (String)error[1], client_url.getPort(), client_url.getFile());
 
-                        Connection tmp_conn = new Connection(masterUrl, sessionReference, clientConfig.getReplyTimeout(), clientConfig.getConnectionTimeout());
+                        Connection tmp_conn = new Connection(masterUrl, sessionReference, clientConfig.getReplyTimeout() / 1000, clientConfig.getConnectionTimeout() / 1000, pool);
 
                         Session.logout(tmp_conn);
                     }
@@ -264,6 +352,117 @@ public class Connection
     }
 
 
+    /**
+     * Sends the call with the selected wire protocol and returns the Status/Value struct of the response.
+     */
+    private Map execute(String method_call, Object[] method_params) throws XmlRpcException
+    {
+        ResponseDecoder.RecordConverter converter = ResponseDecoder.forMethod(method_call);
+        JsonRpcClient jsonClient = jsonRpcClient;
+        if (jsonClient != null)
+        {
+            try
+            {
+                return jsonClient.execute(method_call, method_params, converter);
+            }
+            catch (JsonRpcClient.UnsupportedException e)
+            {
+                // Older hosts only serve XML-RPC: use it from now on.
+                jsonRpcClient = null;
+            }
+        }
+
+        if (converter == null)
+        {
+            return (Map) client.execute(method_call, method_params);
+        }
+        ResponseDecoder.begin(converter);
+        try
+        {
+            return (Map) client.execute(method_call, method_params);
+        }
+        finally
+        {
+            ResponseDecoder.end();
+        }
+    }
+
+    /**
+     * A binding call, or a sequence of them, to be run asynchronously on a Connection.
+     */
+    public interface Call<T>
+    {
+        T call(Connection c) throws XenAPIException, XmlRpcException;
+    }
+
+    /**
+     * Runs the call on the dispatch executor of this Connection's pool and returns a future of its result, so the
+     * calling thread does not wait for the reply. Futures can be chained with further calls, for example
+     * {@code c.submit(clone).thenCompose(vm -> c.submit(start))}.
+     *
+     * The future fails with a RejectedExecutionException when the executor's queue is full, or when the pool is
+     * closed before the call has run.
+     */
+    public <T> CompletableFuture<T> submit(final Call<T> call)
+    {
+        Submission<T> submission = new Submission<T>(call);
+        try
+        {
+            pool.getExecutor().execute(submission);
+        }
+        catch (RejectedExecutionException e)
+        {
+            submission.future.completeExceptionally(e);
+        }
+        return submission.future;
+    }
+
+    /**
+     * A submitted call waiting for, or running on, a dispatch thread.
+     */
+    final class Submission<T> implements Runnable
+    {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+
+        private final Call<T> call;
+
+        Submission(Call<T> call)
+        {
+            this.call = call;
+        }
+
+        public void run()
+        {
+            if (future.isCancelled())
+            {
+                return;
+            }
+            try
+            {
+                future.complete(call.call(Connection.this));
+            }
+            catch (Throwable e)
+            {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * The asynchronous counterpart of dispatch: the call is made on the dispatch executor of this Connection's pool.
+     * The future fails with the exception dispatch would have thrown.
+     */
+    protected CompletableFuture<Map> dispatchAsync(final String method_call, final Object[] method_params)
+    {
+        return submit(new Call<Map>()
+        {
+            public Map call(Connection c) throws XenAPIException, XmlRpcException
+            {
+                return dispatch(method_call, method_params);
+            }
+        });
+    }
+
     private void setAPIVersion(Session session) throws XenAPIException, XmlRpcException
     {
         try
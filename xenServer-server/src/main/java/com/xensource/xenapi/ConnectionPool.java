@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.apache.commons.httpclient.HttpClient;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+import org.apache.commons.httpclient.methods.PostMethod;
+import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+import org.apache.commons.httpclient.params.HttpConnectionParams;
+import org.apache.commons.httpclient.protocol.Protocol;
+import org.apache.commons.httpclient.protocol.ProtocolSocketFactory;
+import org.apache.commons.httpclient.protocol.SecureProtocolSocketFactory;
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcCommonsTransport;
+import org.apache.xmlrpc.client.XmlRpcCommonsTransportFactory;
+import org.apache.xmlrpc.client.XmlRpcHttpClientConfig;
+import org.apache.xmlrpc.client.XmlRpcTransport;
+import org.apache.xmlrpc.client.XmlRpcTransportFactory;
+import org.apache.xmlrpc.common.XmlRpcStreamRequestConfig;
+
+/**
+ * A pool of persistent HTTP/1.1 connections to XenServer hosts. Connections created on the same pool share its
+ * keep-alive sockets, so consecutive calls skip the TCP and TLS handshakes, and TLS sessions are resumed whenever
+ * a new socket has to be opened to a host that was seen before.
+ */
+public class ConnectionPool
+{
+    /**
+     * Default maximum number of simultaneous connections to a single host
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 8;
+
+    private static ConnectionPool defaultPool;
+
+    private final MultiThreadedHttpConnectionManager manager = new MultiThreadedHttpConnectionManager();
+
+    private final Protocol https;
+
+    private final int maxConnectionsPerHost;
+
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Maximum number of asynchronous calls waiting for a dispatch thread
+     */
+    public static final int ASYNC_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Creates a pool that opens TLS sockets with the SSL socket factory that is the HttpsURLConnection default at
+     * the time of the call.
+     *
+     * @param maxConnectionsPerHost The maximum number of simultaneous connections to a single host
+     */
+    public ConnectionPool(int maxConnectionsPerHost)
+    {
+        this(maxConnectionsPerHost, HttpsURLConnection.getDefaultSSLSocketFactory());
+    }
+
+    /**
+     * @param maxConnectionsPerHost The maximum number of simultaneous connections to a single host
+     * @param sslSocketFactory The factory used for TLS sockets. Sessions are resumed between the sockets it creates.
+     */
+    public ConnectionPool(int maxConnectionsPerHost, SSLSocketFactory sslSocketFactory)
+    {
+        HttpConnectionManagerParams params = manager.getParams();
+        params.setDefaultMaxConnectionsPerHost(maxConnectionsPerHost);
+        params.setMaxTotalConnections(Math.max(maxConnectionsPerHost, params.getMaxTotalConnections()));
+        params.setStaleCheckingEnabled(true);
+        params.setTcpNoDelay(true);
+        // the non-deprecated overload still marks the protocol secure, TlsSocketFactory being a SecureProtocolSocketFactory
+        ProtocolSocketFactory tls = new TlsSocketFactory(sslSocketFactory);
+        this.https = new Protocol("https", tls, 443);
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    /**
+     * The pool used by Connections that were not given one explicitly.
+     */
+    public static synchronized ConnectionPool getDefault()
+    {
+        if (defaultPool == null)
+        {
+            defaultPool = new ConnectionPool(DEFAULT_MAX_CONNECTIONS_PER_HOST);
+        }
+        return defaultPool;
+    }
+
+    /**
+     * Closes idle connections and stops the pool. Connections using it must not be called afterwards. Asynchronous
+     * calls that have not run yet fail with a RejectedExecutionException.
+     */
+    public void close()
+    {
+        synchronized (this)
+        {
+            if (executor != null)
+            {
+                for (Runnable queued : executor.shutdownNow())
+                {
+                    if (queued instanceof Connection.Submission)
+                    {
+                        ((Connection.Submission<?>) queued).future.completeExceptionally(
+                                new RejectedExecutionException("The connection pool has been closed"));
+                    }
+                }
+            }
+        }
+        manager.shutdown();
+    }
+
+    /**
+     * The executor asynchronous calls over this pool run on. It has one daemon thread per pooled connection, as
+     * more threads would only wait for a free connection, and rejects calls once ASYNC_QUEUE_CAPACITY are queued.
+     */
+    synchronized ExecutorService getExecutor()
+    {
+        if (executor == null)
+        {
+            executor = new ThreadPoolExecutor(maxConnectionsPerHost, maxConnectionsPerHost, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(ASYNC_QUEUE_CAPACITY), new ThreadFactory()
+            {
+                private final AtomicInteger count = new AtomicInteger();
+
+                public Thread newThread(Runnable runnable)
+                {
+                    Thread thread = new DispatchThread(runnable, "XenAPI dispatch " + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /**
+     * @return Whether the calling thread is a dispatch thread of a pool. A dispatch thread must not block waiting for
+     * other asynchronous calls, which may be queued behind it on the same executor.
+     */
+    static boolean isDispatchThread()
+    {
+        return Thread.currentThread() instanceof DispatchThread;
+    }
+
+    /**
+     * Returns an HTTP client that sends requests to the host of the given URL over this pool.
+     */
+    HttpClient getHttpClient(URL url)
+    {
+        HttpClient httpClient = new HttpClient(manager);
+        if (url.getProtocol().equals("https"))
+        {
+            httpClient.getHostConfiguration().setHost(url.getHost(), url.getPort(), https);
+        }
+        else
+        {
+            httpClient.getHostConfiguration().setHost(url.getHost(), url.getPort(), url.getProtocol());
+        }
+        return httpClient;
+    }
+
+    /**
+     * Returns a transport factory for the given client. The client's server URL must not be changed afterwards.
+     */
+    XmlRpcTransportFactory getTransportFactory(XmlRpcClient client, URL url)
+    {
+        XmlRpcCommonsTransportFactory factory = new XmlRpcCommonsTransportFactory(client)
+        {
+            @Override
+            public XmlRpcTransport getTransport()
+            {
+                return new PooledTransport(this);
+            }
+        };
+        factory.setHttpClient(getHttpClient(url));
+        return factory;
+    }
+
+    /**
+     * Posts to the path only, so that the request is sent with the host configuration (and TLS socket factory)
+     * of the pooled HttpClient.
+     */
+    static class PooledTransport extends XmlRpcCommonsTransport
+    {
+        PooledTransport(XmlRpcCommonsTransportFactory factory)
+        {
+            super(factory);
+        }
+
+        @Override
+        protected PostMethod newPostMethod(XmlRpcHttpClientConfig config)
+        {
+            String path = config.getServerURL().getFile();
+            return new PostMethod(path.length() == 0 ? "/" : path);
+        }
+
+        /**
+         * Streams the response through a ResponseDecoder when the call being made registered one.
+         */
+        @Override
+        protected Object readResponse(XmlRpcStreamRequestConfig config, InputStream stream) throws XmlRpcException
+        {
+            ResponseDecoder.RecordConverter converter = ResponseDecoder.active();
+            if (converter == null)
+            {
+                return super.readResponse(config, stream);
+            }
+            return ResponseDecoder.parse(stream, converter);
+        }
+    }
+
+    private static class DispatchThread extends Thread
+    {
+        DispatchThread(Runnable runnable, String name)
+        {
+            super(runnable, name);
+        }
+    }
+
+    /**
+     * Adapts a JSSE socket factory to HttpClient, honouring its connection timeout.
+     */
+    private static class TlsSocketFactory implements SecureProtocolSocketFactory
+    {
+        private final SSLSocketFactory factory;
+
+        TlsSocketFactory(SSLSocketFactory factory)
+        {
+            this.factory = factory;
+        }
+
+        public Socket createSocket(String host, int port, InetAddress localAddress, int localPort, HttpConnectionParams params) throws IOException
+        {
+            Socket socket = factory.createSocket();
+            if (localAddress != null)
+            {
+                socket.bind(new InetSocketAddress(localAddress, localPort));
+            }
+            socket.connect(new InetSocketAddress(host, port), params == null ? 0 : params.getConnectionTimeout());
+            return socket;
+        }
+
+        public Socket createSocket(String host, int port, InetAddress localAddress, int localPort) throws IOException
+        {
+            return factory.createSocket(host, port, localAddress, localPort);
+        }
+
+        public Socket createSocket(String host, int port) throws IOException
+        {
+            return factory.createSocket(host, port);
+        }
+
+        public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException
+        {
+            return factory.createSocket(socket, host, port, autoClose);
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof TlsSocketFactory && ((TlsSocketFactory) obj).factory == factory;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return factory.hashCode();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the wire strings of an enumeration to its constants, so the Types converters decode enum values with a single
+ * lookup. Values the server sends in another case or with '-' in place of '_' are still recognised, and unknown
+ * values map to UNRECOGNIZED, without allocating or throwing in the common case.
+ */
+final class EnumLookup<E extends Enum<E>>
+{
+    private final Map<String, E> constants = new HashMap<String, E>();
+
+    private final E unrecognized;
+
+    EnumLookup(Class<E> type, E unrecognized)
+    {
+        this.unrecognized = unrecognized;
+        for (E constant : type.getEnumConstants())
+        {
+            constants.put(constant.name(), constant);
+        }
+        // wire strings take precedence over the constant names they may clash with
+        for (E constant : type.getEnumConstants())
+        {
+            if (constant != unrecognized)
+            {
+                constants.put(constant.toString(), constant);
+            }
+        }
+        // event classes and some enumerations are sent in lower case
+        for (E constant : type.getEnumConstants())
+        {
+            putIfAbsent(constant.name().toLowerCase(), constant);
+            putIfAbsent(constant.toString().toLowerCase(), constant);
+        }
+    }
+
+    private void putIfAbsent(String value, E constant)
+    {
+        if (!constants.containsKey(value))
+        {
+            constants.put(value, constant);
+        }
+    }
+
+    E get(String value)
+    {
+        E constant = constants.get(value);
+        if (constant == null)
+        {
+            constant = constants.get(value.toUpperCase().replace('-', '_'));
+        }
+        return constant == null ? unrecognized : constant;
+    }
+}
@@ -490,6 +490,481 @@ public class Host extends XenAPIObject {
         public Boolean multipathing;
     }
 
+    /**
+     * A host record whose fields are decoded from the raw struct the first time they are read
+     */
+    public static class LazyRecord extends AbstractLazyRecord {
+        static final ResponseDecoder.RecordConverter CONVERTER = new ResponseDecoder.RecordConverter() {
+            public Object convert(Map<String, Object> raw) {
+                return new LazyRecord(raw);
+            }
+        };
+
+        private final Host.Record decoded;
+
+        LazyRecord(Map<String, Object> raw) {
+            super(raw, 58);
+            this.decoded = null;
+        }
+
+        private LazyRecord(Host.Record decoded) {
+            super(null, 0);
+            this.decoded = decoded;
+        }
+
+        /**
+         * Wraps a record that has already been decoded, such as an event snapshot
+         */
+        public static LazyRecord of(Host.Record record) {
+            return record == null ? null : new LazyRecord(record);
+        }
+
+        /**
+         * Decodes all the fields into a Host.Record
+         */
+        public Host.Record toRecord() {
+            return decoded != null ? decoded : Types.toHostRecord(raw());
+        }
+
+        public Map<String,Object> toMap() {
+            return toRecord().toMap();
+        }
+
+        /**
+         * Unique identifier/object reference
+         */
+        public String getUuid() {
+            return decoded != null ? decoded.uuid : (String) field(0, "uuid", raw -> Types.toString(raw));
+        }
+
+        /**
+         * a human-readable name
+         */
+        public String getNameLabel() {
+            return decoded != null ? decoded.nameLabel : (String) field(1, "name_label", raw -> Types.toString(raw));
+        }
+
+        /**
+         * a notes field containing human-readable description
+         */
+        public String getNameDescription() {
+            return decoded != null ? decoded.nameDescription : (String) field(2, "name_description", raw -> Types.toString(raw));
+        }
+
+        /**
+         * Virtualization memory overhead (bytes).
+         */
+        public Long getMemoryOverhead() {
+            return decoded != null ? decoded.memoryOverhead : (Long) field(3, "memory_overhead", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * list of the operations allowed in this state. This list is advisory only and the server state may have changed by the time this field is read by a client.
+         */
+        public Set<Types.HostAllowedOperations> getAllowedOperations() {
+            return decoded != null ? decoded.allowedOperations : (Set<Types.HostAllowedOperations>) field(4, "allowed_operations", raw -> Types.toSetOfHostAllowedOperations(raw));
+        }
+
+        /**
+         * links each of the running tasks using this object (by reference) to a current_operation enum which describes the nature of the task.
+         */
+        public Map<String, Types.HostAllowedOperations> getCurrentOperations() {
+            return decoded != null ? decoded.currentOperations : (Map<String, Types.HostAllowedOperations>) field(5, "current_operations", raw -> Types.toMapOfStringHostAllowedOperations(raw));
+        }
+
+        /**
+         * major version number
+         */
+        public Long getAPIVersionMajor() {
+            return decoded != null ? decoded.APIVersionMajor : (Long) field(6, "API_version_major", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * minor version number
+         */
+        public Long getAPIVersionMinor() {
+            return decoded != null ? decoded.APIVersionMinor : (Long) field(7, "API_version_minor", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * identification of vendor
+         */
+        public String getAPIVersionVendor() {
+            return decoded != null ? decoded.APIVersionVendor : (String) field(8, "API_version_vendor", raw -> Types.toString(raw));
+        }
+
+        /**
+         * details of vendor implementation
+         */
+        public Map<String, String> getAPIVersionVendorImplementation() {
+            return decoded != null ? decoded.APIVersionVendorImplementation : (Map<String, String>) field(9, "API_version_vendor_implementation", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * True if the host is currently enabled
+         */
+        public Boolean getEnabled() {
+            return decoded != null ? decoded.enabled : (Boolean) field(10, "enabled", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * version strings
+         */
+        public Map<String, String> getSoftwareVersion() {
+            return decoded != null ? decoded.softwareVersion : (Map<String, String>) field(11, "software_version", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * additional configuration
+         */
+        public Map<String, String> getOtherConfig() {
+            return decoded != null ? decoded.otherConfig : (Map<String, String>) field(12, "other_config", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * Xen capabilities
+         */
+        public Set<String> getCapabilities() {
+            return decoded != null ? decoded.capabilities : (Set<String>) field(13, "capabilities", raw -> Types.toSetOfString(raw));
+        }
+
+        /**
+         * The CPU configuration on this host.  May contain keys such as "nr_nodes", "sockets_per_node", "cores_per_socket", or "threads_per_core"
+         */
+        public Map<String, String> getCpuConfiguration() {
+            return decoded != null ? decoded.cpuConfiguration : (Map<String, String>) field(14, "cpu_configuration", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * Scheduler policy currently in force on this host
+         */
+        public String getSchedPolicy() {
+            return decoded != null ? decoded.schedPolicy : (String) field(15, "sched_policy", raw -> Types.toString(raw));
+        }
+
+        /**
+         * a list of the bootloaders installed on the machine
+         */
+        public Set<String> getSupportedBootloaders() {
+            return decoded != null ? decoded.supportedBootloaders : (Set<String>) field(16, "supported_bootloaders", raw -> Types.toSetOfString(raw));
+        }
+
+        /**
+         * list of VMs currently resident on host
+         */
+        public Set<VM> getResidentVMs() {
+            return decoded != null ? decoded.residentVMs : (Set<VM>) field(17, "resident_VMs", raw -> Types.toSetOfVM(raw));
+        }
+
+        /**
+         * logging configuration
+         */
+        public Map<String, String> getLogging() {
+            return decoded != null ? decoded.logging : (Map<String, String>) field(18, "logging", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * physical network interfaces
+         */
+        public Set<PIF> getPIFs() {
+            return decoded != null ? decoded.PIFs : (Set<PIF>) field(19, "PIFs", raw -> Types.toSetOfPIF(raw));
+        }
+
+        /**
+         * The SR in which VDIs for suspend images are created
+         */
+        public SR getSuspendImageSr() {
+            return decoded != null ? decoded.suspendImageSr : (SR) field(20, "suspend_image_sr", raw -> Types.toSR(raw));
+        }
+
+        /**
+         * The SR in which VDIs for crash dumps are created
+         */
+        public SR getCrashDumpSr() {
+            return decoded != null ? decoded.crashDumpSr : (SR) field(21, "crash_dump_sr", raw -> Types.toSR(raw));
+        }
+
+        /**
+         * Set of host crash dumps
+         */
+        public Set<HostCrashdump> getCrashdumps() {
+            return decoded != null ? decoded.crashdumps : (Set<HostCrashdump>) field(22, "crashdumps", raw -> Types.toSetOfHostCrashdump(raw));
+        }
+
+        /**
+         * Set of host patches
+         */
+        public Set<HostPatch> getPatches() {
+            return decoded != null ? decoded.patches : (Set<HostPatch>) field(23, "patches", raw -> Types.toSetOfHostPatch(raw));
+        }
+
+        /**
+         * Set of updates
+         * First published in XenServer 7.1.
+         */
+        public Set<PoolUpdate> getUpdates() {
+            return decoded != null ? decoded.updates : (Set<PoolUpdate>) field(24, "updates", raw -> Types.toSetOfPoolUpdate(raw));
+        }
+
+        /**
+         * physical blockdevices
+         */
+        public Set<PBD> getPBDs() {
+            return decoded != null ? decoded.PBDs : (Set<PBD>) field(25, "PBDs", raw -> Types.toSetOfPBD(raw));
+        }
+
+        /**
+         * The physical CPUs on this host
+         */
+        public Set<HostCpu> getHostCPUs() {
+            return decoded != null ? decoded.hostCPUs : (Set<HostCpu>) field(26, "host_CPUs", raw -> Types.toSetOfHostCpu(raw));
+        }
+
+        /**
+         * Details about the physical CPUs on this host
+         * First published in XenServer 5.6.
+         */
+        public Map<String, String> getCpuInfo() {
+            return decoded != null ? decoded.cpuInfo : (Map<String, String>) field(27, "cpu_info", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * The hostname of this host
+         */
+        public String getHostname() {
+            return decoded != null ? decoded.hostname : (String) field(28, "hostname", raw -> Types.toString(raw));
+        }
+
+        /**
+         * The address by which this host can be contacted from any other host in the pool
+         */
+        public String getAddress() {
+            return decoded != null ? decoded.address : (String) field(29, "address", raw -> Types.toString(raw));
+        }
+
+        /**
+         * metrics associated with this host
+         */
+        public HostMetrics getMetrics() {
+            return decoded != null ? decoded.metrics : (HostMetrics) field(30, "metrics", raw -> Types.toHostMetrics(raw));
+        }
+
+        /**
+         * State of the current license
+         */
+        public Map<String, String> getLicenseParams() {
+            return decoded != null ? decoded.licenseParams : (Map<String, String>) field(31, "license_params", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * The set of statefiles accessible from this host
+         * First published in XenServer 5.0.
+         */
+        public Set<String> getHaStatefiles() {
+            return decoded != null ? decoded.haStatefiles : (Set<String>) field(32, "ha_statefiles", raw -> Types.toSetOfString(raw));
+        }
+
+        /**
+         * The set of hosts visible via the network from this host
+         * First published in XenServer 5.0.
+         */
+        public Set<String> getHaNetworkPeers() {
+            return decoded != null ? decoded.haNetworkPeers : (Set<String>) field(33, "ha_network_peers", raw -> Types.toSetOfString(raw));
+        }
+
+        /**
+         * Binary blobs associated with this host
+         * First published in XenServer 5.0.
+         */
+        public Map<String, Blob> getBlobs() {
+            return decoded != null ? decoded.blobs : (Map<String, Blob>) field(34, "blobs", raw -> Types.toMapOfStringBlob(raw));
+        }
+
+        /**
+         * user-specified tags for categorization purposes
+         * First published in XenServer 5.0.
+         */
+        public Set<String> getTags() {
+            return decoded != null ? decoded.tags : (Set<String>) field(35, "tags", raw -> Types.toSetOfString(raw));
+        }
+
+        /**
+         * type of external authentication service configured; empty if none configured.
+         * First published in XenServer 5.5.
+         */
+        public String getExternalAuthType() {
+            return decoded != null ? decoded.externalAuthType : (String) field(36, "external_auth_type", raw -> Types.toString(raw));
+        }
+
+        /**
+         * name of external authentication service configured; empty if none configured.
+         * First published in XenServer 5.5.
+         */
+        public String getExternalAuthServiceName() {
+            return decoded != null ? decoded.externalAuthServiceName : (String) field(37, "external_auth_service_name", raw -> Types.toString(raw));
+        }
+
+        /**
+         * configuration specific to external authentication service
+         * First published in XenServer 5.5.
+         */
+        public Map<String, String> getExternalAuthConfiguration() {
+            return decoded != null ? decoded.externalAuthConfiguration : (Map<String, String>) field(38, "external_auth_configuration", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * Product edition
+         * First published in XenServer 5.6.
+         */
+        public String getEdition() {
+            return decoded != null ? decoded.edition : (String) field(39, "edition", raw -> Types.toString(raw));
+        }
+
+        /**
+         * Contact information of the license server
+         * First published in XenServer 5.6.
+         */
+        public Map<String, String> getLicenseServer() {
+            return decoded != null ? decoded.licenseServer : (Map<String, String>) field(40, "license_server", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * BIOS strings
+         * First published in XenServer 5.6.
+         */
+        public Map<String, String> getBiosStrings() {
+            return decoded != null ? decoded.biosStrings : (Map<String, String>) field(41, "bios_strings", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * The power on mode
+         * First published in XenServer 5.6.
+         */
+        public String getPowerOnMode() {
+            return decoded != null ? decoded.powerOnMode : (String) field(42, "power_on_mode", raw -> Types.toString(raw));
+        }
+
+        /**
+         * The power on config
+         * First published in XenServer 5.6.
+         */
+        public Map<String, String> getPowerOnConfig() {
+            return decoded != null ? decoded.powerOnConfig : (Map<String, String>) field(43, "power_on_config", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * The SR that is used as a local cache
+         * First published in XenServer 5.6 FP1.
+         */
+        public SR getLocalCacheSr() {
+            return decoded != null ? decoded.localCacheSr : (SR) field(44, "local_cache_sr", raw -> Types.toSR(raw));
+        }
+
+        /**
+         * Information about chipset features
+         * First published in XenServer 6.0.
+         */
+        public Map<String, String> getChipsetInfo() {
+            return decoded != null ? decoded.chipsetInfo : (Map<String, String>) field(45, "chipset_info", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * List of PCI devices in the host
+         * First published in XenServer 6.0.
+         */
+        public Set<PCI> getPCIs() {
+            return decoded != null ? decoded.PCIs : (Set<PCI>) field(46, "PCIs", raw -> Types.toSetOfPCI(raw));
+        }
+
+        /**
+         * List of physical GPUs in the host
+         * First published in XenServer 6.0.
+         */
+        public Set<PGPU> getPGPUs() {
+            return decoded != null ? decoded.PGPUs : (Set<PGPU>) field(47, "PGPUs", raw -> Types.toSetOfPGPU(raw));
+        }
+
+        /**
+         * List of physical USBs in the host
+         * First published in XenServer 7.3.
+         */
+        public Set<PUSB> getPUSBs() {
+            return decoded != null ? decoded.PUSBs : (Set<PUSB>) field(48, "PUSBs", raw -> Types.toSetOfPUSB(raw));
+        }
+
+        /**
+         * Allow SSLv3 protocol and ciphersuites as used by older XenServers. This controls both incoming and outgoing connections. When this is set to a different value, the host immediately restarts its SSL/TLS listening service; typically this takes less than a second but existing connections to it will be broken. XenAPI login sessions will remain valid.
+         * First published in XenServer 7.0.
+         */
+        public Boolean getSslLegacy() {
+            return decoded != null ? decoded.sslLegacy : (Boolean) field(49, "ssl_legacy", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * VCPUs params to apply to all resident guests
+         * First published in XenServer 6.1.
+         */
+        public Map<String, String> getGuestVCPUsParams() {
+            return decoded != null ? decoded.guestVCPUsParams : (Map<String, String>) field(50, "guest_VCPUs_params", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * indicates whether the host is configured to output its console to a physical display device
+         * First published in XenServer 6.5 SP1.
+         */
+        public Types.HostDisplay getDisplay() {
+            return decoded != null ? decoded.display : (Types.HostDisplay) field(51, "display", raw -> Types.toHostDisplay(raw));
+        }
+
+        /**
+         * The set of versions of the virtual hardware platform that the host can offer to its guests
+         * First published in XenServer 6.5 SP1.
+         */
+        public Set<Long> getVirtualHardwarePlatformVersions() {
+            return decoded != null ? decoded.virtualHardwarePlatformVersions : (Set<Long>) field(52, "virtual_hardware_platform_versions", raw -> Types.toSetOfLong(raw));
+        }
+
+        /**
+         * The control domain (domain 0)
+         * First published in XenServer 7.1.
+         */
+        public VM getControlDomain() {
+            return decoded != null ? decoded.controlDomain : (VM) field(53, "control_domain", raw -> Types.toVM(raw));
+        }
+
+        /**
+         * List of updates which require reboot
+         * First published in XenServer 7.1.
+         */
+        public Set<PoolUpdate> getUpdatesRequiringReboot() {
+            return decoded != null ? decoded.updatesRequiringReboot : (Set<PoolUpdate>) field(54, "updates_requiring_reboot", raw -> Types.toSetOfPoolUpdate(raw));
+        }
+
+        /**
+         * List of features available on this host
+         * First published in XenServer 7.2.
+         */
+        public Set<Feature> getFeatures() {
+            return decoded != null ? decoded.features : (Set<Feature>) field(55, "features", raw -> Types.toSetOfFeature(raw));
+        }
+
+        /**
+         * The initiator IQN for the host
+         * First published in Unreleased.
+         */
+        public String getIscsiIqn() {
+            return decoded != null ? decoded.iscsiIqn : (String) field(56, "iscsi_iqn", raw -> Types.toString(raw));
+        }
+
+        /**
+         * Specifies whether multipathing is enabled
+         * First published in Unreleased.
+         */
+        public Boolean getMultipathing() {
+            return decoded != null ? decoded.multipathing : (Boolean) field(57, "multipathing", raw -> Types.toBoolean(raw));
+        }
+    }
+
     /**
      * Get a record containing the current state of the given host.
      * First published in XenServer 4.0.
@@ -3833,4 +4308,50 @@ public class Host extends XenAPIObject {
             return Types.toMapOfHostHostRecord(result);
     }
 
+    /**
+     * Return a map of host references to host records for all hosts matching the expression, for example
+     * field "enabled"="true". Only the matching records are sent by the server.
+     *
+     * @param expr The expression to match
+     * @return records of the matching objects
+     */
+    public static Map<Host, Host.Record> getAllRecordsWhere(Connection c, String expr) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "host.get_all_records_where";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(expr)};
+        Map response = c.dispatch(method_call, method_params);
+        Object result = response.get("Value");
+            return Types.toMapOfHostHostRecord(result);
+    }
+
+    /**
+     * Return a map of host references to lazily decoded host records for all hosts known to the system.
+     *
+     * @return records of all objects
+     */
+    public static Map<Host, Host.LazyRecord> getAllLazyRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "host.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        ResponseDecoder.RecordConverter previous = ResponseDecoder.override(method_call, LazyRecord.CONVERTER);
+        Map response;
+        try {
+            response = c.dispatch(method_call, method_params);
+        } finally {
+            ResponseDecoder.override(method_call, previous);
+        }
+        Map<?, ?> result = (Map<?, ?>) response.get("Value");
+        Map<Host, Host.LazyRecord> records = new HashMap<Host, Host.LazyRecord>();
+        for (Map.Entry<?, ?> entry : result.entrySet()) {
+            records.put(Types.toHost(entry.getKey()), (Host.LazyRecord) entry.getValue());
+        }
+        return records;
+    }
+
 }
\ No newline at end of file
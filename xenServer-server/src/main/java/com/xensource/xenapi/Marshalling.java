@@ -38,38 +38,22 @@ import java.util.*;
  */
 public final class Marshalling {
     /**
-     * Converts Integers to Strings
-     * and Sets to Lists recursively.
+     * Checks the value can be sent and returns it unchanged: the client's WireTypeFactory, and JsonRpcClient, write
+     * Longs, enums and references as strings, null as "", Sets as arrays and Maps with their keys' wire strings
+     * straight to the request, so no intermediate collections are made.
      */
     public static Object toXMLRPC(Object o) {
-        if (o instanceof String ||
+        if (o == null ||
+            o instanceof String ||
             o instanceof Boolean ||
             o instanceof Double ||
-            o instanceof Date) {
+            o instanceof Date ||
+            o instanceof Long ||
+            o instanceof Map ||
+            o instanceof Set ||
+            o instanceof XenAPIObject ||
+            o instanceof Enum) {
             return o;
-	} else if (o instanceof Long) {
-	    return o.toString();
-        } else if (o instanceof Map) {
-            Map<Object, Object> result = new HashMap<Object, Object>();
-            Map m = (Map)o;
-            for (Object k : m.keySet())
-            {
-                result.put(toXMLRPC(k), toXMLRPC(m.get(k)));
-            }
-            return result;
-        } else if (o instanceof Set) {
-            List<Object> result = new ArrayList<Object>();
-            for (Object e : ((Set)o))
-            {
-                result.add(toXMLRPC(e));
-            }
-            return result;
-	} else if (o instanceof XenAPIObject) {
-	    return ((XenAPIObject) o).toWireString();
-	} else if (o instanceof Enum) {
-	    return o.toString();
-	}else if (o == null){
-	    return "";
         } else {
 		throw new RuntimeException ("=============don't know how to marshall:({[" + o + "]})");
         }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.xensource.xenapi.Types.BadServerResponse;
+import com.xensource.xenapi.Types.XenAPIException;
+
+import org.apache.xmlrpc.XmlRpcException;
+
+/**
+ * Fetches a few fields of the objects of a class instead of their whole records, for example
+ * {@code new RecordProjection("VM", "uuid", "tags", "power_state", "guest_metrics")}.
+ *
+ * The records of a get_all_records_where call are parsed keeping only the projected members, and known objects are
+ * fetched with one get_<field> call per object and field, all sent at once over the connection's pool. The projected
+ * records hold the raw wire values of their fields, which the Types converters turn into typed values, for example
+ * {@code Types.toSetOfString(record.get("tags"))}.
+ */
+public class RecordProjection
+{
+    /**
+     * Most get_<field> calls queued at once by getRecords, well below ASYNC_QUEUE_CAPACITY so that other
+     * asynchronous calls over the pool still have room
+     */
+    private static final int BATCH_CALLS = ConnectionPool.ASYNC_QUEUE_CAPACITY / 8;
+
+    private final String clazz;
+
+    private final String[] fields;
+
+    private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+
+    /**
+     * @param clazz The class name used on the wire, for example "VM" or "host"
+     * @param fields The wire names of the fields to fetch, for example "power_state"
+     */
+    public RecordProjection(String clazz, String... fields)
+    {
+        this.clazz = clazz;
+        this.fields = fields.clone();
+        for (int i = 0; i < fields.length; i++)
+        {
+            indexes.put(fields[i], i);
+        }
+    }
+
+    /**
+     * The projected fields of an object.
+     */
+    public final class Record
+    {
+        private final Object[] values = new Object[fields.length];
+
+        private Record()
+        {
+        }
+
+        /**
+         * @return The raw value of the field, which must be one of the projection's
+         */
+        public Object get(String field)
+        {
+            Integer index = indexes.get(field);
+            if (index == null)
+            {
+                throw new IllegalArgumentException(field + " is not a field of this projection");
+            }
+            return values[index];
+        }
+
+        @Override
+        public String toString()
+        {
+            Map<String, Object> map = new HashMap<String, Object>();
+            for (int i = 0; i < fields.length; i++)
+            {
+                map.put(fields[i], values[i]);
+            }
+            return map.toString();
+        }
+    }
+
+    private class Converter implements ResponseDecoder.RecordConverter, ResponseDecoder.FieldFilter
+    {
+        public boolean accept(String field)
+        {
+            return indexes.containsKey(field);
+        }
+
+        public Object convert(Map<String, Object> raw)
+        {
+            Record record = new Record();
+            for (int i = 0; i < fields.length; i++)
+            {
+                record.values[i] = raw.get(fields[i]);
+            }
+            return record;
+        }
+    }
+
+    /**
+     * Return the projected records of all the objects of the class.
+     *
+     * @return projected records by object reference
+     */
+    public Map<String, Record> getAllRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException
+    {
+        return getAllRecordsWhere(c, "true");
+    }
+
+    /**
+     * Return the projected records of the objects matching the expression, for example
+     * {@code field "is_a_template"="false"}. The other members of their records are skipped while the response is
+     * parsed.
+     *
+     * @return projected records by object reference
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Record> getAllRecordsWhere(Connection c, String expression) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException
+    {
+        String method_call = clazz + ".get_all_records_where";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(expression)};
+        ResponseDecoder.RecordConverter previous = ResponseDecoder.override(method_call, new Converter());
+        Map response;
+        try
+        {
+            response = c.dispatch(method_call, method_params);
+        }
+        finally
+        {
+            ResponseDecoder.override(method_call, previous);
+        }
+        return (Map<String, Record>) response.get("Value");
+    }
+
+    /**
+     * Return the projected records of the given objects. Each field of each object is read with its own get_<field>
+     * call, and the calls are sent concurrently over the connections of the pool instead of one after another, at
+     * most BATCH_CALLS at a time. The calling thread waits for the calls, so on a dispatch thread of the pool, where
+     * waiting could deadlock the executor, they are made one after another instead. A call the executor rejects
+     * because its queue is full is made on the calling thread too.
+     *
+     * @return projected records by object reference
+     */
+    public Map<String, Record> getRecords(Connection c, Collection<? extends XenAPIObject> objects) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException
+    {
+        Map<String, Record> records = new HashMap<String, Record>();
+        List<XenAPIObject> batch = new ArrayList<XenAPIObject>();
+        int batchSize = Math.max(1, BATCH_CALLS / Math.max(1, fields.length));
+        for (XenAPIObject object : objects)
+        {
+            batch.add(object);
+            if (batch.size() == batchSize)
+            {
+                fetch(c, batch, records);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty())
+        {
+            fetch(c, batch, records);
+        }
+        return records;
+    }
+
+    private void fetch(Connection c, List<XenAPIObject> objects, Map<String, Record> records) throws
+       XenAPIException,
+       XmlRpcException
+    {
+        String session = c.getSessionReference();
+        boolean concurrent = !ConnectionPool.isDispatchThread();
+        List<Object[]> params = new ArrayList<Object[]>(objects.size() * fields.length);
+        List<CompletableFuture<Map>> calls = new ArrayList<CompletableFuture<Map>>(objects.size() * fields.length);
+        for (XenAPIObject object : objects)
+        {
+            for (String field : fields)
+            {
+                Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(object)};
+                params.add(method_params);
+                calls.add(concurrent ? c.dispatchAsync(clazz + ".get_" + field, method_params) : null);
+            }
+        }
+        int call = 0;
+        for (XenAPIObject object : objects)
+        {
+            Record record = new Record();
+            for (int i = 0; i < fields.length; i++)
+            {
+                record.values[i] = await(c, clazz + ".get_" + fields[i], params.get(call), calls.get(call)).get("Value");
+                call++;
+            }
+            records.put(object.toWireString(), record);
+        }
+    }
+
+    /**
+     * Waits for the call, or makes it on the calling thread when it was not queued or the executor rejected it.
+     */
+    private static Map await(Connection c, String method_call, Object[] method_params, CompletableFuture<Map> call) throws
+       XenAPIException,
+       XmlRpcException
+    {
+        if (call == null)
+        {
+            return c.dispatch(method_call, method_params);
+        }
+        try
+        {
+            return call.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new XmlRpcException("Interrupted while waiting for the server", e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RejectedExecutionException)
+            {
+                return c.dispatch(method_call, method_params);
+            }
+            if (cause instanceof XenAPIException)
+            {
+                throw (XenAPIException) cause;
+            }
+            if (cause instanceof XmlRpcException)
+            {
+                throw (XmlRpcException) cause;
+            }
+            throw new XmlRpcException(String.valueOf(cause.getMessage()), cause);
+        }
+    }
+}
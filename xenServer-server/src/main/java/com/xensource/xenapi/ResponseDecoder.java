@@ -0,0 +1,817 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ws.commons.util.Base64;
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.util.SAXParsers;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Decodes the XML-RPC response of a get_all_records style call in a single streaming pass. Each record is
+ * converted to its typed Record as soon as its closing tag is read, so only one record's raw struct is alive
+ * at a time instead of the Map tree of the whole response.
+ *
+ * The decoded "Value" is a map from OpaqueRef strings to typed records, which the Types.toMapOfXXXRecord
+ * functions accept unchanged.
+ */
+public class ResponseDecoder extends DefaultHandler
+{
+    /**
+     * Converts the raw struct of a single record into its typed Record.
+     */
+    public interface RecordConverter
+    {
+        Object convert(Map<String, Object> raw);
+    }
+
+    /**
+     * Implemented by converters that only need some members of each record: the others are skipped while the
+     * response is parsed, without being decoded.
+     */
+    public interface FieldFilter
+    {
+        boolean accept(String field);
+    }
+
+    private static final Map<String, RecordConverter> converters = new ConcurrentHashMap<String, RecordConverter>();
+
+    private static final ThreadLocal<RecordConverter> current = new ThreadLocal<RecordConverter>();
+
+    private static final ThreadLocal<Map<String, RecordConverter>> overrides = new ThreadLocal<Map<String, RecordConverter>>()
+    {
+        protected Map<String, RecordConverter> initialValue()
+        {
+            return new HashMap<String, RecordConverter>();
+        }
+    };
+
+    static
+    {
+        register("blob.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toBlobRecord(raw);
+            }
+        });
+        register("Bond.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toBondRecord(raw);
+            }
+        });
+        register("Cluster.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toClusterRecord(raw);
+            }
+        });
+        register("Cluster_host.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toClusterHostRecord(raw);
+            }
+        });
+        register("console.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toConsoleRecord(raw);
+            }
+        });
+        register("crashdump.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toCrashdumpRecord(raw);
+            }
+        });
+        register("DR_task.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toDRTaskRecord(raw);
+            }
+        });
+        register("Feature.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toFeatureRecord(raw);
+            }
+        });
+        register("GPU_group.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toGPUGroupRecord(raw);
+            }
+        });
+        register("host.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toHostRecord(raw);
+            }
+        });
+        register("host.get_all_records_where", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toHostRecord(raw);
+            }
+        });
+        register("host_cpu.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toHostCpuRecord(raw);
+            }
+        });
+        register("host_crashdump.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toHostCrashdumpRecord(raw);
+            }
+        });
+        register("host_metrics.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toHostMetricsRecord(raw);
+            }
+        });
+        register("host_patch.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toHostPatchRecord(raw);
+            }
+        });
+        register("message.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toMessageRecord(raw);
+            }
+        });
+        register("message.get_all_records_where", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toMessageRecord(raw);
+            }
+        });
+        register("network.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toNetworkRecord(raw);
+            }
+        });
+        register("network_sriov.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toNetworkSriovRecord(raw);
+            }
+        });
+        register("PBD.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPBDRecord(raw);
+            }
+        });
+        register("PCI.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPCIRecord(raw);
+            }
+        });
+        register("PGPU.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPGPURecord(raw);
+            }
+        });
+        register("PIF.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPIFRecord(raw);
+            }
+        });
+        register("PIF_metrics.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPIFMetricsRecord(raw);
+            }
+        });
+        register("PUSB.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPUSBRecord(raw);
+            }
+        });
+        register("PVS_cache_storage.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPVSCacheStorageRecord(raw);
+            }
+        });
+        register("PVS_proxy.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPVSProxyRecord(raw);
+            }
+        });
+        register("PVS_server.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPVSServerRecord(raw);
+            }
+        });
+        register("PVS_site.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPVSSiteRecord(raw);
+            }
+        });
+        register("pool.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPoolRecord(raw);
+            }
+        });
+        register("pool_patch.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPoolPatchRecord(raw);
+            }
+        });
+        register("pool_update.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toPoolUpdateRecord(raw);
+            }
+        });
+        register("role.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toRoleRecord(raw);
+            }
+        });
+        register("SDN_controller.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toSDNControllerRecord(raw);
+            }
+        });
+        register("SM.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toSMRecord(raw);
+            }
+        });
+        register("SR.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toSRRecord(raw);
+            }
+        });
+        register("secret.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toSecretRecord(raw);
+            }
+        });
+        register("subject.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toSubjectRecord(raw);
+            }
+        });
+        register("task.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toTaskRecord(raw);
+            }
+        });
+        register("tunnel.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toTunnelRecord(raw);
+            }
+        });
+        register("USB_group.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toUSBGroupRecord(raw);
+            }
+        });
+        register("VBD.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVBDRecord(raw);
+            }
+        });
+        register("VBD.get_all_records_where", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVBDRecord(raw);
+            }
+        });
+        register("VBD_metrics.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVBDMetricsRecord(raw);
+            }
+        });
+        register("VDI.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVDIRecord(raw);
+            }
+        });
+        register("VDI.get_all_records_where", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVDIRecord(raw);
+            }
+        });
+        register("VGPU.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVGPURecord(raw);
+            }
+        });
+        register("VGPU_type.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVGPUTypeRecord(raw);
+            }
+        });
+        register("VIF.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVIFRecord(raw);
+            }
+        });
+        register("VIF_metrics.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVIFMetricsRecord(raw);
+            }
+        });
+        register("VLAN.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVLANRecord(raw);
+            }
+        });
+        register("VM.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVMRecord(raw);
+            }
+        });
+        register("VM.get_all_records_where", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVMRecord(raw);
+            }
+        });
+        register("VM_appliance.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVMApplianceRecord(raw);
+            }
+        });
+        register("VM_guest_metrics.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVMGuestMetricsRecord(raw);
+            }
+        });
+        register("VM_metrics.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVMMetricsRecord(raw);
+            }
+        });
+        register("VMPP.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVMPPRecord(raw);
+            }
+        });
+        register("VMSS.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVMSSRecord(raw);
+            }
+        });
+        register("VUSB.get_all_records", new RecordConverter()
+        {
+            public Object convert(Map<String, Object> raw)
+            {
+                return Types.toVUSBRecord(raw);
+            }
+        });
+    }
+
+    /**
+     * Decode the records returned by the given method with the given converter.
+     */
+    public static void register(String method_call, RecordConverter converter)
+    {
+        converters.put(method_call, converter);
+    }
+
+    static RecordConverter forMethod(String method_call)
+    {
+        RecordConverter converter = overrides.get().get(method_call);
+        return converter != null ? converter : converters.get(method_call);
+    }
+
+    /**
+     * Makes the calls to the given method made on this thread decode their records with the given converter instead
+     * of the registered one, until the previous override, which is returned, is restored.
+     */
+    static RecordConverter override(String method_call, RecordConverter converter)
+    {
+        if (converter == null)
+        {
+            return overrides.get().remove(method_call);
+        }
+        return overrides.get().put(method_call, converter);
+    }
+
+    /**
+     * Makes the transport decode the responses read on this thread with the given converter, until end() is called.
+     */
+    static void begin(RecordConverter converter)
+    {
+        current.set(converter);
+    }
+
+    static void end()
+    {
+        current.remove();
+    }
+
+    /**
+     * @return The converter the response currently being read on this thread should be decoded with, if any.
+     */
+    static RecordConverter active()
+    {
+        return current.get();
+    }
+
+    /**
+     * Parses a methodResponse, converting the records of its "Value" member with the given converter.
+     *
+     * @return The response struct, as returned by XmlRpcClient.execute
+     */
+    static Object parse(InputStream stream, RecordConverter converter) throws XmlRpcException
+    {
+        ResponseDecoder decoder = new ResponseDecoder(converter);
+        try
+        {
+            XMLReader reader = SAXParsers.newXMLReader();
+            reader.setContentHandler(decoder);
+            reader.parse(new InputSource(stream));
+        }
+        catch (SAXException e)
+        {
+            throw new XmlRpcException("Failed to parse server's response: " + e.getMessage(), e);
+        }
+        catch (IOException e)
+        {
+            throw new XmlRpcException("Failed to read server's response: " + e.getMessage(), e);
+        }
+        if (decoder.fault)
+        {
+            Map fault = (Map) decoder.result;
+            Object code = fault.get("faultCode");
+            throw new XmlRpcException(code instanceof Integer ? (Integer) code : 0, (String) fault.get("faultString"));
+        }
+        return decoder.result;
+    }
+
+    /**
+     * An open struct or array. Values completed inside it are added to it.
+     */
+    private static class Frame
+    {
+        final Map<String, Object> struct;
+        final List<Object> array;
+        String memberName;
+        boolean record;
+
+        Frame(Map<String, Object> struct, List<Object> array)
+        {
+            this.struct = struct;
+            this.array = array;
+        }
+
+        void add(Object value)
+        {
+            if (struct != null)
+            {
+                struct.put(memberName, value);
+            }
+            else
+            {
+                array.add(value);
+            }
+        }
+
+        Object value()
+        {
+            return struct != null ? struct : array.toArray();
+        }
+    }
+
+    /**
+     * The struct of records: each member is converted as soon as it is complete.
+     */
+    private class RecordsFrame extends Frame
+    {
+        RecordsFrame()
+        {
+            super(new HashMap<String, Object>(), null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void add(Object value)
+        {
+            struct.put(memberName, converter.convert((Map<String, Object>) value));
+        }
+    }
+
+    private final RecordConverter converter;
+    private final List<Frame> frames = new ArrayList<Frame>();
+    private final StringBuilder text = new StringBuilder();
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd'T'HH:mm:ss");
+    private final FieldFilter filter;
+    private int skipDepth;
+    private String type;
+    private boolean typed;
+    private boolean fault;
+    private Object result;
+
+    private ResponseDecoder(RecordConverter converter)
+    {
+        this.converter = converter;
+        this.filter = converter instanceof FieldFilter ? (FieldFilter) converter : null;
+        this.dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes)
+    {
+        if (skipDepth > 0)
+        {
+            skipDepth++;
+            return;
+        }
+        String name = localName.length() == 0 ? qName : localName;
+        text.setLength(0);
+        if (name.equals("value"))
+        {
+            type = null;
+            typed = false;
+        }
+        else if (name.equals("struct"))
+        {
+            typed = true;
+            Frame frame = isRecordsStruct() ? new RecordsFrame() : new Frame(new HashMap<String, Object>(), null);
+            frame.record = !frames.isEmpty() && frames.get(frames.size() - 1) instanceof RecordsFrame;
+            frames.add(frame);
+        }
+        else if (name.equals("array"))
+        {
+            typed = true;
+            frames.add(new Frame(null, new ArrayList<Object>()));
+        }
+        else if (name.equals("fault"))
+        {
+            fault = true;
+        }
+        else if (!name.equals("member") && !name.equals("name") && !name.equals("data") && !name.equals("methodResponse")
+                && !name.equals("params") && !name.equals("param"))
+        {
+            type = name;
+            typed = true;
+        }
+    }
+
+    /**
+     * The "Value" member of the top level struct holds the records when the call returned successfully.
+     */
+    private boolean isRecordsStruct()
+    {
+        return converter != null && frames.size() == 1 && "Value".equals(frames.get(0).memberName);
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length)
+    {
+        if (skipDepth > 0)
+        {
+            return;
+        }
+        text.append(ch, start, length);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException
+    {
+        if (skipDepth > 0)
+        {
+            skipDepth--;
+            return;
+        }
+        String name = localName.length() == 0 ? qName : localName;
+        if (name.equals("name"))
+        {
+            Frame frame = frames.get(frames.size() - 1);
+            frame.memberName = text.toString();
+            if (frame.record && filter != null && !filter.accept(frame.memberName))
+            {
+                // ignore the rest of the member, down to its </member>
+                skipDepth = 1;
+            }
+        }
+        else if (name.equals("struct") || name.equals("array"))
+        {
+            Frame frame = frames.remove(frames.size() - 1);
+            complete(frame.value());
+            typed = true;
+        }
+        else if (name.equals("value") && !typed)
+        {
+            complete(text.toString());
+        }
+        else if (type != null && name.equals(type))
+        {
+            complete(decodeScalar(type, text.toString()));
+            type = null;
+        }
+        text.setLength(0);
+    }
+
+    private void complete(Object value)
+    {
+        if (frames.isEmpty())
+        {
+            result = value;
+        }
+        else
+        {
+            frames.get(frames.size() - 1).add(value);
+        }
+    }
+
+    private Object decodeScalar(String type, String value) throws SAXException
+    {
+        try
+        {
+            if (type.equals("string"))
+            {
+                return value;
+            }
+            if (type.equals("boolean"))
+            {
+                return Boolean.valueOf(value.trim().equals("1"));
+            }
+            if (type.equals("i4") || type.equals("int"))
+            {
+                return Integer.valueOf(value.trim());
+            }
+            if (type.equals("i8"))
+            {
+                return Long.valueOf(value.trim());
+            }
+            if (type.equals("double"))
+            {
+                return Double.valueOf(value.trim());
+            }
+            if (type.equals("dateTime.iso8601"))
+            {
+                Date date = dateFormat.parse(value.trim().replace("-", ""), new ParsePosition(0));
+                if (date == null)
+                {
+                    throw new SAXException("Invalid dateTime value: " + value);
+                }
+                return date;
+            }
+            if (type.equals("base64"))
+            {
+                return Base64.decode(value);
+            }
+            if (type.equals("nil") || type.endsWith(":nil"))
+            {
+                return null;
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            throw new SAXException("Invalid " + type + " value: " + value);
+        }
+        catch (Base64.DecodingException e)
+        {
+            throw new SAXException("Invalid base64 value: " + e.getMessage());
+        }
+        throw new SAXException("Unknown type: " + type);
+    }
+}
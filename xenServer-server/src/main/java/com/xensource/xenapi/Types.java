@@ -37,6 +37,9 @@ import java.util.HashMap;
 import java.util.Set;
 import java.util.LinkedHashSet;
 import java.io.IOException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.TimeZone;
 
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
@@ -170,2516 +173,572 @@ public class Types
 
         return matcher.group(1);
     }
-      /**
-     * Checks the provided server response was successful. If the call failed, throws a XenAPIException. If the server
-     * returned an invalid response, throws a BadServerResponse. Otherwise, returns the server response as passed in.
+
+    /**
+     * Returns the value an asynchronous call returned, as recorded in the record of its finished task, for example
+     * the reference of the VM a VM.createCloneAsync call created. A failed task throws the exception the
+     * synchronous call would have thrown.
      */
-    static Map checkResponse(Map response) throws XenAPIException, BadServerResponse
+    public static String toAsyncResult(Task.Record task) throws XenAPIException
     {
-        if (response.get("Status").equals("Success"))
+        if (task.status == TaskStatusType.FAILURE)
         {
-            return response;
+            throw toException(task.errorInfo.toArray(new String[task.errorInfo.size()]));
         }
-
-        if (response.get("Status").equals("Failure"))
+        if (task.status != TaskStatusType.SUCCESS)
         {
-            String[] ErrorDescription = ObjectArrayToStringArray((Object[]) response.get("ErrorDescription"));
+            throw new BadAsyncResult("Task " + task.uuid + " is " + task.status);
+        }
+        return parseResult(task.result);
+    }
 
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_DOMAIN_LOOKUP_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedDomainLookupFailed(p1);
-            }
-            if (ErrorDescription[0].equals("PVS_SITE_CONTAINS_RUNNING_PROXIES"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsSiteContainsRunningProxies(p1);
-            }
-            if (ErrorDescription[0].equals("HA_ENABLE_IN_PROGRESS"))
-            {
-                throw new Types.HaEnableInProgress();
-            }
-            if (ErrorDescription[0].equals("DISK_VBD_MUST_BE_READWRITE_FOR_HVM"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DiskVbdMustBeReadwriteForHvm(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_UNKNOWN_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UpdatePrecheckFailedUnknownError(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_NOT_IN_MAP"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNotInMap(p1);
-            }
-            if (ErrorDescription[0].equals("SR_FULL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.SrFull(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_DISABLED_UNTIL_REBOOT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostDisabledUntilReboot(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_NOT_PHYSICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsNotPhysical(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_CONTACT_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotContactHost(p1);
-            }
-            if (ErrorDescription[0].equals("EVENT_SUBSCRIPTION_PARSE_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.EventSubscriptionParseFailure(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_PREMATURE_EOF"))
-            {
-                throw new Types.ImportErrorPrematureEof();
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_CONTAIN_SHARED_SRS"))
-            {
-                throw new Types.JoiningHostCannotContainSharedSrs();
-            }
-            if (ErrorDescription[0].equals("CANNOT_ADD_TUNNEL_TO_VLAN_ON_SRIOV_LOGICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotAddTunnelToVlanOnSriovLogical(p1);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_STACK_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusterStackInUse(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_DISABLE_FAILED_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthDisableFailedPermissionDenied(p1);
-            }
-            if (ErrorDescription[0].equals("VM_CHECKPOINT_RESUME_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmCheckpointResumeFailed(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_CREATING_SNAPSHOT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorCreatingSnapshot(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_ALREADY_BONDED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifAlreadyBonded(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_HAS_NO_MANAGEMENT_IP"))
-            {
-                throw new Types.HostHasNoManagementIp();
-            }
-            if (ErrorDescription[0].equals("CLUSTER_ALREADY_EXISTS"))
-            {
-                throw new Types.ClusterAlreadyExists();
-            }
-            if (ErrorDescription[0].equals("INCOMPATIBLE_CLUSTER_STACK_ACTIVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.IncompatibleClusterStackActive(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_UNKNOWN_TO_MASTER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostUnknownToMaster(p1);
-            }
-            if (ErrorDescription[0].equals("ACTIVATION_WHILE_NOT_FREE"))
-            {
-                throw new Types.ActivationWhileNotFree();
-            }
-            if (ErrorDescription[0].equals("PUSB_VDI_CONFLICT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PusbVdiConflict(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_VLAN_ON_BRIDGE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithVlanOnBridge(p1);
-            }
-            if (ErrorDescription[0].equals("VM_CALL_PLUGIN_RATE_LIMIT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmCallPluginRateLimit(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VM_ASSIGNED_TO_PROTECTION_POLICY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmAssignedToProtectionPolicy(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresSr(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_ITS_OWN_SLAVE"))
-            {
-                throw new Types.HostItsOwnSlave();
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_AUTHENTICATION_FAILED"))
-            {
-                throw new Types.WlbXenserverAuthenticationFailed();
-            }
-            if (ErrorDescription[0].equals("NETWORK_SRIOV_DISABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkSriovDisableFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CPU_FEATURE_MASKING_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CpuFeatureMaskingNotSupported(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_CD_DRIVE_EMPTY"))
-            {
-                throw new Types.HostCdDriveEmpty();
-            }
-            if (ErrorDescription[0].equals("PGPU_INSUFFICIENT_CAPACITY_FOR_VGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PgpuInsufficientCapacityForVgpu(p1, p2);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_HAS_BONDS"))
-            {
-                throw new Types.PoolJoiningHostHasBonds();
-            }
-            if (ErrorDescription[0].equals("HA_CONSTRAINT_VIOLATION_SR_NOT_SHARED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaConstraintViolationSrNotShared(p1);
-            }
-            if (ErrorDescription[0].equals("SUBJECT_CANNOT_BE_RESOLVED"))
-            {
-                throw new Types.SubjectCannotBeResolved();
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_DUPLICATE_HOSTNAME"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedDuplicateHostname(p1, p2);
-            }
-            if (ErrorDescription[0].equals("AUTH_DISABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthDisableFailed(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailed(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_SERVICE_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthServiceError(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_DISABLE_FAILED_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthDisableFailedPermissionDenied(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_NO_VCPUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmNoVcpus(p1);
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE_STATIC_IP_SETTING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeatureStaticIpSetting(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_INCOMPATIBLE_PRIMARY_ADDRESS_TYPE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIncompatiblePrimaryAddressType(p1);
-            }
-            if (ErrorDescription[0].equals("VMPP_HAS_VM"))
-            {
-                throw new Types.VmppHasVm();
-            }
-            if (ErrorDescription[0].equals("TASK_CANCELLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.TaskCancelled(p1);
-            }
-            if (ErrorDescription[0].equals("GPU_GROUP_CONTAINS_PGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.GpuGroupContainsPgpu(p1);
-            }
-            if (ErrorDescription[0].equals("HA_CONSTRAINT_VIOLATION_NETWORK_NOT_SHARED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaConstraintViolationNetworkNotShared(p1);
-            }
-            if (ErrorDescription[0].equals("VBD_TRAY_LOCKED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdTrayLocked(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_VLAN_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifVlanExists(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MANAGEMENT_VLAN_DOES_NOT_MATCH"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolJoiningHostManagementVlanDoesNotMatch(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PVS_PROXY_ALREADY_PRESENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsProxyAlreadyPresent(p1);
-            }
-            if (ErrorDescription[0].equals("VM_BIOS_STRINGS_ALREADY_SET"))
-            {
-                throw new Types.VmBiosStringsAlreadySet();
-            }
-            if (ErrorDescription[0].equals("MESSAGE_REMOVED"))
-            {
-                throw new Types.MessageRemoved();
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_UNEXPECTED_FILE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.ImportErrorUnexpectedFile(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_IS_PART_OF_AN_APPLIANCE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmIsPartOfAnAppliance(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_WRONG_SERVER_BUILD"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.PatchPrecheckFailedWrongServerBuild(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_FORCE_DESTROY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusterForceDestroyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_CONTAINS_VIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkContainsVif(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_OUT_OF_SPACE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.PatchPrecheckFailedOutOfSpace(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("IMPORT_INCOMPATIBLE_VERSION"))
-            {
-                throw new Types.ImportIncompatibleVersion();
-            }
-            if (ErrorDescription[0].equals("VIF_NOT_IN_MAP"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VifNotInMap(p1);
-            }
-            if (ErrorDescription[0].equals("OUT_OF_SPACE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.OutOfSpace(p1);
-            }
-            if (ErrorDescription[0].equals("PBD_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.PbdExists(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("HOST_MASTER_CANNOT_TALK_BACK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostMasterCannotTalkBack(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_CIDR_ADDRESS_SPECIFIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidCidrAddressSpecified(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_CONNECTION_RESET"))
-            {
-                throw new Types.WlbConnectionReset();
-            }
-            if (ErrorDescription[0].equals("UPDATE_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdateAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("SR_BACKEND_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.SrBackendFailure(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("SR_ATTACH_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrAttachFailed(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_VM_RUNNING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchPrecheckFailedVmRunning(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_ENABLE_REDO_LOG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotEnableRedoLog(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_DISABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostDisabled(p1);
-            }
-            if (ErrorDescription[0].equals("VLAN_TAG_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VlanTagInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("FAILED_TO_START_EMULATOR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.FailedToStartEmulator(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_INVALID_OU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedInvalidOu(p1);
-            }
-            if (ErrorDescription[0].equals("OBJECT_NOLONGER_EXISTS"))
-            {
-                throw new Types.ObjectNolongerExists();
-            }
-            if (ErrorDescription[0].equals("FEATURE_RESTRICTED"))
-            {
-                throw new Types.FeatureRestricted();
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_UNKNOWN_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PatchPrecheckFailedUnknownError(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_CREATE_IN_PROGRESS"))
-            {
-                throw new Types.ClusterCreateInProgress();
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeature(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_PATCH_WITH_LOG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidPatchWithLog(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_INVALID_ACCOUNT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedInvalidAccount(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_ADDING_VOLUME_TO_SNAPSET_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorAddingVolumeToSnapsetFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_PREREQUISITE_MISSING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PatchPrecheckFailedPrerequisiteMissing(p1, p2);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_PREPARING_WRITERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorPreparingWriters(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE_SUSPEND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeatureSuspend(p1);
-            }
-            if (ErrorDescription[0].equals("BACKUP_SCRIPT_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.BackupScriptFailed(p1);
-            }
-            if (ErrorDescription[0].equals("TOO_MANY_STORAGE_MIGRATES"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.TooManyStorageMigrates(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_MALFORMED_REQUEST"))
-            {
-                throw new Types.WlbMalformedRequest();
-            }
-            if (ErrorDescription[0].equals("IS_TUNNEL_ACCESS_PIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.IsTunnelAccessPif(p1);
-            }
-            if (ErrorDescription[0].equals("OPERATION_BLOCKED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.OperationBlocked(p1, p2);
-            }
-            if (ErrorDescription[0].equals("TLS_CONNECTION_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.TlsConnectionFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SR_DOES_NOT_SUPPORT_MIGRATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrDoesNotSupportMigration(p1);
-            }
-            if (ErrorDescription[0].equals("TOO_BUSY"))
-            {
-                throw new Types.TooBusy();
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE_SHUTDOWN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeatureShutdown(p1);
-            }
-            if (ErrorDescription[0].equals("PVS_SERVER_ADDRESS_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsServerAddressInUse(p1);
-            }
-            if (ErrorDescription[0].equals("PROVISION_FAILED_OUT_OF_SPACE"))
-            {
-                throw new Types.ProvisionFailedOutOfSpace();
-            }
-            if (ErrorDescription[0].equals("WLB_CONNECTION_REFUSED"))
-            {
-                throw new Types.WlbConnectionRefused();
-            }
-            if (ErrorDescription[0].equals("DOMAIN_BUILDER_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.DomainBuilderError(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("RBAC_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.RbacPermissionDenied(p1, p2);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_HAS_NON_MANAGEMENT_VLANS"))
-            {
-                throw new Types.PoolJoiningHostHasNonManagementVlans();
-            }
-            if (ErrorDescription[0].equals("PIF_BOND_NEEDS_MORE_MEMBERS"))
-            {
-                throw new Types.PifBondNeedsMoreMembers();
-            }
-            if (ErrorDescription[0].equals("PATCH_IS_APPLIED"))
-            {
-                throw new Types.PatchIsApplied();
-            }
-            if (ErrorDescription[0].equals("VM_HAS_PCI_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasPciAttached(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_DOMAIN_LOOKUP_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedDomainLookupFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CANNOT_PLUG_BOND_SLAVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotPlugBondSlave(p1);
-            }
-            if (ErrorDescription[0].equals("USER_IS_NOT_LOCAL_SUPERUSER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UserIsNotLocalSuperuser(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_CREATE_STATE_FILE"))
-            {
-                throw new Types.CannotCreateStateFile();
-            }
-            if (ErrorDescription[0].equals("MAC_STILL_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MacStillExists(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_OUT_OF_SPACE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.UpdatePrecheckFailedOutOfSpace(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("AUTH_UNKNOWN_TYPE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthUnknownType(p1);
-            }
-            if (ErrorDescription[0].equals("VM_MIGRATE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                String p4 = ErrorDescription.length > 4 ? ErrorDescription[4] : "";
-                throw new Types.VmMigrateFailed(p1, p2, p3, p4);
-            }
-            if (ErrorDescription[0].equals("HOST_POWER_ON_MODE_DISABLED"))
-            {
-                throw new Types.HostPowerOnModeDisabled();
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_PROV_NOT_LOADED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorProvNotLoaded(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SYSTEM_STATUS_RETRIEVAL_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SystemStatusRetrievalFailed(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_NOT_LIVE"))
-            {
-                throw new Types.HostNotLive();
-            }
-            if (ErrorDescription[0].equals("CANNOT_CHANGE_PIF_PROPERTIES"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotChangePifProperties(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_UNAVAILABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedUnavailable(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NETWORK_HAS_INCOMPATIBLE_SRIOV_PIFS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkHasIncompatibleSriovPifs(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_CHECKPOINT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasCheckpoint(p1);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_TOO_MANY_SNAPSHOTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasTooManySnapshots(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_HAVE_SAME_API_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolJoiningHostMustHaveSameApiVersion(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CANNOT_FORGET_SRIOV_LOGICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotForgetSriovLogical(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_NOT_MANAGED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNotManaged(p1);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_NETWORK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresNetwork(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CLUSTER_DOES_NOT_HAVE_ONE_NODE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusterDoesNotHaveOneNode(p1);
-            }
-            if (ErrorDescription[0].equals("COULD_NOT_IMPORT_DATABASE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CouldNotImportDatabase(p1);
-            }
-            if (ErrorDescription[0].equals("VM_HOST_INCOMPATIBLE_VERSION_MIGRATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmHostIncompatibleVersionMigrate(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_IN_EMERGENCY_MODE"))
-            {
-                throw new Types.HostInEmergencyMode();
-            }
-            if (ErrorDescription[0].equals("HA_LOST_STATEFILE"))
-            {
-                throw new Types.HaLostStatefile();
-            }
-            if (ErrorDescription[0].equals("PIF_DEVICE_NOT_FOUND"))
-            {
-                throw new Types.PifDeviceNotFound();
-            }
-            if (ErrorDescription[0].equals("SR_INDESTRUCTIBLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrIndestructible(p1);
-            }
-            if (ErrorDescription[0].equals("PGPU_IN_USE_BY_VM"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PgpuInUseByVm(p1);
-            }
-            if (ErrorDescription[0].equals("BRIDGE_NOT_AVAILABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.BridgeNotAvailable(p1);
-            }
-            if (ErrorDescription[0].equals("XAPI_HOOK_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                String p4 = ErrorDescription.length > 4 ? ErrorDescription[4] : "";
-                throw new Types.XapiHookFailed(p1, p2, p3, p4);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_WRONG_SERVER_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.PatchPrecheckFailedWrongServerVersion(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("HA_FAILED_TO_FORM_LIVESET"))
-            {
-                throw new Types.HaFailedToFormLiveset();
-            }
-            if (ErrorDescription[0].equals("VDI_NOT_AVAILABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNotAvailable(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_MALFORMED_RESPONSE"))
-            {
-                throw new Types.WlbXenserverMalformedResponse();
-            }
-            if (ErrorDescription[0].equals("NOT_SUPPORTED_DURING_UPGRADE"))
-            {
-                throw new Types.NotSupportedDuringUpgrade();
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CONNECTION_FAILED"))
-            {
-                throw new Types.JoiningHostConnectionFailed();
-            }
-            if (ErrorDescription[0].equals("FEATURE_REQUIRES_HVM"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.FeatureRequiresHvm(p1);
-            }
-            if (ErrorDescription[0].equals("SUSPEND_IMAGE_NOT_ACCESSIBLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SuspendImageNotAccessible(p1);
-            }
-            if (ErrorDescription[0].equals("TOO_MANY_PENDING_TASKS"))
-            {
-                throw new Types.TooManyPendingTasks();
-            }
-            if (ErrorDescription[0].equals("CANNOT_PLUG_VIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotPlugVif(p1);
-            }
-            if (ErrorDescription[0].equals("OTHER_OPERATION_IN_PROGRESS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.OtherOperationInProgress(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_NOT_PRESENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PifNotPresent(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CLUSTERING_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusteringEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("USB_GROUP_CONTAINS_VUSB"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UsbGroupContainsVusb(p1);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_VUSB"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresVusb(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_BOND_MORE_THAN_ONE_IP"))
-            {
-                throw new Types.PifBondMoreThanOneIp();
-            }
-            if (ErrorDescription[0].equals("PIF_IS_PHYSICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsPhysical(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_BOND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithBond(p1);
-            }
-            if (ErrorDescription[0].equals("MESSAGE_DEPRECATED"))
-            {
-                throw new Types.MessageDeprecated();
-            }
-            if (ErrorDescription[0].equals("VDI_CONTAINS_METADATA_OF_THIS_POOL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiContainsMetadataOfThisPool(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_SNAPSHOT_WITH_QUIESCE_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmSnapshotWithQuiesceTimeout(p1);
-            }
-            if (ErrorDescription[0].equals("VM_HVM_REQUIRED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHvmRequired(p1);
-            }
-            if (ErrorDescription[0].equals("SR_SOURCE_SPACE_INSUFFICIENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrSourceSpaceInsufficient(p1);
-            }
-            if (ErrorDescription[0].equals("HA_NO_PLAN"))
-            {
-                throw new Types.HaNoPlan();
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_VGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmRequiresVgpu(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("WLB_AUTHENTICATION_FAILED"))
-            {
-                throw new Types.WlbAuthenticationFailed();
-            }
-            if (ErrorDescription[0].equals("VBD_CDS_MUST_BE_READONLY"))
-            {
-                throw new Types.VbdCdsMustBeReadonly();
-            }
-            if (ErrorDescription[0].equals("GPU_GROUP_CONTAINS_NO_PGPUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.GpuGroupContainsNoPgpus(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_HAS_RESIDENT_VMS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostHasResidentVms(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_DISABLED"))
-            {
-                throw new Types.WlbDisabled();
-            }
-            if (ErrorDescription[0].equals("LICENSE_EXPIRED"))
-            {
-                throw new Types.LicenseExpired();
-            }
-            if (ErrorDescription[0].equals("HA_OPERATION_WOULD_BREAK_FAILOVER_PLAN"))
-            {
-                throw new Types.HaOperationWouldBreakFailoverPlan();
-            }
-            if (ErrorDescription[0].equals("VM_BAD_POWER_STATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmBadPowerState(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("INCOMPATIBLE_PIF_PROPERTIES"))
-            {
-                throw new Types.IncompatiblePifProperties();
-            }
-            if (ErrorDescription[0].equals("USB_ALREADY_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UsbAlreadyAttached(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_IOMMU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmRequiresIommu(p1);
-            }
-            if (ErrorDescription[0].equals("HOSTS_NOT_HOMOGENEOUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostsNotHomogeneous(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_IS_LIVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostIsLive(p1);
-            }
-            if (ErrorDescription[0].equals("VM_IS_IMMOBILE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmIsImmobile(p1);
-            }
-            if (ErrorDescription[0].equals("VM_NO_EMPTY_CD_VBD"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmNoEmptyCdVbd(p1);
-            }
-            if (ErrorDescription[0].equals("TOO_MANY_VUSBS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.TooManyVusbs(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_ALREADY_APPLIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdateAlreadyApplied(p1);
-            }
-            if (ErrorDescription[0].equals("VM_ATTACHED_TO_MORE_THAN_ONE_VDI_WITH_TIMEOFFSET_MARKED_AS_RESET_ON_BOOT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmAttachedToMoreThanOneVdiWithTimeoffsetMarkedAsResetOnBoot(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_SRIOV"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithSriov(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_HAVE_SAME_PRODUCT_VERSION"))
-            {
-                throw new Types.PoolJoiningHostMustHaveSameProductVersion();
-            }
-            if (ErrorDescription[0].equals("HOST_IS_SLAVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostIsSlave(p1);
-            }
-            if (ErrorDescription[0].equals("UNKNOWN_BOOTLOADER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UnknownBootloader(p1, p2);
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_SERVICE_FAILED"))
-            {
-                throw new Types.JoiningHostServiceFailed();
-            }
-            if (ErrorDescription[0].equals("BALLOONING_TIMEOUT_BEFORE_MIGRATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.BallooningTimeoutBeforeMigration(p1);
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_BE_MASTER_OF_OTHER_HOSTS"))
-            {
-                throw new Types.JoiningHostCannotBeMasterOfOtherHosts();
-            }
-            if (ErrorDescription[0].equals("DEVICE_ALREADY_DETACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DeviceAlreadyDetached(p1);
-            }
-            if (ErrorDescription[0].equals("ADDRESS_VIOLATES_LOCKING_CONSTRAINT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AddressViolatesLockingConstraint(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_SRIOV_ALREADY_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkSriovAlreadyEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_PREREQUISITE_MISSING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UpdatePrecheckFailedPrerequisiteMissing(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_INCOMPATIBLE_TYPE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiIncompatibleType(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_MEMORY_SIZE_TOO_LOW"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmMemorySizeTooLow(p1);
-            }
-            if (ErrorDescription[0].equals("VM_TO_IMPORT_IS_NOT_NEWER_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmToImportIsNotNewerVersion(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("SR_HAS_PBD"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrHasPbd(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_DOES_NOT_ALLOW_UNPLUG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifDoesNotAllowUnplug(p1);
-            }
-            if (ErrorDescription[0].equals("PVS_CACHE_STORAGE_IS_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsCacheStorageIsInUse(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_NOT_SRIOV_CAPABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsNotSriovCapable(p1);
-            }
-            if (ErrorDescription[0].equals("DEVICE_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DeviceAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_START_SNAPSHOT_SET_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorStartSnapshotSetFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_HALTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHalted(p1);
-            }
-            if (ErrorDescription[0].equals("SESSION_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SessionInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_COPY_FAILED"))
-            {
-                throw new Types.VdiCopyFailed();
-            }
-            if (ErrorDescription[0].equals("VDI_NOT_SPARSE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNotSparse(p1);
-            }
-            if (ErrorDescription[0].equals("ROLE_NOT_FOUND"))
-            {
-                throw new Types.RoleNotFound();
-            }
-            if (ErrorDescription[0].equals("INVALID_IP_ADDRESS_SPECIFIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidIpAddressSpecified(p1);
-            }
-            if (ErrorDescription[0].equals("XENAPI_PLUGIN_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.XenapiPluginFailure(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("HOST_CANNOT_READ_METRICS"))
-            {
-                throw new Types.HostCannotReadMetrics();
-            }
-            if (ErrorDescription[0].equals("VBD_NOT_EMPTY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdNotEmpty(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_TUNNEL_STILL_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifTunnelStillExists(p1);
-            }
-            if (ErrorDescription[0].equals("DEVICE_DETACH_REJECTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.DeviceDetachRejected(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("PATCH_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_TUNNEL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithTunnel(p1);
-            }
-            if (ErrorDescription[0].equals("HA_CANNOT_CHANGE_BOND_STATUS_OF_MGMT_IFACE"))
-            {
-                throw new Types.HaCannotChangeBondStatusOfMgmtIface();
-            }
-            if (ErrorDescription[0].equals("HA_HOST_IS_ARMED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaHostIsArmed(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_HAS_INCOMPATIBLE_VLAN_ON_SRIOV_PIFS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkHasIncompatibleVlanOnSriovPifs(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SR_HAS_NO_PBDS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrHasNoPbds(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_UPDATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidUpdate(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_IS_NOT_ISO"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiIsNotIso(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_NO_CRASHDUMP_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmNoCrashdumpSr(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_ADD_VLAN_TO_BOND_SLAVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotAddVlanToBondSlave(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_FIND_STATE_PARTITION"))
-            {
-                throw new Types.CannotFindStatePartition();
-            }
-            if (ErrorDescription[0].equals("VM_HOST_INCOMPATIBLE_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmHostIncompatibleVersion(p1, p2);
-            }
-            if (ErrorDescription[0].equals("DEVICE_NOT_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DeviceNotAttached(p1);
-            }
-            if (ErrorDescription[0].equals("VM_ASSIGNED_TO_SNAPSHOT_SCHEDULE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmAssignedToSnapshotSchedule(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_CHECKPOINT_SUSPEND_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmCheckpointSuspendFailed(p1);
-            }
-            if (ErrorDescription[0].equals("MAC_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MacInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_VLAN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsVlan(p1);
-            }
-            if (ErrorDescription[0].equals("V6D_FAILURE"))
-            {
-                throw new Types.V6dFailure();
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_HAVE_RUNNING_VMS"))
-            {
-                throw new Types.JoiningHostCannotHaveRunningVms();
-            }
-            if (ErrorDescription[0].equals("HA_HOST_CANNOT_ACCESS_STATEFILE"))
-            {
-                throw new Types.HaHostCannotAccessStatefile();
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_PURPOSES"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkIncompatiblePurposes(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PATCH_APPLY_FAILED_BACKUP_FILES_EXIST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchApplyFailedBackupFilesExist(p1);
-            }
-            if (ErrorDescription[0].equals("RESTORE_TARGET_MISSING_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.RestoreTargetMissingDevice(p1);
-            }
-            if (ErrorDescription[0].equals("VM_PV_DRIVERS_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmPvDriversInUse(p1);
-            }
-            if (ErrorDescription[0].equals("VIF_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VifInUse(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SLAVE_REQUIRES_MANAGEMENT_INTERFACE"))
-            {
-                throw new Types.SlaveRequiresManagementInterface();
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_NAME_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CertificateNameInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("VM_REBOOTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmRebooted(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_DISABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthDisableFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_EVACUATE_IN_PROGRESS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostEvacuateInProgress(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_SRIOV_STILL_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifSriovStillExists(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_UNMANAGED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifUnmanaged(p1);
-            }
-            if (ErrorDescription[0].equals("VMSS_HAS_VM"))
-            {
-                throw new Types.VmssHasVm();
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_ATTACHED_DISKS_NOT_FOUND"))
-            {
-                throw new Types.ImportErrorAttachedDisksNotFound();
-            }
-            if (ErrorDescription[0].equals("NOT_IN_EMERGENCY_MODE"))
-            {
-                throw new Types.NotInEmergencyMode();
-            }
-            if (ErrorDescription[0].equals("PIF_ALLOWS_UNPLUG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifAllowsUnplug(p1);
-            }
-            if (ErrorDescription[0].equals("DEFAULT_SR_NOT_FOUND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DefaultSrNotFound(p1);
-            }
-            if (ErrorDescription[0].equals("NVIDIA_TOOLS_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NvidiaToolsError(p1);
-            }
-            if (ErrorDescription[0].equals("RESTORE_INCOMPATIBLE_VERSION"))
-            {
-                throw new Types.RestoreIncompatibleVersion();
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_HAVE_RUNNING_OR_SUSPENDED_VMS"))
-            {
-                throw new Types.JoiningHostCannotHaveRunningOrSuspendedVms();
-            }
-            if (ErrorDescription[0].equals("VM_HOST_INCOMPATIBLE_VIRTUAL_HARDWARE_PLATFORM_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                String p4 = ErrorDescription.length > 4 ? ErrorDescription[4] : "";
-                throw new Types.VmHostIncompatibleVirtualHardwarePlatformVersion(p1, p2, p3, p4);
-            }
-            if (ErrorDescription[0].equals("CANNOT_RESET_CONTROL_DOMAIN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotResetControlDomain(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_DESTROY_DISASTER_RECOVERY_TASK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotDestroyDisasterRecoveryTask(p1);
-            }
-            if (ErrorDescription[0].equals("HA_SHOULD_BE_FENCED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaShouldBeFenced(p1);
-            }
-            if (ErrorDescription[0].equals("SR_NOT_EMPTY"))
-            {
-                throw new Types.SrNotEmpty();
-            }
-            if (ErrorDescription[0].equals("HOST_STILL_BOOTING"))
-            {
-                throw new Types.HostStillBooting();
-            }
-            if (ErrorDescription[0].equals("VM_SNAPSHOT_WITH_QUIESCE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmSnapshotWithQuiesceFailed(p1);
-            }
-            if (ErrorDescription[0].equals("CHANGE_PASSWORD_REJECTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ChangePasswordRejected(p1);
-            }
-            if (ErrorDescription[0].equals("SR_OPERATION_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrOperationNotSupported(p1);
-            }
-            if (ErrorDescription[0].equals("VM_UNSAFE_BOOT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmUnsafeBoot(p1);
-            }
-            if (ErrorDescription[0].equals("MISSING_CONNECTION_DETAILS"))
-            {
-                throw new Types.MissingConnectionDetails();
-            }
-            if (ErrorDescription[0].equals("USB_GROUP_CONTAINS_PUSB"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UsbGroupContainsPusb(p1);
-            }
-            if (ErrorDescription[0].equals("CRL_CORRUPT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CrlCorrupt(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_ALREADY_APPLIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchAlreadyApplied(p1);
-            }
-            if (ErrorDescription[0].equals("NO_HOSTS_AVAILABLE"))
-            {
-                throw new Types.NoHostsAvailable();
-            }
-            if (ErrorDescription[0].equals("SR_NOT_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrNotAttached(p1);
-            }
-            if (ErrorDescription[0].equals("VM_CRASHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmCrashed(p1);
-            }
-            if (ErrorDescription[0].equals("HA_DISABLE_IN_PROGRESS"))
-            {
-                throw new Types.HaDisableInProgress();
-            }
-            if (ErrorDescription[0].equals("AUTH_ALREADY_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.AuthAlreadyEnabled(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_NO_SUSPEND_VDI"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasNoSuspendVdi(p1);
-            }
-            if (ErrorDescription[0].equals("DEVICE_DETACH_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.DeviceDetachTimeout(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_GPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresGpu(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_NOT_ENOUGH_FREE_MEMORY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.HostNotEnoughFreeMemory(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_IS_PROTECTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmIsProtected(p1);
-            }
-            if (ErrorDescription[0].equals("UNIMPLEMENTED_IN_SM_BACKEND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UnimplementedInSmBackend(p1);
-            }
-            if (ErrorDescription[0].equals("NO_MORE_REDO_LOGS_ALLOWED"))
-            {
-                throw new Types.NoMoreRedoLogsAllowed();
-            }
-            if (ErrorDescription[0].equals("FIELD_TYPE_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.FieldTypeError(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_WRONG_SERVER_VERSION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.UpdatePrecheckFailedWrongServerVersion(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_VGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasVgpu(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedPermissionDenied(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SR_NOT_SHARABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.SrNotSharable(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PermissionDenied(p1);
-            }
-            if (ErrorDescription[0].equals("MIRROR_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MirrorFailed(p1);
-            }
-            if (ErrorDescription[0].equals("NO_COMPATIBLE_CLUSTER_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NoCompatibleClusterHost(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ImportError(p1);
-            }
-            if (ErrorDescription[0].equals("VM_NOT_RESIDENT_HERE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmNotResidentHere(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_VLAN_STILL_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifVlanStillExists(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_CHECKOUT_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.LicenseCheckoutError(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_NOT_DISABLED"))
-            {
-                throw new Types.HostNotDisabled();
-            }
-            if (ErrorDescription[0].equals("DB_UNIQUENESS_CONSTRAINT_VIOLATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.DbUniquenessConstraintViolation(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("PVS_CACHE_STORAGE_ALREADY_PRESENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PvsCacheStorageAlreadyPresent(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VBD_NOT_REMOVABLE_MEDIA"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdNotRemovableMedia(p1);
-            }
-            if (ErrorDescription[0].equals("HA_ABORT_NEW_MASTER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaAbortNewMaster(p1);
-            }
-            if (ErrorDescription[0].equals("ONLY_ALLOWED_ON_OEM_EDITION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.OnlyAllowedOnOemEdition(p1);
-            }
-            if (ErrorDescription[0].equals("VM_IS_TEMPLATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmIsTemplate(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_EVACUATE_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotEvacuateHost(p1);
-            }
-            if (ErrorDescription[0].equals("VM_DUPLICATE_VBD_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmDuplicateVbdDevice(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("WLB_NOT_INITIALIZED"))
-            {
-                throw new Types.WlbNotInitialized();
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_INVALID_ACCOUNT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedInvalidAccount(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HA_TOO_FEW_HOSTS"))
-            {
-                throw new Types.HaTooFewHosts();
-            }
-            if (ErrorDescription[0].equals("CANNOT_FIND_OEM_BACKUP_PARTITION"))
-            {
-                throw new Types.CannotFindOemBackupPartition();
-            }
-            if (ErrorDescription[0].equals("SM_PLUGIN_COMMUNICATION_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SmPluginCommunicationFailure(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_CANNOT_HANDLE_CHUNKED"))
-            {
-                throw new Types.ImportErrorCannotHandleChunked();
-            }
-            if (ErrorDescription[0].equals("VM_SNAPSHOT_WITH_QUIESCE_PLUGIN_DEOS_NOT_RESPOND"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmSnapshotWithQuiescePluginDeosNotRespond(p1);
-            }
-            if (ErrorDescription[0].equals("HA_HEARTBEAT_DAEMON_STARTUP_FAILED"))
-            {
-                throw new Types.HaHeartbeatDaemonStartupFailed();
-            }
-            if (ErrorDescription[0].equals("VM_SHUTDOWN_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmShutdownTimeout(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_NEEDS_VM_FOR_MIGRATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNeedsVmForMigrate(p1);
-            }
-            if (ErrorDescription[0].equals("DUPLICATE_VM"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DuplicateVm(p1);
-            }
-            if (ErrorDescription[0].equals("LOCATION_NOT_UNIQUE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.LocationNotUnique(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SSL_VERIFY_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SslVerifyError(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_SRIOV_INSUFFICIENT_CAPACITY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkSriovInsufficientCapacity(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_CREATING_SNAPSHOT_XML_STRING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorCreatingSnapshotXmlString(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_SNAPSHOT_WITH_QUIESCE_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmSnapshotWithQuiesceNotSupported(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NOT_SYSTEM_DOMAIN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NotSystemDomain(p1);
-            }
-            if (ErrorDescription[0].equals("VGPU_DESTINATION_INCOMPATIBLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VgpuDestinationIncompatible(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("OPENVSWITCH_NOT_ACTIVE"))
-            {
-                throw new Types.OpenvswitchNotActive();
-            }
-            if (ErrorDescription[0].equals("PIF_CONFIGURATION_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PifConfigurationError(p1, p2);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_HAVE_PHYSICAL_MANAGEMENT_NIC"))
-            {
-                throw new Types.PoolJoiningHostMustHavePhysicalManagementNic();
-            }
-            if (ErrorDescription[0].equals("VM_REVERT_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRevertFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("COULD_NOT_UPDATE_IGMP_SNOOPING_EVERYWHERE"))
-            {
-                throw new Types.CouldNotUpdateIgmpSnoopingEverywhere();
-            }
-            if (ErrorDescription[0].equals("VDI_NO_CBT_METADATA"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiNoCbtMetadata(p1);
-            }
-            if (ErrorDescription[0].equals("SR_VDI_LOCKING_FAILED"))
-            {
-                throw new Types.SrVdiLockingFailed();
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_DOES_NOT_EXIST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CertificateDoesNotExist(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_HAS_FCOE_SR_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PifHasFcoeSrInUse(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CLUSTERING_ENABLED_ON_NETWORK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusteringEnabledOnNetwork(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_DISABLE_FAILED_INVALID_ACCOUNT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthDisableFailedInvalidAccount(p1, p2);
-            }
-            if (ErrorDescription[0].equals("PIF_HAS_NO_NETWORK_CONFIGURATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifHasNoNetworkConfiguration(p1);
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_CORRUPT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CertificateCorrupt(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidDevice(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_OFFLINE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostOffline(p1);
-            }
-            if (ErrorDescription[0].equals("SESSION_AUTHENTICATION_FAILED"))
-            {
-                throw new Types.SessionAuthenticationFailed();
-            }
-            if (ErrorDescription[0].equals("CLUSTERED_SR_DEGRADED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusteredSrDegraded(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_UNKNOWN_HOST"))
-            {
-                throw new Types.WlbXenserverUnknownHost();
-            }
-            if (ErrorDescription[0].equals("BRIDGE_NAME_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.BridgeNameExists(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_TIMEOUT"))
-            {
-                throw new Types.WlbXenserverTimeout();
-            }
-            if (ErrorDescription[0].equals("VM_LACKS_FEATURE_VCPU_HOTPLUG"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmLacksFeatureVcpuHotplug(p1);
-            }
-            if (ErrorDescription[0].equals("VM_MISSING_PV_DRIVERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmMissingPvDrivers(p1);
-            }
-            if (ErrorDescription[0].equals("HA_NOT_INSTALLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HaNotInstalled(p1);
-            }
-            if (ErrorDescription[0].equals("PROVISION_ONLY_ALLOWED_ON_TEMPLATE"))
-            {
-                throw new Types.ProvisionOnlyAllowedOnTemplate();
-            }
-            if (ErrorDescription[0].equals("SR_IS_CACHE_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrIsCacheSr(p1);
-            }
-            if (ErrorDescription[0].equals("MEMORY_CONSTRAINT_VIOLATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MemoryConstraintViolation(p1);
-            }
-            if (ErrorDescription[0].equals("SYSTEM_STATUS_MUST_USE_TAR_ON_OEM"))
-            {
-                throw new Types.SystemStatusMustUseTarOnOem();
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_GPGKEY_NOT_IMPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdatePrecheckFailedGpgkeyNotImported(p1);
-            }
-            if (ErrorDescription[0].equals("PASSTHROUGH_NOT_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PassthroughNotEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_INVALID_OU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedInvalidOu(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOST_CANNOT_DESTROY_SELF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostCannotDestroySelf(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_XENSERVER_CONNECTION_REFUSED"))
-            {
-                throw new Types.WlbXenserverConnectionRefused();
-            }
-            if (ErrorDescription[0].equals("INVALID_EDITION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidEdition(p1);
-            }
-            if (ErrorDescription[0].equals("INCOMPATIBLE_STATEFILE_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.IncompatibleStatefileSr(p1);
-            }
-            if (ErrorDescription[0].equals("EVENT_FROM_TOKEN_PARSE_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.EventFromTokenParseFailure(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_NO_VOLUMES_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorNoVolumesSupported(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CertificateAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_URL_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.WlbUrlInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_ALREADY_CONNECTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkAlreadyConnected(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VBD_NOT_UNPLUGGABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdNotUnpluggable(p1);
-            }
-            if (ErrorDescription[0].equals("DUPLICATE_PIF_DEVICE_NAME"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DuplicatePifDeviceName(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_ADD_TUNNEL_TO_SRIOV_LOGICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotAddTunnelToSriovLogical(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_ALREADY_APPLIED_IN_POOL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdateAlreadyAppliedInPool(p1);
-            }
-            if (ErrorDescription[0].equals("RESTORE_TARGET_MGMT_IF_NOT_IN_BACKUP"))
-            {
-                throw new Types.RestoreTargetMgmtIfNotInBackup();
-            }
-            if (ErrorDescription[0].equals("CANNOT_ADD_TUNNEL_TO_BOND_SLAVE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotAddTunnelToBondSlave(p1);
-            }
-            if (ErrorDescription[0].equals("USB_GROUP_CONFLICT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UsbGroupConflict(p1);
-            }
-            if (ErrorDescription[0].equals("HA_IS_ENABLED"))
-            {
-                throw new Types.HaIsEnabled();
-            }
-            if (ErrorDescription[0].equals("UPDATE_POOL_APPLY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdatePoolApplyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_PATCH"))
-            {
-                throw new Types.InvalidPatch();
-            }
-            if (ErrorDescription[0].equals("WLB_UNKNOWN_HOST"))
-            {
-                throw new Types.WlbUnknownHost();
-            }
-            if (ErrorDescription[0].equals("OPERATION_NOT_ALLOWED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.OperationNotAllowed(p1);
-            }
-            if (ErrorDescription[0].equals("PVS_SITE_CONTAINS_SERVERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PvsSiteContainsServers(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.WlbTimeout(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_DOES_NOT_SUPPORT_POOLING"))
-            {
-                throw new Types.LicenseDoesNotSupportPooling();
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_PERMISSION_DENIED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedPermissionDenied(p1);
-            }
-            if (ErrorDescription[0].equals("VM_TOO_MANY_VCPUS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmTooManyVcpus(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_DOES_NOT_SUPPORT_XHA"))
-            {
-                throw new Types.LicenseDoesNotSupportXha();
-            }
-            if (ErrorDescription[0].equals("VMPP_ARCHIVE_MORE_FREQUENT_THAN_BACKUP"))
-            {
-                throw new Types.VmppArchiveMoreFrequentThanBackup();
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_HAS_TUNNELS"))
-            {
-                throw new Types.PoolJoiningHostHasTunnels();
-            }
-            if (ErrorDescription[0].equals("PIF_IS_MANAGEMENT_INTERFACE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsManagementInterface(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_APPLY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchApplyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED_WRONG_CREDENTIALS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailedWrongCredentials(p1, p2);
-            }
-            if (ErrorDescription[0].equals("UPDATE_IS_APPLIED"))
-            {
-                throw new Types.UpdateIsApplied();
-            }
-            if (ErrorDescription[0].equals("LICENCE_RESTRICTION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.LicenceRestriction(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ALREADY_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PoolAuthAlreadyEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_CANNOT_BOND_CROSS_HOST"))
-            {
-                throw new Types.PifCannotBondCrossHost();
-            }
-            if (ErrorDescription[0].equals("VM_MIGRATE_CONTACT_REMOTE_SERVICE_FAILED"))
-            {
-                throw new Types.VmMigrateContactRemoteServiceFailed();
-            }
-            if (ErrorDescription[0].equals("HA_POOL_IS_ENABLED_BUT_HOST_IS_DISABLED"))
-            {
-                throw new Types.HaPoolIsEnabledButHostIsDisabled();
-            }
-            if (ErrorDescription[0].equals("GPU_GROUP_CONTAINS_VGPU"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.GpuGroupContainsVgpu(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_FIND_UPDATE"))
-            {
-                throw new Types.CannotFindUpdate();
-            }
-            if (ErrorDescription[0].equals("DEVICE_ALREADY_ATTACHED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DeviceAlreadyAttached(p1);
-            }
-            if (ErrorDescription[0].equals("VMS_FAILED_TO_COOPERATE"))
-            {
-                throw new Types.VmsFailedToCooperate();
-            }
-            if (ErrorDescription[0].equals("AUTH_DISABLE_FAILED_WRONG_CREDENTIALS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthDisableFailedWrongCredentials(p1);
-            }
-            if (ErrorDescription[0].equals("MAP_DUPLICATE_KEY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                String p4 = ErrorDescription.length > 4 ? ErrorDescription[4] : "";
-                throw new Types.MapDuplicateKey(p1, p2, p3, p4);
-            }
-            if (ErrorDescription[0].equals("PIF_HAS_NO_V6_NETWORK_CONFIGURATION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifHasNoV6NetworkConfiguration(p1);
-            }
-            if (ErrorDescription[0].equals("XMLRPC_UNMARSHAL_FAILURE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XmlrpcUnmarshalFailure(p1, p2);
-            }
-            if (ErrorDescription[0].equals("INTERFACE_HAS_NO_IP"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InterfaceHasNoIp(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.HostInUse(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VM_HAS_VUSBS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmHasVusbs(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_HAS_NETWORK_SRIOVS"))
-            {
-                throw new Types.PoolJoiningHostHasNetworkSriovs();
-            }
-            if (ErrorDescription[0].equals("LICENSE_HOST_POOL_MISMATCH"))
-            {
-                throw new Types.LicenseHostPoolMismatch();
-            }
-            if (ErrorDescription[0].equals("VGPU_TYPE_NOT_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VgpuTypeNotEnabled(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiInUse(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VBD_IS_EMPTY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VbdIsEmpty(p1);
-            }
-            if (ErrorDescription[0].equals("DUPLICATE_MAC_SEED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.DuplicateMacSeed(p1);
-            }
-            if (ErrorDescription[0].equals("UPDATE_APPLY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UpdateApplyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("SUBJECT_ALREADY_EXISTS"))
-            {
-                throw new Types.SubjectAlreadyExists();
-            }
-            if (ErrorDescription[0].equals("HA_HOST_CANNOT_SEE_PEERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.HaHostCannotSeePeers(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_UNAVAILABLE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedUnavailable(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_SRIOV_ENABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.NetworkSriovEnableFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NOT_IMPLEMENTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NotImplemented(p1);
-            }
-            if (ErrorDescription[0].equals("SESSION_NOT_REGISTERED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SessionNotRegistered(p1);
-            }
-            if (ErrorDescription[0].equals("RESTORE_SCRIPT_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.RestoreScriptFailed(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_IS_A_PHYSICAL_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiIsAPhysicalDevice(p1);
-            }
-            if (ErrorDescription[0].equals("AUTH_IS_DISABLED"))
-            {
-                throw new Types.AuthIsDisabled();
-            }
-            if (ErrorDescription[0].equals("ILLEGAL_VBD_DEVICE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.IllegalVbdDevice(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VALUE_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.ValueNotSupported(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("UUID_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UuidInvalid(p1, p2);
-            }
-            if (ErrorDescription[0].equals("INVALID_FEATURE_STRING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InvalidFeatureString(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_MISSING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiMissing(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_LOCATION_MISSING"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiLocationMissing(p1, p2);
-            }
-            if (ErrorDescription[0].equals("SR_HAS_MULTIPLE_PBDS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrHasMultiplePbds(p1);
-            }
-            if (ErrorDescription[0].equals("COULD_NOT_FIND_NETWORK_INTERFACE_WITH_SPECIFIED_DEVICE_NAME_AND_MAC_ADDRESS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.CouldNotFindNetworkInterfaceWithSpecifiedDeviceNameAndMacAddress(p1, p2);
-            }
-            if (ErrorDescription[0].equals("MESSAGE_METHOD_UNKNOWN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MessageMethodUnknown(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_SOME_CHECKSUMS_FAILED"))
-            {
-                throw new Types.ImportErrorSomeChecksumsFailed();
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_ONLY_HAVE_PHYSICAL_PIFS"))
-            {
-                throw new Types.PoolJoiningHostMustOnlyHavePhysicalPifs();
-            }
-            if (ErrorDescription[0].equals("VM_IS_USING_NESTED_VIRT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmIsUsingNestedVirt(p1);
-            }
-            if (ErrorDescription[0].equals("EVENTS_LOST"))
-            {
-                throw new Types.EventsLost();
-            }
-            if (ErrorDescription[0].equals("VM_OLD_PV_DRIVERS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmOldPvDrivers(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("UPDATE_PRECHECK_FAILED_CONFLICT_PRESENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.UpdatePrecheckFailedConflictPresent(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_FAILED_SHUTDOWN_ACKNOWLEDGMENT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmFailedShutdownAcknowledgment(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_CANNOT_ATTACH_NETWORK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.HostCannotAttachNetwork(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NETWORK_CONTAINS_PIF"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkContainsPif(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_READONLY"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiReadonly(p1);
-            }
-            if (ErrorDescription[0].equals("CRL_DOES_NOT_EXIST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CrlDoesNotExist(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_ON_BOOT_MODE_INCOMPATIBLE_WITH_OPERATION"))
-            {
-                throw new Types.VdiOnBootModeIncompatibleWithOperation();
-            }
-            if (ErrorDescription[0].equals("HOST_NAME_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.HostNameInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("WLB_MALFORMED_RESPONSE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.WlbMalformedResponse(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VGPU_TYPE_NOT_COMPATIBLE_WITH_RUNNING_TYPE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VgpuTypeNotCompatibleWithRunningType(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("VLAN_IN_USE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VlanInUse(p1, p2);
-            }
-            if (ErrorDescription[0].equals("OPERATION_PARTIALLY_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.OperationPartiallyFailed(p1);
-            }
-            if (ErrorDescription[0].equals("DOMAIN_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.DomainExists(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_INCOMPATIBLE_WITH_THIS_HOST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.VmIncompatibleWithThisHost(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("XENAPI_MISSING_PLUGIN"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.XenapiMissingPlugin(p1);
-            }
-            if (ErrorDescription[0].equals("INVALID_VALUE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.InvalidValue(p1, p2);
-            }
-            if (ErrorDescription[0].equals("HOSTS_NOT_COMPATIBLE"))
-            {
-                throw new Types.HostsNotCompatible();
-            }
-            if (ErrorDescription[0].equals("DEVICE_ATTACH_TIMEOUT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.DeviceAttachTimeout(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NETWORK_UNMANAGED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkUnmanaged(p1);
-            }
-            if (ErrorDescription[0].equals("SR_UNKNOWN_DRIVER"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrUnknownDriver(p1);
-            }
-            if (ErrorDescription[0].equals("SR_UUID_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrUuidExists(p1);
-            }
-            if (ErrorDescription[0].equals("XEN_VSS_REQ_ERROR_INIT_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.XenVssReqErrorInitFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("USB_GROUP_CONTAINS_NO_PUSBS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.UsbGroupContainsNoPusbs(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_EXTERNAL_AUTH_MISMATCH"))
-            {
-                throw new Types.PoolJoiningExternalAuthMismatch();
-            }
-            if (ErrorDescription[0].equals("AUTH_ENABLE_FAILED_WRONG_CREDENTIALS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.AuthEnableFailedWrongCredentials(p1);
-            }
-            if (ErrorDescription[0].equals("PIF_IS_SRIOV_LOGICAL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PifIsSriovLogical(p1);
-            }
-            if (ErrorDescription[0].equals("PATCH_PRECHECK_FAILED_ISO_MOUNTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.PatchPrecheckFailedIsoMounted(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_DISABLE_FAILED_WRONG_CREDENTIALS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthDisableFailedWrongCredentials(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_CANNOT_DELETE_DEFAULT_TEMPLATE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmCannotDeleteDefaultTemplate(p1);
-            }
-            if (ErrorDescription[0].equals("ROLE_ALREADY_EXISTS"))
-            {
-                throw new Types.RoleAlreadyExists();
-            }
-            if (ErrorDescription[0].equals("LICENSE_FILE_DEPRECATED"))
-            {
-                throw new Types.LicenseFileDeprecated();
-            }
-            if (ErrorDescription[0].equals("PGPU_NOT_COMPATIBLE_WITH_GPU_GROUP"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PgpuNotCompatibleWithGpuGroup(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CANNOT_DESTROY_SYSTEM_NETWORK"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotDestroySystemNetwork(p1);
-            }
-            if (ErrorDescription[0].equals("NETWORK_INCOMPATIBLE_WITH_VLAN_ON_SRIOV"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NetworkIncompatibleWithVlanOnSriov(p1);
-            }
-            if (ErrorDescription[0].equals("MESSAGE_PARAMETER_COUNT_MISMATCH"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                String p3 = ErrorDescription.length > 3 ? ErrorDescription[3] : "";
-                throw new Types.MessageParameterCountMismatch(p1, p2, p3);
-            }
-            if (ErrorDescription[0].equals("CRL_NAME_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CrlNameInvalid(p1);
-            }
-            if (ErrorDescription[0].equals("VM_NO_SUSPEND_SR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VmNoSuspendSr(p1);
-            }
-            if (ErrorDescription[0].equals("HANDLE_INVALID"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.HandleInvalid(p1, p2);
-            }
-            if (ErrorDescription[0].equals("CRL_ALREADY_EXISTS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CrlAlreadyExists(p1);
-            }
-            if (ErrorDescription[0].equals("VDI_HAS_RRDS"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiHasRrds(p1);
-            }
-            if (ErrorDescription[0].equals("VGPU_TYPE_NOT_SUPPORTED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VgpuTypeNotSupported(p1, p2);
-            }
-            if (ErrorDescription[0].equals("NOT_ALLOWED_ON_OEM_EDITION"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.NotAllowedOnOemEdition(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_CANNOT_DOWNGRADE_WHILE_IN_POOL"))
-            {
-                throw new Types.LicenseCannotDowngradeWhileInPool();
-            }
-            if (ErrorDescription[0].equals("HA_NOT_ENABLED"))
-            {
-                throw new Types.HaNotEnabled();
-            }
-            if (ErrorDescription[0].equals("CANNOT_FETCH_PATCH"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.CannotFetchPatch(p1);
-            }
-            if (ErrorDescription[0].equals("CANNOT_FIND_PATCH"))
-            {
-                throw new Types.CannotFindPatch();
-            }
-            if (ErrorDescription[0].equals("SR_DEVICE_IN_USE"))
-            {
-                throw new Types.SrDeviceInUse();
-            }
-            if (ErrorDescription[0].equals("TRANSPORT_PIF_NOT_CONFIGURED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.TransportPifNotConfigured(p1);
-            }
-            if (ErrorDescription[0].equals("LICENSE_PROCESSING_ERROR"))
-            {
-                throw new Types.LicenseProcessingError();
-            }
-            if (ErrorDescription[0].equals("WLB_INTERNAL_ERROR"))
-            {
-                throw new Types.WlbInternalError();
-            }
-            if (ErrorDescription[0].equals("POOL_JOINING_HOST_MUST_HAVE_SAME_DB_SCHEMA"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolJoiningHostMustHaveSameDbSchema(p1, p2);
-            }
-            if (ErrorDescription[0].equals("JOINING_HOST_CANNOT_HAVE_VMS_WITH_CURRENT_OPERATIONS"))
-            {
-                throw new Types.JoiningHostCannotHaveVmsWithCurrentOperations();
-            }
-            if (ErrorDescription[0].equals("REDO_LOG_IS_ENABLED"))
-            {
-                throw new Types.RedoLogIsEnabled();
-            }
-            if (ErrorDescription[0].equals("CLUSTERING_DISABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ClusteringDisabled(p1);
-            }
-            if (ErrorDescription[0].equals("CERTIFICATE_LIBRARY_CORRUPT"))
-            {
-                throw new Types.CertificateLibraryCorrupt();
-            }
-            if (ErrorDescription[0].equals("BOOTLOADER_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.BootloaderFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("MAC_DOES_NOT_EXIST"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.MacDoesNotExist(p1);
-            }
-            if (ErrorDescription[0].equals("INTERNAL_ERROR"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.InternalError(p1);
-            }
-            if (ErrorDescription[0].equals("IMPORT_ERROR_FAILED_TO_FIND_OBJECT"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.ImportErrorFailedToFindObject(p1);
-            }
-            if (ErrorDescription[0].equals("POOL_AUTH_ENABLE_FAILED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.PoolAuthEnableFailed(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_TOO_SMALL"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VdiTooSmall(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VM_REQUIRES_VDI"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                String p2 = ErrorDescription.length > 2 ? ErrorDescription[2] : "";
-                throw new Types.VmRequiresVdi(p1, p2);
-            }
-            if (ErrorDescription[0].equals("VDI_CBT_ENABLED"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.VdiCbtEnabled(p1);
-            }
-            if (ErrorDescription[0].equals("SR_REQUIRES_UPGRADE"))
-            {
-                String p1 = ErrorDescription.length > 1 ? ErrorDescription[1] : "";
-                throw new Types.SrRequiresUpgrade(p1);
-            }
-            if (ErrorDescription[0].equals("HOST_BROKEN"))
-            {
-                throw new Types.HostBroken();
-            }
+    /**
+     * Creates the exception reported by an error code from the whole ErrorDescription.
+     */
+    private interface ErrorFactory
+    {
+        XenAPIException create(String[] d);
+    }
+
+    /**
+     * Error code to exception factory, so decoding a failure is one hash lookup. The entries are in the order of the
+     * generated checkResponse branches they replace, so a regenerated table diffs cleanly against this one.
+     */
+    private static final Map<String, ErrorFactory> ERRORS = new HashMap<String, ErrorFactory>(982);
+
+    static
+    {
+        ERRORS.put("AUTH_ENABLE_FAILED_DOMAIN_LOOKUP_FAILED", d -> new Types.AuthEnableFailedDomainLookupFailed(param(d, 1)));
+        ERRORS.put("PVS_SITE_CONTAINS_RUNNING_PROXIES", d -> new Types.PvsSiteContainsRunningProxies(param(d, 1)));
+        ERRORS.put("HA_ENABLE_IN_PROGRESS", d -> new Types.HaEnableInProgress());
+        ERRORS.put("DISK_VBD_MUST_BE_READWRITE_FOR_HVM", d -> new Types.DiskVbdMustBeReadwriteForHvm(param(d, 1)));
+        ERRORS.put("UPDATE_PRECHECK_FAILED_UNKNOWN_ERROR", d -> new Types.UpdatePrecheckFailedUnknownError(param(d, 1), param(d, 2)));
+        ERRORS.put("VDI_NOT_IN_MAP", d -> new Types.VdiNotInMap(param(d, 1)));
+        ERRORS.put("SR_FULL", d -> new Types.SrFull(param(d, 1), param(d, 2)));
+        ERRORS.put("HOST_DISABLED_UNTIL_REBOOT", d -> new Types.HostDisabledUntilReboot(param(d, 1)));
+        ERRORS.put("PIF_IS_NOT_PHYSICAL", d -> new Types.PifIsNotPhysical(param(d, 1)));
+        ERRORS.put("CANNOT_CONTACT_HOST", d -> new Types.CannotContactHost(param(d, 1)));
+        ERRORS.put("EVENT_SUBSCRIPTION_PARSE_FAILURE", d -> new Types.EventSubscriptionParseFailure(param(d, 1)));
+        ERRORS.put("IMPORT_ERROR_PREMATURE_EOF", d -> new Types.ImportErrorPrematureEof());
+        ERRORS.put("JOINING_HOST_CANNOT_CONTAIN_SHARED_SRS", d -> new Types.JoiningHostCannotContainSharedSrs());
+        ERRORS.put("CANNOT_ADD_TUNNEL_TO_VLAN_ON_SRIOV_LOGICAL", d -> new Types.CannotAddTunnelToVlanOnSriovLogical(param(d, 1)));
+        ERRORS.put("CLUSTER_STACK_IN_USE", d -> new Types.ClusterStackInUse(param(d, 1)));
+        ERRORS.put("AUTH_DISABLE_FAILED_PERMISSION_DENIED", d -> new Types.AuthDisableFailedPermissionDenied(param(d, 1)));
+        ERRORS.put("VM_CHECKPOINT_RESUME_FAILED", d -> new Types.VmCheckpointResumeFailed(param(d, 1)));
+        ERRORS.put("XEN_VSS_REQ_ERROR_CREATING_SNAPSHOT", d -> new Types.XenVssReqErrorCreatingSnapshot(param(d, 1), param(d, 2)));
+        ERRORS.put("PIF_ALREADY_BONDED", d -> new Types.PifAlreadyBonded(param(d, 1)));
+        ERRORS.put("HOST_HAS_NO_MANAGEMENT_IP", d -> new Types.HostHasNoManagementIp());
+        ERRORS.put("CLUSTER_ALREADY_EXISTS", d -> new Types.ClusterAlreadyExists());
+        ERRORS.put("INCOMPATIBLE_CLUSTER_STACK_ACTIVE", d -> new Types.IncompatibleClusterStackActive(param(d, 1)));
+        ERRORS.put("HOST_UNKNOWN_TO_MASTER", d -> new Types.HostUnknownToMaster(param(d, 1)));
+        ERRORS.put("ACTIVATION_WHILE_NOT_FREE", d -> new Types.ActivationWhileNotFree());
+        ERRORS.put("PUSB_VDI_CONFLICT", d -> new Types.PusbVdiConflict(param(d, 1), param(d, 2)));
+        ERRORS.put("NETWORK_INCOMPATIBLE_WITH_VLAN_ON_BRIDGE", d -> new Types.NetworkIncompatibleWithVlanOnBridge(param(d, 1)));
+        ERRORS.put("VM_CALL_PLUGIN_RATE_LIMIT", d -> new Types.VmCallPluginRateLimit(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("VM_ASSIGNED_TO_PROTECTION_POLICY", d -> new Types.VmAssignedToProtectionPolicy(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_REQUIRES_SR", d -> new Types.VmRequiresSr(param(d, 1), param(d, 2)));
+        ERRORS.put("HOST_ITS_OWN_SLAVE", d -> new Types.HostItsOwnSlave());
+        ERRORS.put("WLB_XENSERVER_AUTHENTICATION_FAILED", d -> new Types.WlbXenserverAuthenticationFailed());
+        ERRORS.put("NETWORK_SRIOV_DISABLE_FAILED", d -> new Types.NetworkSriovDisableFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("CPU_FEATURE_MASKING_NOT_SUPPORTED", d -> new Types.CpuFeatureMaskingNotSupported(param(d, 1)));
+        ERRORS.put("HOST_CD_DRIVE_EMPTY", d -> new Types.HostCdDriveEmpty());
+        ERRORS.put("PGPU_INSUFFICIENT_CAPACITY_FOR_VGPU", d -> new Types.PgpuInsufficientCapacityForVgpu(param(d, 1), param(d, 2)));
+        ERRORS.put("POOL_JOINING_HOST_HAS_BONDS", d -> new Types.PoolJoiningHostHasBonds());
+        ERRORS.put("HA_CONSTRAINT_VIOLATION_SR_NOT_SHARED", d -> new Types.HaConstraintViolationSrNotShared(param(d, 1)));
+        ERRORS.put("SUBJECT_CANNOT_BE_RESOLVED", d -> new Types.SubjectCannotBeResolved());
+        ERRORS.put("POOL_AUTH_ENABLE_FAILED_DUPLICATE_HOSTNAME", d -> new Types.PoolAuthEnableFailedDuplicateHostname(param(d, 1), param(d, 2)));
+        ERRORS.put("AUTH_DISABLE_FAILED", d -> new Types.AuthDisableFailed(param(d, 1)));
+        ERRORS.put("AUTH_ENABLE_FAILED", d -> new Types.AuthEnableFailed(param(d, 1)));
+        ERRORS.put("AUTH_SERVICE_ERROR", d -> new Types.AuthServiceError(param(d, 1)));
+        ERRORS.put("POOL_AUTH_DISABLE_FAILED_PERMISSION_DENIED", d -> new Types.PoolAuthDisableFailedPermissionDenied(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_NO_VCPUS", d -> new Types.VmNoVcpus(param(d, 1)));
+        ERRORS.put("VM_LACKS_FEATURE_STATIC_IP_SETTING", d -> new Types.VmLacksFeatureStaticIpSetting(param(d, 1)));
+        ERRORS.put("PIF_INCOMPATIBLE_PRIMARY_ADDRESS_TYPE", d -> new Types.PifIncompatiblePrimaryAddressType(param(d, 1)));
+        ERRORS.put("VMPP_HAS_VM", d -> new Types.VmppHasVm());
+        ERRORS.put("TASK_CANCELLED", d -> new Types.TaskCancelled(param(d, 1)));
+        ERRORS.put("GPU_GROUP_CONTAINS_PGPU", d -> new Types.GpuGroupContainsPgpu(param(d, 1)));
+        ERRORS.put("HA_CONSTRAINT_VIOLATION_NETWORK_NOT_SHARED", d -> new Types.HaConstraintViolationNetworkNotShared(param(d, 1)));
+        ERRORS.put("VBD_TRAY_LOCKED", d -> new Types.VbdTrayLocked(param(d, 1)));
+        ERRORS.put("PIF_VLAN_EXISTS", d -> new Types.PifVlanExists(param(d, 1)));
+        ERRORS.put("POOL_JOINING_HOST_MANAGEMENT_VLAN_DOES_NOT_MATCH", d -> new Types.PoolJoiningHostManagementVlanDoesNotMatch(param(d, 1), param(d, 2)));
+        ERRORS.put("PVS_PROXY_ALREADY_PRESENT", d -> new Types.PvsProxyAlreadyPresent(param(d, 1)));
+        ERRORS.put("VM_BIOS_STRINGS_ALREADY_SET", d -> new Types.VmBiosStringsAlreadySet());
+        ERRORS.put("MESSAGE_REMOVED", d -> new Types.MessageRemoved());
+        ERRORS.put("IMPORT_ERROR_UNEXPECTED_FILE", d -> new Types.ImportErrorUnexpectedFile(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_IS_PART_OF_AN_APPLIANCE", d -> new Types.VmIsPartOfAnAppliance(param(d, 1), param(d, 2)));
+        ERRORS.put("PATCH_PRECHECK_FAILED_WRONG_SERVER_BUILD", d -> new Types.PatchPrecheckFailedWrongServerBuild(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("CLUSTER_FORCE_DESTROY_FAILED", d -> new Types.ClusterForceDestroyFailed(param(d, 1)));
+        ERRORS.put("NETWORK_CONTAINS_VIF", d -> new Types.NetworkContainsVif(param(d, 1)));
+        ERRORS.put("PATCH_PRECHECK_FAILED_OUT_OF_SPACE", d -> new Types.PatchPrecheckFailedOutOfSpace(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("IMPORT_INCOMPATIBLE_VERSION", d -> new Types.ImportIncompatibleVersion());
+        ERRORS.put("VIF_NOT_IN_MAP", d -> new Types.VifNotInMap(param(d, 1)));
+        ERRORS.put("OUT_OF_SPACE", d -> new Types.OutOfSpace(param(d, 1)));
+        ERRORS.put("PBD_EXISTS", d -> new Types.PbdExists(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("HOST_MASTER_CANNOT_TALK_BACK", d -> new Types.HostMasterCannotTalkBack(param(d, 1)));
+        ERRORS.put("INVALID_CIDR_ADDRESS_SPECIFIED", d -> new Types.InvalidCidrAddressSpecified(param(d, 1)));
+        ERRORS.put("WLB_CONNECTION_RESET", d -> new Types.WlbConnectionReset());
+        ERRORS.put("UPDATE_ALREADY_EXISTS", d -> new Types.UpdateAlreadyExists(param(d, 1)));
+        ERRORS.put("SR_BACKEND_FAILURE", d -> new Types.SrBackendFailure(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("SR_ATTACH_FAILED", d -> new Types.SrAttachFailed(param(d, 1)));
+        ERRORS.put("PATCH_PRECHECK_FAILED_VM_RUNNING", d -> new Types.PatchPrecheckFailedVmRunning(param(d, 1)));
+        ERRORS.put("CANNOT_ENABLE_REDO_LOG", d -> new Types.CannotEnableRedoLog(param(d, 1)));
+        ERRORS.put("HOST_DISABLED", d -> new Types.HostDisabled(param(d, 1)));
+        ERRORS.put("VLAN_TAG_INVALID", d -> new Types.VlanTagInvalid(param(d, 1)));
+        ERRORS.put("FAILED_TO_START_EMULATOR", d -> new Types.FailedToStartEmulator(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("AUTH_ENABLE_FAILED_INVALID_OU", d -> new Types.AuthEnableFailedInvalidOu(param(d, 1)));
+        ERRORS.put("OBJECT_NOLONGER_EXISTS", d -> new Types.ObjectNolongerExists());
+        ERRORS.put("FEATURE_RESTRICTED", d -> new Types.FeatureRestricted());
+        ERRORS.put("PATCH_PRECHECK_FAILED_UNKNOWN_ERROR", d -> new Types.PatchPrecheckFailedUnknownError(param(d, 1), param(d, 2)));
+        ERRORS.put("CLUSTER_CREATE_IN_PROGRESS", d -> new Types.ClusterCreateInProgress());
+        ERRORS.put("VM_LACKS_FEATURE", d -> new Types.VmLacksFeature(param(d, 1)));
+        ERRORS.put("INVALID_PATCH_WITH_LOG", d -> new Types.InvalidPatchWithLog(param(d, 1)));
+        ERRORS.put("AUTH_ENABLE_FAILED_INVALID_ACCOUNT", d -> new Types.AuthEnableFailedInvalidAccount(param(d, 1)));
+        ERRORS.put("XEN_VSS_REQ_ERROR_ADDING_VOLUME_TO_SNAPSET_FAILED", d -> new Types.XenVssReqErrorAddingVolumeToSnapsetFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("PATCH_PRECHECK_FAILED_PREREQUISITE_MISSING", d -> new Types.PatchPrecheckFailedPrerequisiteMissing(param(d, 1), param(d, 2)));
+        ERRORS.put("XEN_VSS_REQ_ERROR_PREPARING_WRITERS", d -> new Types.XenVssReqErrorPreparingWriters(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_LACKS_FEATURE_SUSPEND", d -> new Types.VmLacksFeatureSuspend(param(d, 1)));
+        ERRORS.put("BACKUP_SCRIPT_FAILED", d -> new Types.BackupScriptFailed(param(d, 1)));
+        ERRORS.put("TOO_MANY_STORAGE_MIGRATES", d -> new Types.TooManyStorageMigrates(param(d, 1)));
+        ERRORS.put("WLB_MALFORMED_REQUEST", d -> new Types.WlbMalformedRequest());
+        ERRORS.put("IS_TUNNEL_ACCESS_PIF", d -> new Types.IsTunnelAccessPif(param(d, 1)));
+        ERRORS.put("OPERATION_BLOCKED", d -> new Types.OperationBlocked(param(d, 1), param(d, 2)));
+        ERRORS.put("TLS_CONNECTION_FAILED", d -> new Types.TlsConnectionFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("SR_DOES_NOT_SUPPORT_MIGRATION", d -> new Types.SrDoesNotSupportMigration(param(d, 1)));
+        ERRORS.put("TOO_BUSY", d -> new Types.TooBusy());
+        ERRORS.put("VM_LACKS_FEATURE_SHUTDOWN", d -> new Types.VmLacksFeatureShutdown(param(d, 1)));
+        ERRORS.put("PVS_SERVER_ADDRESS_IN_USE", d -> new Types.PvsServerAddressInUse(param(d, 1)));
+        ERRORS.put("PROVISION_FAILED_OUT_OF_SPACE", d -> new Types.ProvisionFailedOutOfSpace());
+        ERRORS.put("WLB_CONNECTION_REFUSED", d -> new Types.WlbConnectionRefused());
+        ERRORS.put("DOMAIN_BUILDER_ERROR", d -> new Types.DomainBuilderError(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("RBAC_PERMISSION_DENIED", d -> new Types.RbacPermissionDenied(param(d, 1), param(d, 2)));
+        ERRORS.put("POOL_JOINING_HOST_HAS_NON_MANAGEMENT_VLANS", d -> new Types.PoolJoiningHostHasNonManagementVlans());
+        ERRORS.put("PIF_BOND_NEEDS_MORE_MEMBERS", d -> new Types.PifBondNeedsMoreMembers());
+        ERRORS.put("PATCH_IS_APPLIED", d -> new Types.PatchIsApplied());
+        ERRORS.put("VM_HAS_PCI_ATTACHED", d -> new Types.VmHasPciAttached(param(d, 1)));
+        ERRORS.put("POOL_AUTH_ENABLE_FAILED_DOMAIN_LOOKUP_FAILED", d -> new Types.PoolAuthEnableFailedDomainLookupFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("CANNOT_PLUG_BOND_SLAVE", d -> new Types.CannotPlugBondSlave(param(d, 1)));
+        ERRORS.put("USER_IS_NOT_LOCAL_SUPERUSER", d -> new Types.UserIsNotLocalSuperuser(param(d, 1)));
+        ERRORS.put("CANNOT_CREATE_STATE_FILE", d -> new Types.CannotCreateStateFile());
+        ERRORS.put("MAC_STILL_EXISTS", d -> new Types.MacStillExists(param(d, 1)));
+        ERRORS.put("UPDATE_PRECHECK_FAILED_OUT_OF_SPACE", d -> new Types.UpdatePrecheckFailedOutOfSpace(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("AUTH_UNKNOWN_TYPE", d -> new Types.AuthUnknownType(param(d, 1)));
+        ERRORS.put("VM_MIGRATE_FAILED", d -> new Types.VmMigrateFailed(param(d, 1), param(d, 2), param(d, 3), param(d, 4)));
+        ERRORS.put("HOST_POWER_ON_MODE_DISABLED", d -> new Types.HostPowerOnModeDisabled());
+        ERRORS.put("XEN_VSS_REQ_ERROR_PROV_NOT_LOADED", d -> new Types.XenVssReqErrorProvNotLoaded(param(d, 1), param(d, 2)));
+        ERRORS.put("SYSTEM_STATUS_RETRIEVAL_FAILED", d -> new Types.SystemStatusRetrievalFailed(param(d, 1)));
+        ERRORS.put("HOST_NOT_LIVE", d -> new Types.HostNotLive());
+        ERRORS.put("CANNOT_CHANGE_PIF_PROPERTIES", d -> new Types.CannotChangePifProperties(param(d, 1)));
+        ERRORS.put("POOL_AUTH_ENABLE_FAILED_UNAVAILABLE", d -> new Types.PoolAuthEnableFailedUnavailable(param(d, 1), param(d, 2)));
+        ERRORS.put("NETWORK_HAS_INCOMPATIBLE_SRIOV_PIFS", d -> new Types.NetworkHasIncompatibleSriovPifs(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_HAS_CHECKPOINT", d -> new Types.VmHasCheckpoint(param(d, 1)));
+        ERRORS.put("VM_HAS_TOO_MANY_SNAPSHOTS", d -> new Types.VmHasTooManySnapshots(param(d, 1)));
+        ERRORS.put("POOL_JOINING_HOST_MUST_HAVE_SAME_API_VERSION", d -> new Types.PoolJoiningHostMustHaveSameApiVersion(param(d, 1), param(d, 2)));
+        ERRORS.put("CANNOT_FORGET_SRIOV_LOGICAL", d -> new Types.CannotForgetSriovLogical(param(d, 1)));
+        ERRORS.put("VDI_NOT_MANAGED", d -> new Types.VdiNotManaged(param(d, 1)));
+        ERRORS.put("VM_REQUIRES_NETWORK", d -> new Types.VmRequiresNetwork(param(d, 1), param(d, 2)));
+        ERRORS.put("CLUSTER_DOES_NOT_HAVE_ONE_NODE", d -> new Types.ClusterDoesNotHaveOneNode(param(d, 1)));
+        ERRORS.put("COULD_NOT_IMPORT_DATABASE", d -> new Types.CouldNotImportDatabase(param(d, 1)));
+        ERRORS.put("VM_HOST_INCOMPATIBLE_VERSION_MIGRATE", d -> new Types.VmHostIncompatibleVersionMigrate(param(d, 1), param(d, 2)));
+        ERRORS.put("HOST_IN_EMERGENCY_MODE", d -> new Types.HostInEmergencyMode());
+        ERRORS.put("HA_LOST_STATEFILE", d -> new Types.HaLostStatefile());
+        ERRORS.put("PIF_DEVICE_NOT_FOUND", d -> new Types.PifDeviceNotFound());
+        ERRORS.put("SR_INDESTRUCTIBLE", d -> new Types.SrIndestructible(param(d, 1)));
+        ERRORS.put("PGPU_IN_USE_BY_VM", d -> new Types.PgpuInUseByVm(param(d, 1)));
+        ERRORS.put("BRIDGE_NOT_AVAILABLE", d -> new Types.BridgeNotAvailable(param(d, 1)));
+        ERRORS.put("XAPI_HOOK_FAILED", d -> new Types.XapiHookFailed(param(d, 1), param(d, 2), param(d, 3), param(d, 4)));
+        ERRORS.put("PATCH_PRECHECK_FAILED_WRONG_SERVER_VERSION", d -> new Types.PatchPrecheckFailedWrongServerVersion(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("HA_FAILED_TO_FORM_LIVESET", d -> new Types.HaFailedToFormLiveset());
+        ERRORS.put("VDI_NOT_AVAILABLE", d -> new Types.VdiNotAvailable(param(d, 1)));
+        ERRORS.put("WLB_XENSERVER_MALFORMED_RESPONSE", d -> new Types.WlbXenserverMalformedResponse());
+        ERRORS.put("NOT_SUPPORTED_DURING_UPGRADE", d -> new Types.NotSupportedDuringUpgrade());
+        ERRORS.put("JOINING_HOST_CONNECTION_FAILED", d -> new Types.JoiningHostConnectionFailed());
+        ERRORS.put("FEATURE_REQUIRES_HVM", d -> new Types.FeatureRequiresHvm(param(d, 1)));
+        ERRORS.put("SUSPEND_IMAGE_NOT_ACCESSIBLE", d -> new Types.SuspendImageNotAccessible(param(d, 1)));
+        ERRORS.put("TOO_MANY_PENDING_TASKS", d -> new Types.TooManyPendingTasks());
+        ERRORS.put("CANNOT_PLUG_VIF", d -> new Types.CannotPlugVif(param(d, 1)));
+        ERRORS.put("OTHER_OPERATION_IN_PROGRESS", d -> new Types.OtherOperationInProgress(param(d, 1), param(d, 2)));
+        ERRORS.put("PIF_NOT_PRESENT", d -> new Types.PifNotPresent(param(d, 1), param(d, 2)));
+        ERRORS.put("CLUSTERING_ENABLED", d -> new Types.ClusteringEnabled(param(d, 1)));
+        ERRORS.put("USB_GROUP_CONTAINS_VUSB", d -> new Types.UsbGroupContainsVusb(param(d, 1)));
+        ERRORS.put("VM_REQUIRES_VUSB", d -> new Types.VmRequiresVusb(param(d, 1), param(d, 2)));
+        ERRORS.put("PIF_BOND_MORE_THAN_ONE_IP", d -> new Types.PifBondMoreThanOneIp());
+        ERRORS.put("PIF_IS_PHYSICAL", d -> new Types.PifIsPhysical(param(d, 1)));
+        ERRORS.put("NETWORK_INCOMPATIBLE_WITH_BOND", d -> new Types.NetworkIncompatibleWithBond(param(d, 1)));
+        ERRORS.put("MESSAGE_DEPRECATED", d -> new Types.MessageDeprecated());
+        ERRORS.put("VDI_CONTAINS_METADATA_OF_THIS_POOL", d -> new Types.VdiContainsMetadataOfThisPool(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_SNAPSHOT_WITH_QUIESCE_TIMEOUT", d -> new Types.VmSnapshotWithQuiesceTimeout(param(d, 1)));
+        ERRORS.put("VM_HVM_REQUIRED", d -> new Types.VmHvmRequired(param(d, 1)));
+        ERRORS.put("SR_SOURCE_SPACE_INSUFFICIENT", d -> new Types.SrSourceSpaceInsufficient(param(d, 1)));
+        ERRORS.put("HA_NO_PLAN", d -> new Types.HaNoPlan());
+        ERRORS.put("VM_REQUIRES_VGPU", d -> new Types.VmRequiresVgpu(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("WLB_AUTHENTICATION_FAILED", d -> new Types.WlbAuthenticationFailed());
+        ERRORS.put("VBD_CDS_MUST_BE_READONLY", d -> new Types.VbdCdsMustBeReadonly());
+        ERRORS.put("GPU_GROUP_CONTAINS_NO_PGPUS", d -> new Types.GpuGroupContainsNoPgpus(param(d, 1)));
+        ERRORS.put("HOST_HAS_RESIDENT_VMS", d -> new Types.HostHasResidentVms(param(d, 1)));
+        ERRORS.put("WLB_DISABLED", d -> new Types.WlbDisabled());
+        ERRORS.put("LICENSE_EXPIRED", d -> new Types.LicenseExpired());
+        ERRORS.put("HA_OPERATION_WOULD_BREAK_FAILOVER_PLAN", d -> new Types.HaOperationWouldBreakFailoverPlan());
+        ERRORS.put("VM_BAD_POWER_STATE", d -> new Types.VmBadPowerState(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("INCOMPATIBLE_PIF_PROPERTIES", d -> new Types.IncompatiblePifProperties());
+        ERRORS.put("USB_ALREADY_ATTACHED", d -> new Types.UsbAlreadyAttached(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_REQUIRES_IOMMU", d -> new Types.VmRequiresIommu(param(d, 1)));
+        ERRORS.put("HOSTS_NOT_HOMOGENEOUS", d -> new Types.HostsNotHomogeneous(param(d, 1)));
+        ERRORS.put("HOST_IS_LIVE", d -> new Types.HostIsLive(param(d, 1)));
+        ERRORS.put("VM_IS_IMMOBILE", d -> new Types.VmIsImmobile(param(d, 1)));
+        ERRORS.put("VM_NO_EMPTY_CD_VBD", d -> new Types.VmNoEmptyCdVbd(param(d, 1)));
+        ERRORS.put("TOO_MANY_VUSBS", d -> new Types.TooManyVusbs(param(d, 1)));
+        ERRORS.put("UPDATE_ALREADY_APPLIED", d -> new Types.UpdateAlreadyApplied(param(d, 1)));
+        ERRORS.put("VM_ATTACHED_TO_MORE_THAN_ONE_VDI_WITH_TIMEOFFSET_MARKED_AS_RESET_ON_BOOT", d -> new Types.VmAttachedToMoreThanOneVdiWithTimeoffsetMarkedAsResetOnBoot(param(d, 1)));
+        ERRORS.put("NETWORK_INCOMPATIBLE_WITH_SRIOV", d -> new Types.NetworkIncompatibleWithSriov(param(d, 1)));
+        ERRORS.put("POOL_JOINING_HOST_MUST_HAVE_SAME_PRODUCT_VERSION", d -> new Types.PoolJoiningHostMustHaveSameProductVersion());
+        ERRORS.put("HOST_IS_SLAVE", d -> new Types.HostIsSlave(param(d, 1)));
+        ERRORS.put("UNKNOWN_BOOTLOADER", d -> new Types.UnknownBootloader(param(d, 1), param(d, 2)));
+        ERRORS.put("JOINING_HOST_SERVICE_FAILED", d -> new Types.JoiningHostServiceFailed());
+        ERRORS.put("BALLOONING_TIMEOUT_BEFORE_MIGRATION", d -> new Types.BallooningTimeoutBeforeMigration(param(d, 1)));
+        ERRORS.put("JOINING_HOST_CANNOT_BE_MASTER_OF_OTHER_HOSTS", d -> new Types.JoiningHostCannotBeMasterOfOtherHosts());
+        ERRORS.put("DEVICE_ALREADY_DETACHED", d -> new Types.DeviceAlreadyDetached(param(d, 1)));
+        ERRORS.put("ADDRESS_VIOLATES_LOCKING_CONSTRAINT", d -> new Types.AddressViolatesLockingConstraint(param(d, 1)));
+        ERRORS.put("NETWORK_SRIOV_ALREADY_ENABLED", d -> new Types.NetworkSriovAlreadyEnabled(param(d, 1)));
+        ERRORS.put("UPDATE_PRECHECK_FAILED_PREREQUISITE_MISSING", d -> new Types.UpdatePrecheckFailedPrerequisiteMissing(param(d, 1), param(d, 2)));
+        ERRORS.put("VDI_INCOMPATIBLE_TYPE", d -> new Types.VdiIncompatibleType(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_MEMORY_SIZE_TOO_LOW", d -> new Types.VmMemorySizeTooLow(param(d, 1)));
+        ERRORS.put("VM_TO_IMPORT_IS_NOT_NEWER_VERSION", d -> new Types.VmToImportIsNotNewerVersion(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("SR_HAS_PBD", d -> new Types.SrHasPbd(param(d, 1)));
+        ERRORS.put("PIF_DOES_NOT_ALLOW_UNPLUG", d -> new Types.PifDoesNotAllowUnplug(param(d, 1)));
+        ERRORS.put("PVS_CACHE_STORAGE_IS_IN_USE", d -> new Types.PvsCacheStorageIsInUse(param(d, 1)));
+        ERRORS.put("PIF_IS_NOT_SRIOV_CAPABLE", d -> new Types.PifIsNotSriovCapable(param(d, 1)));
+        ERRORS.put("DEVICE_ALREADY_EXISTS", d -> new Types.DeviceAlreadyExists(param(d, 1)));
+        ERRORS.put("XEN_VSS_REQ_ERROR_START_SNAPSHOT_SET_FAILED", d -> new Types.XenVssReqErrorStartSnapshotSetFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_HALTED", d -> new Types.VmHalted(param(d, 1)));
+        ERRORS.put("SESSION_INVALID", d -> new Types.SessionInvalid(param(d, 1)));
+        ERRORS.put("VDI_COPY_FAILED", d -> new Types.VdiCopyFailed());
+        ERRORS.put("VDI_NOT_SPARSE", d -> new Types.VdiNotSparse(param(d, 1)));
+        ERRORS.put("ROLE_NOT_FOUND", d -> new Types.RoleNotFound());
+        ERRORS.put("INVALID_IP_ADDRESS_SPECIFIED", d -> new Types.InvalidIpAddressSpecified(param(d, 1)));
+        ERRORS.put("XENAPI_PLUGIN_FAILURE", d -> new Types.XenapiPluginFailure(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("HOST_CANNOT_READ_METRICS", d -> new Types.HostCannotReadMetrics());
+        ERRORS.put("VBD_NOT_EMPTY", d -> new Types.VbdNotEmpty(param(d, 1)));
+        ERRORS.put("PIF_TUNNEL_STILL_EXISTS", d -> new Types.PifTunnelStillExists(param(d, 1)));
+        ERRORS.put("DEVICE_DETACH_REJECTED", d -> new Types.DeviceDetachRejected(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("PATCH_ALREADY_EXISTS", d -> new Types.PatchAlreadyExists(param(d, 1)));
+        ERRORS.put("NETWORK_INCOMPATIBLE_WITH_TUNNEL", d -> new Types.NetworkIncompatibleWithTunnel(param(d, 1)));
+        ERRORS.put("HA_CANNOT_CHANGE_BOND_STATUS_OF_MGMT_IFACE", d -> new Types.HaCannotChangeBondStatusOfMgmtIface());
+        ERRORS.put("HA_HOST_IS_ARMED", d -> new Types.HaHostIsArmed(param(d, 1)));
+        ERRORS.put("NETWORK_HAS_INCOMPATIBLE_VLAN_ON_SRIOV_PIFS", d -> new Types.NetworkHasIncompatibleVlanOnSriovPifs(param(d, 1), param(d, 2)));
+        ERRORS.put("SR_HAS_NO_PBDS", d -> new Types.SrHasNoPbds(param(d, 1)));
+        ERRORS.put("INVALID_UPDATE", d -> new Types.InvalidUpdate(param(d, 1)));
+        ERRORS.put("VDI_IS_NOT_ISO", d -> new Types.VdiIsNotIso(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_NO_CRASHDUMP_SR", d -> new Types.VmNoCrashdumpSr(param(d, 1)));
+        ERRORS.put("CANNOT_ADD_VLAN_TO_BOND_SLAVE", d -> new Types.CannotAddVlanToBondSlave(param(d, 1)));
+        ERRORS.put("CANNOT_FIND_STATE_PARTITION", d -> new Types.CannotFindStatePartition());
+        ERRORS.put("VM_HOST_INCOMPATIBLE_VERSION", d -> new Types.VmHostIncompatibleVersion(param(d, 1), param(d, 2)));
+        ERRORS.put("DEVICE_NOT_ATTACHED", d -> new Types.DeviceNotAttached(param(d, 1)));
+        ERRORS.put("VM_ASSIGNED_TO_SNAPSHOT_SCHEDULE", d -> new Types.VmAssignedToSnapshotSchedule(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_CHECKPOINT_SUSPEND_FAILED", d -> new Types.VmCheckpointSuspendFailed(param(d, 1)));
+        ERRORS.put("MAC_INVALID", d -> new Types.MacInvalid(param(d, 1)));
+        ERRORS.put("PIF_IS_VLAN", d -> new Types.PifIsVlan(param(d, 1)));
+        ERRORS.put("V6D_FAILURE", d -> new Types.V6dFailure());
+        ERRORS.put("JOINING_HOST_CANNOT_HAVE_RUNNING_VMS", d -> new Types.JoiningHostCannotHaveRunningVms());
+        ERRORS.put("HA_HOST_CANNOT_ACCESS_STATEFILE", d -> new Types.HaHostCannotAccessStatefile());
+        ERRORS.put("NETWORK_INCOMPATIBLE_PURPOSES", d -> new Types.NetworkIncompatiblePurposes(param(d, 1), param(d, 2)));
+        ERRORS.put("PATCH_APPLY_FAILED_BACKUP_FILES_EXIST", d -> new Types.PatchApplyFailedBackupFilesExist(param(d, 1)));
+        ERRORS.put("RESTORE_TARGET_MISSING_DEVICE", d -> new Types.RestoreTargetMissingDevice(param(d, 1)));
+        ERRORS.put("VM_PV_DRIVERS_IN_USE", d -> new Types.VmPvDriversInUse(param(d, 1)));
+        ERRORS.put("VIF_IN_USE", d -> new Types.VifInUse(param(d, 1), param(d, 2)));
+        ERRORS.put("SLAVE_REQUIRES_MANAGEMENT_INTERFACE", d -> new Types.SlaveRequiresManagementInterface());
+        ERRORS.put("CERTIFICATE_NAME_INVALID", d -> new Types.CertificateNameInvalid(param(d, 1)));
+        ERRORS.put("VM_REBOOTED", d -> new Types.VmRebooted(param(d, 1)));
+        ERRORS.put("POOL_AUTH_DISABLE_FAILED", d -> new Types.PoolAuthDisableFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("HOST_EVACUATE_IN_PROGRESS", d -> new Types.HostEvacuateInProgress(param(d, 1)));
+        ERRORS.put("PIF_SRIOV_STILL_EXISTS", d -> new Types.PifSriovStillExists(param(d, 1)));
+        ERRORS.put("PIF_UNMANAGED", d -> new Types.PifUnmanaged(param(d, 1)));
+        ERRORS.put("VMSS_HAS_VM", d -> new Types.VmssHasVm());
+        ERRORS.put("IMPORT_ERROR_ATTACHED_DISKS_NOT_FOUND", d -> new Types.ImportErrorAttachedDisksNotFound());
+        ERRORS.put("NOT_IN_EMERGENCY_MODE", d -> new Types.NotInEmergencyMode());
+        ERRORS.put("PIF_ALLOWS_UNPLUG", d -> new Types.PifAllowsUnplug(param(d, 1)));
+        ERRORS.put("DEFAULT_SR_NOT_FOUND", d -> new Types.DefaultSrNotFound(param(d, 1)));
+        ERRORS.put("NVIDIA_TOOLS_ERROR", d -> new Types.NvidiaToolsError(param(d, 1)));
+        ERRORS.put("RESTORE_INCOMPATIBLE_VERSION", d -> new Types.RestoreIncompatibleVersion());
+        ERRORS.put("JOINING_HOST_CANNOT_HAVE_RUNNING_OR_SUSPENDED_VMS", d -> new Types.JoiningHostCannotHaveRunningOrSuspendedVms());
+        ERRORS.put("VM_HOST_INCOMPATIBLE_VIRTUAL_HARDWARE_PLATFORM_VERSION", d -> new Types.VmHostIncompatibleVirtualHardwarePlatformVersion(param(d, 1), param(d, 2), param(d, 3), param(d, 4)));
+        ERRORS.put("CANNOT_RESET_CONTROL_DOMAIN", d -> new Types.CannotResetControlDomain(param(d, 1)));
+        ERRORS.put("CANNOT_DESTROY_DISASTER_RECOVERY_TASK", d -> new Types.CannotDestroyDisasterRecoveryTask(param(d, 1)));
+        ERRORS.put("HA_SHOULD_BE_FENCED", d -> new Types.HaShouldBeFenced(param(d, 1)));
+        ERRORS.put("SR_NOT_EMPTY", d -> new Types.SrNotEmpty());
+        ERRORS.put("HOST_STILL_BOOTING", d -> new Types.HostStillBooting());
+        ERRORS.put("VM_SNAPSHOT_WITH_QUIESCE_FAILED", d -> new Types.VmSnapshotWithQuiesceFailed(param(d, 1)));
+        ERRORS.put("CHANGE_PASSWORD_REJECTED", d -> new Types.ChangePasswordRejected(param(d, 1)));
+        ERRORS.put("SR_OPERATION_NOT_SUPPORTED", d -> new Types.SrOperationNotSupported(param(d, 1)));
+        ERRORS.put("VM_UNSAFE_BOOT", d -> new Types.VmUnsafeBoot(param(d, 1)));
+        ERRORS.put("MISSING_CONNECTION_DETAILS", d -> new Types.MissingConnectionDetails());
+        ERRORS.put("USB_GROUP_CONTAINS_PUSB", d -> new Types.UsbGroupContainsPusb(param(d, 1)));
+        ERRORS.put("CRL_CORRUPT", d -> new Types.CrlCorrupt(param(d, 1)));
+        ERRORS.put("PATCH_ALREADY_APPLIED", d -> new Types.PatchAlreadyApplied(param(d, 1)));
+        ERRORS.put("NO_HOSTS_AVAILABLE", d -> new Types.NoHostsAvailable());
+        ERRORS.put("SR_NOT_ATTACHED", d -> new Types.SrNotAttached(param(d, 1)));
+        ERRORS.put("VM_CRASHED", d -> new Types.VmCrashed(param(d, 1)));
+        ERRORS.put("HA_DISABLE_IN_PROGRESS", d -> new Types.HaDisableInProgress());
+        ERRORS.put("AUTH_ALREADY_ENABLED", d -> new Types.AuthAlreadyEnabled(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_HAS_NO_SUSPEND_VDI", d -> new Types.VmHasNoSuspendVdi(param(d, 1)));
+        ERRORS.put("DEVICE_DETACH_TIMEOUT", d -> new Types.DeviceDetachTimeout(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_REQUIRES_GPU", d -> new Types.VmRequiresGpu(param(d, 1), param(d, 2)));
+        ERRORS.put("HOST_NOT_ENOUGH_FREE_MEMORY", d -> new Types.HostNotEnoughFreeMemory(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_IS_PROTECTED", d -> new Types.VmIsProtected(param(d, 1)));
+        ERRORS.put("UNIMPLEMENTED_IN_SM_BACKEND", d -> new Types.UnimplementedInSmBackend(param(d, 1)));
+        ERRORS.put("NO_MORE_REDO_LOGS_ALLOWED", d -> new Types.NoMoreRedoLogsAllowed());
+        ERRORS.put("FIELD_TYPE_ERROR", d -> new Types.FieldTypeError(param(d, 1)));
+        ERRORS.put("UPDATE_PRECHECK_FAILED_WRONG_SERVER_VERSION", d -> new Types.UpdatePrecheckFailedWrongServerVersion(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("VM_HAS_VGPU", d -> new Types.VmHasVgpu(param(d, 1)));
+        ERRORS.put("POOL_AUTH_ENABLE_FAILED_PERMISSION_DENIED", d -> new Types.PoolAuthEnableFailedPermissionDenied(param(d, 1), param(d, 2)));
+        ERRORS.put("SR_NOT_SHARABLE", d -> new Types.SrNotSharable(param(d, 1), param(d, 2)));
+        ERRORS.put("PERMISSION_DENIED", d -> new Types.PermissionDenied(param(d, 1)));
+        ERRORS.put("MIRROR_FAILED", d -> new Types.MirrorFailed(param(d, 1)));
+        ERRORS.put("NO_COMPATIBLE_CLUSTER_HOST", d -> new Types.NoCompatibleClusterHost(param(d, 1)));
+        ERRORS.put("IMPORT_ERROR", d -> new Types.ImportError(param(d, 1)));
+        ERRORS.put("VM_NOT_RESIDENT_HERE", d -> new Types.VmNotResidentHere(param(d, 1), param(d, 2)));
+        ERRORS.put("PIF_VLAN_STILL_EXISTS", d -> new Types.PifVlanStillExists(param(d, 1)));
+        ERRORS.put("LICENSE_CHECKOUT_ERROR", d -> new Types.LicenseCheckoutError(param(d, 1)));
+        ERRORS.put("HOST_NOT_DISABLED", d -> new Types.HostNotDisabled());
+        ERRORS.put("DB_UNIQUENESS_CONSTRAINT_VIOLATION", d -> new Types.DbUniquenessConstraintViolation(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("PVS_CACHE_STORAGE_ALREADY_PRESENT", d -> new Types.PvsCacheStorageAlreadyPresent(param(d, 1), param(d, 2)));
+        ERRORS.put("VBD_NOT_REMOVABLE_MEDIA", d -> new Types.VbdNotRemovableMedia(param(d, 1)));
+        ERRORS.put("HA_ABORT_NEW_MASTER", d -> new Types.HaAbortNewMaster(param(d, 1)));
+        ERRORS.put("ONLY_ALLOWED_ON_OEM_EDITION", d -> new Types.OnlyAllowedOnOemEdition(param(d, 1)));
+        ERRORS.put("VM_IS_TEMPLATE", d -> new Types.VmIsTemplate(param(d, 1)));
+        ERRORS.put("CANNOT_EVACUATE_HOST", d -> new Types.CannotEvacuateHost(param(d, 1)));
+        ERRORS.put("VM_DUPLICATE_VBD_DEVICE", d -> new Types.VmDuplicateVbdDevice(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("WLB_NOT_INITIALIZED", d -> new Types.WlbNotInitialized());
+        ERRORS.put("POOL_AUTH_ENABLE_FAILED_INVALID_ACCOUNT", d -> new Types.PoolAuthEnableFailedInvalidAccount(param(d, 1), param(d, 2)));
+        ERRORS.put("HA_TOO_FEW_HOSTS", d -> new Types.HaTooFewHosts());
+        ERRORS.put("CANNOT_FIND_OEM_BACKUP_PARTITION", d -> new Types.CannotFindOemBackupPartition());
+        ERRORS.put("SM_PLUGIN_COMMUNICATION_FAILURE", d -> new Types.SmPluginCommunicationFailure(param(d, 1)));
+        ERRORS.put("IMPORT_ERROR_CANNOT_HANDLE_CHUNKED", d -> new Types.ImportErrorCannotHandleChunked());
+        ERRORS.put("VM_SNAPSHOT_WITH_QUIESCE_PLUGIN_DEOS_NOT_RESPOND", d -> new Types.VmSnapshotWithQuiescePluginDeosNotRespond(param(d, 1)));
+        ERRORS.put("HA_HEARTBEAT_DAEMON_STARTUP_FAILED", d -> new Types.HaHeartbeatDaemonStartupFailed());
+        ERRORS.put("VM_SHUTDOWN_TIMEOUT", d -> new Types.VmShutdownTimeout(param(d, 1), param(d, 2)));
+        ERRORS.put("VDI_NEEDS_VM_FOR_MIGRATE", d -> new Types.VdiNeedsVmForMigrate(param(d, 1)));
+        ERRORS.put("DUPLICATE_VM", d -> new Types.DuplicateVm(param(d, 1)));
+        ERRORS.put("LOCATION_NOT_UNIQUE", d -> new Types.LocationNotUnique(param(d, 1), param(d, 2)));
+        ERRORS.put("SSL_VERIFY_ERROR", d -> new Types.SslVerifyError(param(d, 1)));
+        ERRORS.put("NETWORK_SRIOV_INSUFFICIENT_CAPACITY", d -> new Types.NetworkSriovInsufficientCapacity(param(d, 1)));
+        ERRORS.put("XEN_VSS_REQ_ERROR_CREATING_SNAPSHOT_XML_STRING", d -> new Types.XenVssReqErrorCreatingSnapshotXmlString(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_SNAPSHOT_WITH_QUIESCE_NOT_SUPPORTED", d -> new Types.VmSnapshotWithQuiesceNotSupported(param(d, 1), param(d, 2)));
+        ERRORS.put("NOT_SYSTEM_DOMAIN", d -> new Types.NotSystemDomain(param(d, 1)));
+        ERRORS.put("VGPU_DESTINATION_INCOMPATIBLE", d -> new Types.VgpuDestinationIncompatible(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("OPENVSWITCH_NOT_ACTIVE", d -> new Types.OpenvswitchNotActive());
+        ERRORS.put("PIF_CONFIGURATION_ERROR", d -> new Types.PifConfigurationError(param(d, 1), param(d, 2)));
+        ERRORS.put("POOL_JOINING_HOST_MUST_HAVE_PHYSICAL_MANAGEMENT_NIC", d -> new Types.PoolJoiningHostMustHavePhysicalManagementNic());
+        ERRORS.put("VM_REVERT_FAILED", d -> new Types.VmRevertFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("COULD_NOT_UPDATE_IGMP_SNOOPING_EVERYWHERE", d -> new Types.CouldNotUpdateIgmpSnoopingEverywhere());
+        ERRORS.put("VDI_NO_CBT_METADATA", d -> new Types.VdiNoCbtMetadata(param(d, 1)));
+        ERRORS.put("SR_VDI_LOCKING_FAILED", d -> new Types.SrVdiLockingFailed());
+        ERRORS.put("CERTIFICATE_DOES_NOT_EXIST", d -> new Types.CertificateDoesNotExist(param(d, 1)));
+        ERRORS.put("PIF_HAS_FCOE_SR_IN_USE", d -> new Types.PifHasFcoeSrInUse(param(d, 1), param(d, 2)));
+        ERRORS.put("CLUSTERING_ENABLED_ON_NETWORK", d -> new Types.ClusteringEnabledOnNetwork(param(d, 1)));
+        ERRORS.put("POOL_AUTH_DISABLE_FAILED_INVALID_ACCOUNT", d -> new Types.PoolAuthDisableFailedInvalidAccount(param(d, 1), param(d, 2)));
+        ERRORS.put("PIF_HAS_NO_NETWORK_CONFIGURATION", d -> new Types.PifHasNoNetworkConfiguration(param(d, 1)));
+        ERRORS.put("CERTIFICATE_CORRUPT", d -> new Types.CertificateCorrupt(param(d, 1)));
+        ERRORS.put("INVALID_DEVICE", d -> new Types.InvalidDevice(param(d, 1)));
+        ERRORS.put("HOST_OFFLINE", d -> new Types.HostOffline(param(d, 1)));
+        ERRORS.put("SESSION_AUTHENTICATION_FAILED", d -> new Types.SessionAuthenticationFailed());
+        ERRORS.put("CLUSTERED_SR_DEGRADED", d -> new Types.ClusteredSrDegraded(param(d, 1)));
+        ERRORS.put("WLB_XENSERVER_UNKNOWN_HOST", d -> new Types.WlbXenserverUnknownHost());
+        ERRORS.put("BRIDGE_NAME_EXISTS", d -> new Types.BridgeNameExists(param(d, 1)));
+        ERRORS.put("WLB_XENSERVER_TIMEOUT", d -> new Types.WlbXenserverTimeout());
+        ERRORS.put("VM_LACKS_FEATURE_VCPU_HOTPLUG", d -> new Types.VmLacksFeatureVcpuHotplug(param(d, 1)));
+        ERRORS.put("VM_MISSING_PV_DRIVERS", d -> new Types.VmMissingPvDrivers(param(d, 1)));
+        ERRORS.put("HA_NOT_INSTALLED", d -> new Types.HaNotInstalled(param(d, 1)));
+        ERRORS.put("PROVISION_ONLY_ALLOWED_ON_TEMPLATE", d -> new Types.ProvisionOnlyAllowedOnTemplate());
+        ERRORS.put("SR_IS_CACHE_SR", d -> new Types.SrIsCacheSr(param(d, 1)));
+        ERRORS.put("MEMORY_CONSTRAINT_VIOLATION", d -> new Types.MemoryConstraintViolation(param(d, 1)));
+        ERRORS.put("SYSTEM_STATUS_MUST_USE_TAR_ON_OEM", d -> new Types.SystemStatusMustUseTarOnOem());
+        ERRORS.put("UPDATE_PRECHECK_FAILED_GPGKEY_NOT_IMPORTED", d -> new Types.UpdatePrecheckFailedGpgkeyNotImported(param(d, 1)));
+        ERRORS.put("PASSTHROUGH_NOT_ENABLED", d -> new Types.PassthroughNotEnabled(param(d, 1)));
+        ERRORS.put("POOL_AUTH_ENABLE_FAILED_INVALID_OU", d -> new Types.PoolAuthEnableFailedInvalidOu(param(d, 1), param(d, 2)));
+        ERRORS.put("HOST_CANNOT_DESTROY_SELF", d -> new Types.HostCannotDestroySelf(param(d, 1)));
+        ERRORS.put("WLB_XENSERVER_CONNECTION_REFUSED", d -> new Types.WlbXenserverConnectionRefused());
+        ERRORS.put("INVALID_EDITION", d -> new Types.InvalidEdition(param(d, 1)));
+        ERRORS.put("INCOMPATIBLE_STATEFILE_SR", d -> new Types.IncompatibleStatefileSr(param(d, 1)));
+        ERRORS.put("EVENT_FROM_TOKEN_PARSE_FAILURE", d -> new Types.EventFromTokenParseFailure(param(d, 1)));
+        ERRORS.put("XEN_VSS_REQ_ERROR_NO_VOLUMES_SUPPORTED", d -> new Types.XenVssReqErrorNoVolumesSupported(param(d, 1), param(d, 2)));
+        ERRORS.put("CERTIFICATE_ALREADY_EXISTS", d -> new Types.CertificateAlreadyExists(param(d, 1)));
+        ERRORS.put("WLB_URL_INVALID", d -> new Types.WlbUrlInvalid(param(d, 1)));
+        ERRORS.put("NETWORK_ALREADY_CONNECTED", d -> new Types.NetworkAlreadyConnected(param(d, 1), param(d, 2)));
+        ERRORS.put("VBD_NOT_UNPLUGGABLE", d -> new Types.VbdNotUnpluggable(param(d, 1)));
+        ERRORS.put("DUPLICATE_PIF_DEVICE_NAME", d -> new Types.DuplicatePifDeviceName(param(d, 1)));
+        ERRORS.put("CANNOT_ADD_TUNNEL_TO_SRIOV_LOGICAL", d -> new Types.CannotAddTunnelToSriovLogical(param(d, 1)));
+        ERRORS.put("UPDATE_ALREADY_APPLIED_IN_POOL", d -> new Types.UpdateAlreadyAppliedInPool(param(d, 1)));
+        ERRORS.put("RESTORE_TARGET_MGMT_IF_NOT_IN_BACKUP", d -> new Types.RestoreTargetMgmtIfNotInBackup());
+        ERRORS.put("CANNOT_ADD_TUNNEL_TO_BOND_SLAVE", d -> new Types.CannotAddTunnelToBondSlave(param(d, 1)));
+        ERRORS.put("USB_GROUP_CONFLICT", d -> new Types.UsbGroupConflict(param(d, 1)));
+        ERRORS.put("HA_IS_ENABLED", d -> new Types.HaIsEnabled());
+        ERRORS.put("UPDATE_POOL_APPLY_FAILED", d -> new Types.UpdatePoolApplyFailed(param(d, 1)));
+        ERRORS.put("INVALID_PATCH", d -> new Types.InvalidPatch());
+        ERRORS.put("WLB_UNKNOWN_HOST", d -> new Types.WlbUnknownHost());
+        ERRORS.put("OPERATION_NOT_ALLOWED", d -> new Types.OperationNotAllowed(param(d, 1)));
+        ERRORS.put("PVS_SITE_CONTAINS_SERVERS", d -> new Types.PvsSiteContainsServers(param(d, 1)));
+        ERRORS.put("WLB_TIMEOUT", d -> new Types.WlbTimeout(param(d, 1)));
+        ERRORS.put("LICENSE_DOES_NOT_SUPPORT_POOLING", d -> new Types.LicenseDoesNotSupportPooling());
+        ERRORS.put("AUTH_ENABLE_FAILED_PERMISSION_DENIED", d -> new Types.AuthEnableFailedPermissionDenied(param(d, 1)));
+        ERRORS.put("VM_TOO_MANY_VCPUS", d -> new Types.VmTooManyVcpus(param(d, 1)));
+        ERRORS.put("LICENSE_DOES_NOT_SUPPORT_XHA", d -> new Types.LicenseDoesNotSupportXha());
+        ERRORS.put("VMPP_ARCHIVE_MORE_FREQUENT_THAN_BACKUP", d -> new Types.VmppArchiveMoreFrequentThanBackup());
+        ERRORS.put("POOL_JOINING_HOST_HAS_TUNNELS", d -> new Types.PoolJoiningHostHasTunnels());
+        ERRORS.put("PIF_IS_MANAGEMENT_INTERFACE", d -> new Types.PifIsManagementInterface(param(d, 1)));
+        ERRORS.put("PATCH_APPLY_FAILED", d -> new Types.PatchApplyFailed(param(d, 1)));
+        ERRORS.put("POOL_AUTH_ENABLE_FAILED_WRONG_CREDENTIALS", d -> new Types.PoolAuthEnableFailedWrongCredentials(param(d, 1), param(d, 2)));
+        ERRORS.put("UPDATE_IS_APPLIED", d -> new Types.UpdateIsApplied());
+        ERRORS.put("LICENCE_RESTRICTION", d -> new Types.LicenceRestriction(param(d, 1)));
+        ERRORS.put("POOL_AUTH_ALREADY_ENABLED", d -> new Types.PoolAuthAlreadyEnabled(param(d, 1)));
+        ERRORS.put("PIF_CANNOT_BOND_CROSS_HOST", d -> new Types.PifCannotBondCrossHost());
+        ERRORS.put("VM_MIGRATE_CONTACT_REMOTE_SERVICE_FAILED", d -> new Types.VmMigrateContactRemoteServiceFailed());
+        ERRORS.put("HA_POOL_IS_ENABLED_BUT_HOST_IS_DISABLED", d -> new Types.HaPoolIsEnabledButHostIsDisabled());
+        ERRORS.put("GPU_GROUP_CONTAINS_VGPU", d -> new Types.GpuGroupContainsVgpu(param(d, 1)));
+        ERRORS.put("CANNOT_FIND_UPDATE", d -> new Types.CannotFindUpdate());
+        ERRORS.put("DEVICE_ALREADY_ATTACHED", d -> new Types.DeviceAlreadyAttached(param(d, 1)));
+        ERRORS.put("VMS_FAILED_TO_COOPERATE", d -> new Types.VmsFailedToCooperate());
+        ERRORS.put("AUTH_DISABLE_FAILED_WRONG_CREDENTIALS", d -> new Types.AuthDisableFailedWrongCredentials(param(d, 1)));
+        ERRORS.put("MAP_DUPLICATE_KEY", d -> new Types.MapDuplicateKey(param(d, 1), param(d, 2), param(d, 3), param(d, 4)));
+        ERRORS.put("PIF_HAS_NO_V6_NETWORK_CONFIGURATION", d -> new Types.PifHasNoV6NetworkConfiguration(param(d, 1)));
+        ERRORS.put("XMLRPC_UNMARSHAL_FAILURE", d -> new Types.XmlrpcUnmarshalFailure(param(d, 1), param(d, 2)));
+        ERRORS.put("INTERFACE_HAS_NO_IP", d -> new Types.InterfaceHasNoIp(param(d, 1)));
+        ERRORS.put("HOST_IN_USE", d -> new Types.HostInUse(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("VM_HAS_VUSBS", d -> new Types.VmHasVusbs(param(d, 1)));
+        ERRORS.put("POOL_JOINING_HOST_HAS_NETWORK_SRIOVS", d -> new Types.PoolJoiningHostHasNetworkSriovs());
+        ERRORS.put("LICENSE_HOST_POOL_MISMATCH", d -> new Types.LicenseHostPoolMismatch());
+        ERRORS.put("VGPU_TYPE_NOT_ENABLED", d -> new Types.VgpuTypeNotEnabled(param(d, 1), param(d, 2)));
+        ERRORS.put("VDI_IN_USE", d -> new Types.VdiInUse(param(d, 1), param(d, 2)));
+        ERRORS.put("VBD_IS_EMPTY", d -> new Types.VbdIsEmpty(param(d, 1)));
+        ERRORS.put("DUPLICATE_MAC_SEED", d -> new Types.DuplicateMacSeed(param(d, 1)));
+        ERRORS.put("UPDATE_APPLY_FAILED", d -> new Types.UpdateApplyFailed(param(d, 1)));
+        ERRORS.put("SUBJECT_ALREADY_EXISTS", d -> new Types.SubjectAlreadyExists());
+        ERRORS.put("HA_HOST_CANNOT_SEE_PEERS", d -> new Types.HaHostCannotSeePeers(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("AUTH_ENABLE_FAILED_UNAVAILABLE", d -> new Types.AuthEnableFailedUnavailable(param(d, 1)));
+        ERRORS.put("NETWORK_SRIOV_ENABLE_FAILED", d -> new Types.NetworkSriovEnableFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("NOT_IMPLEMENTED", d -> new Types.NotImplemented(param(d, 1)));
+        ERRORS.put("SESSION_NOT_REGISTERED", d -> new Types.SessionNotRegistered(param(d, 1)));
+        ERRORS.put("RESTORE_SCRIPT_FAILED", d -> new Types.RestoreScriptFailed(param(d, 1)));
+        ERRORS.put("VDI_IS_A_PHYSICAL_DEVICE", d -> new Types.VdiIsAPhysicalDevice(param(d, 1)));
+        ERRORS.put("AUTH_IS_DISABLED", d -> new Types.AuthIsDisabled());
+        ERRORS.put("ILLEGAL_VBD_DEVICE", d -> new Types.IllegalVbdDevice(param(d, 1), param(d, 2)));
+        ERRORS.put("VALUE_NOT_SUPPORTED", d -> new Types.ValueNotSupported(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("UUID_INVALID", d -> new Types.UuidInvalid(param(d, 1), param(d, 2)));
+        ERRORS.put("INVALID_FEATURE_STRING", d -> new Types.InvalidFeatureString(param(d, 1)));
+        ERRORS.put("VDI_MISSING", d -> new Types.VdiMissing(param(d, 1), param(d, 2)));
+        ERRORS.put("VDI_LOCATION_MISSING", d -> new Types.VdiLocationMissing(param(d, 1), param(d, 2)));
+        ERRORS.put("SR_HAS_MULTIPLE_PBDS", d -> new Types.SrHasMultiplePbds(param(d, 1)));
+        ERRORS.put("COULD_NOT_FIND_NETWORK_INTERFACE_WITH_SPECIFIED_DEVICE_NAME_AND_MAC_ADDRESS", d -> new Types.CouldNotFindNetworkInterfaceWithSpecifiedDeviceNameAndMacAddress(param(d, 1), param(d, 2)));
+        ERRORS.put("MESSAGE_METHOD_UNKNOWN", d -> new Types.MessageMethodUnknown(param(d, 1)));
+        ERRORS.put("IMPORT_ERROR_SOME_CHECKSUMS_FAILED", d -> new Types.ImportErrorSomeChecksumsFailed());
+        ERRORS.put("POOL_JOINING_HOST_MUST_ONLY_HAVE_PHYSICAL_PIFS", d -> new Types.PoolJoiningHostMustOnlyHavePhysicalPifs());
+        ERRORS.put("VM_IS_USING_NESTED_VIRT", d -> new Types.VmIsUsingNestedVirt(param(d, 1)));
+        ERRORS.put("EVENTS_LOST", d -> new Types.EventsLost());
+        ERRORS.put("VM_OLD_PV_DRIVERS", d -> new Types.VmOldPvDrivers(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("UPDATE_PRECHECK_FAILED_CONFLICT_PRESENT", d -> new Types.UpdatePrecheckFailedConflictPresent(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_FAILED_SHUTDOWN_ACKNOWLEDGMENT", d -> new Types.VmFailedShutdownAcknowledgment(param(d, 1)));
+        ERRORS.put("HOST_CANNOT_ATTACH_NETWORK", d -> new Types.HostCannotAttachNetwork(param(d, 1), param(d, 2)));
+        ERRORS.put("NETWORK_CONTAINS_PIF", d -> new Types.NetworkContainsPif(param(d, 1)));
+        ERRORS.put("VDI_READONLY", d -> new Types.VdiReadonly(param(d, 1)));
+        ERRORS.put("CRL_DOES_NOT_EXIST", d -> new Types.CrlDoesNotExist(param(d, 1)));
+        ERRORS.put("VDI_ON_BOOT_MODE_INCOMPATIBLE_WITH_OPERATION", d -> new Types.VdiOnBootModeIncompatibleWithOperation());
+        ERRORS.put("HOST_NAME_INVALID", d -> new Types.HostNameInvalid(param(d, 1)));
+        ERRORS.put("WLB_MALFORMED_RESPONSE", d -> new Types.WlbMalformedResponse(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("VGPU_TYPE_NOT_COMPATIBLE_WITH_RUNNING_TYPE", d -> new Types.VgpuTypeNotCompatibleWithRunningType(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("VLAN_IN_USE", d -> new Types.VlanInUse(param(d, 1), param(d, 2)));
+        ERRORS.put("OPERATION_PARTIALLY_FAILED", d -> new Types.OperationPartiallyFailed(param(d, 1)));
+        ERRORS.put("DOMAIN_EXISTS", d -> new Types.DomainExists(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_INCOMPATIBLE_WITH_THIS_HOST", d -> new Types.VmIncompatibleWithThisHost(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("XENAPI_MISSING_PLUGIN", d -> new Types.XenapiMissingPlugin(param(d, 1)));
+        ERRORS.put("INVALID_VALUE", d -> new Types.InvalidValue(param(d, 1), param(d, 2)));
+        ERRORS.put("HOSTS_NOT_COMPATIBLE", d -> new Types.HostsNotCompatible());
+        ERRORS.put("DEVICE_ATTACH_TIMEOUT", d -> new Types.DeviceAttachTimeout(param(d, 1), param(d, 2)));
+        ERRORS.put("NETWORK_UNMANAGED", d -> new Types.NetworkUnmanaged(param(d, 1)));
+        ERRORS.put("SR_UNKNOWN_DRIVER", d -> new Types.SrUnknownDriver(param(d, 1)));
+        ERRORS.put("SR_UUID_EXISTS", d -> new Types.SrUuidExists(param(d, 1)));
+        ERRORS.put("XEN_VSS_REQ_ERROR_INIT_FAILED", d -> new Types.XenVssReqErrorInitFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("USB_GROUP_CONTAINS_NO_PUSBS", d -> new Types.UsbGroupContainsNoPusbs(param(d, 1)));
+        ERRORS.put("POOL_JOINING_EXTERNAL_AUTH_MISMATCH", d -> new Types.PoolJoiningExternalAuthMismatch());
+        ERRORS.put("AUTH_ENABLE_FAILED_WRONG_CREDENTIALS", d -> new Types.AuthEnableFailedWrongCredentials(param(d, 1)));
+        ERRORS.put("PIF_IS_SRIOV_LOGICAL", d -> new Types.PifIsSriovLogical(param(d, 1)));
+        ERRORS.put("PATCH_PRECHECK_FAILED_ISO_MOUNTED", d -> new Types.PatchPrecheckFailedIsoMounted(param(d, 1)));
+        ERRORS.put("POOL_AUTH_DISABLE_FAILED_WRONG_CREDENTIALS", d -> new Types.PoolAuthDisableFailedWrongCredentials(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_CANNOT_DELETE_DEFAULT_TEMPLATE", d -> new Types.VmCannotDeleteDefaultTemplate(param(d, 1)));
+        ERRORS.put("ROLE_ALREADY_EXISTS", d -> new Types.RoleAlreadyExists());
+        ERRORS.put("LICENSE_FILE_DEPRECATED", d -> new Types.LicenseFileDeprecated());
+        ERRORS.put("PGPU_NOT_COMPATIBLE_WITH_GPU_GROUP", d -> new Types.PgpuNotCompatibleWithGpuGroup(param(d, 1), param(d, 2)));
+        ERRORS.put("CANNOT_DESTROY_SYSTEM_NETWORK", d -> new Types.CannotDestroySystemNetwork(param(d, 1)));
+        ERRORS.put("NETWORK_INCOMPATIBLE_WITH_VLAN_ON_SRIOV", d -> new Types.NetworkIncompatibleWithVlanOnSriov(param(d, 1)));
+        ERRORS.put("MESSAGE_PARAMETER_COUNT_MISMATCH", d -> new Types.MessageParameterCountMismatch(param(d, 1), param(d, 2), param(d, 3)));
+        ERRORS.put("CRL_NAME_INVALID", d -> new Types.CrlNameInvalid(param(d, 1)));
+        ERRORS.put("VM_NO_SUSPEND_SR", d -> new Types.VmNoSuspendSr(param(d, 1)));
+        ERRORS.put("HANDLE_INVALID", d -> new Types.HandleInvalid(param(d, 1), param(d, 2)));
+        ERRORS.put("CRL_ALREADY_EXISTS", d -> new Types.CrlAlreadyExists(param(d, 1)));
+        ERRORS.put("VDI_HAS_RRDS", d -> new Types.VdiHasRrds(param(d, 1)));
+        ERRORS.put("VGPU_TYPE_NOT_SUPPORTED", d -> new Types.VgpuTypeNotSupported(param(d, 1), param(d, 2)));
+        ERRORS.put("NOT_ALLOWED_ON_OEM_EDITION", d -> new Types.NotAllowedOnOemEdition(param(d, 1)));
+        ERRORS.put("LICENSE_CANNOT_DOWNGRADE_WHILE_IN_POOL", d -> new Types.LicenseCannotDowngradeWhileInPool());
+        ERRORS.put("HA_NOT_ENABLED", d -> new Types.HaNotEnabled());
+        ERRORS.put("CANNOT_FETCH_PATCH", d -> new Types.CannotFetchPatch(param(d, 1)));
+        ERRORS.put("CANNOT_FIND_PATCH", d -> new Types.CannotFindPatch());
+        ERRORS.put("SR_DEVICE_IN_USE", d -> new Types.SrDeviceInUse());
+        ERRORS.put("TRANSPORT_PIF_NOT_CONFIGURED", d -> new Types.TransportPifNotConfigured(param(d, 1)));
+        ERRORS.put("LICENSE_PROCESSING_ERROR", d -> new Types.LicenseProcessingError());
+        ERRORS.put("WLB_INTERNAL_ERROR", d -> new Types.WlbInternalError());
+        ERRORS.put("POOL_JOINING_HOST_MUST_HAVE_SAME_DB_SCHEMA", d -> new Types.PoolJoiningHostMustHaveSameDbSchema(param(d, 1), param(d, 2)));
+        ERRORS.put("JOINING_HOST_CANNOT_HAVE_VMS_WITH_CURRENT_OPERATIONS", d -> new Types.JoiningHostCannotHaveVmsWithCurrentOperations());
+        ERRORS.put("REDO_LOG_IS_ENABLED", d -> new Types.RedoLogIsEnabled());
+        ERRORS.put("CLUSTERING_DISABLED", d -> new Types.ClusteringDisabled(param(d, 1)));
+        ERRORS.put("CERTIFICATE_LIBRARY_CORRUPT", d -> new Types.CertificateLibraryCorrupt());
+        ERRORS.put("BOOTLOADER_FAILED", d -> new Types.BootloaderFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("MAC_DOES_NOT_EXIST", d -> new Types.MacDoesNotExist(param(d, 1)));
+        ERRORS.put("INTERNAL_ERROR", d -> new Types.InternalError(param(d, 1)));
+        ERRORS.put("IMPORT_ERROR_FAILED_TO_FIND_OBJECT", d -> new Types.ImportErrorFailedToFindObject(param(d, 1)));
+        ERRORS.put("POOL_AUTH_ENABLE_FAILED", d -> new Types.PoolAuthEnableFailed(param(d, 1), param(d, 2)));
+        ERRORS.put("VDI_TOO_SMALL", d -> new Types.VdiTooSmall(param(d, 1), param(d, 2)));
+        ERRORS.put("VM_REQUIRES_VDI", d -> new Types.VmRequiresVdi(param(d, 1), param(d, 2)));
+        ERRORS.put("VDI_CBT_ENABLED", d -> new Types.VdiCbtEnabled(param(d, 1)));
+        ERRORS.put("SR_REQUIRES_UPGRADE", d -> new Types.SrRequiresUpgrade(param(d, 1)));
+        ERRORS.put("HOST_BROKEN", d -> new Types.HostBroken());
+    }
+
+    private static String param(String[] ErrorDescription, int index)
+    {
+        return ErrorDescription.length > index ? ErrorDescription[index] : "";
+    }
+
+      /**
+     * Checks the provided server response was successful. If the call failed, throws a XenAPIException. If the server
+     * returned an invalid response, throws a BadServerResponse. Otherwise, returns the server response as passed in.
+     */
+    static Map checkResponse(Map response) throws XenAPIException, BadServerResponse
+    {
+        if (response.get("Status").equals("Success"))
+        {
+            return response;
+        }
+
+        if (response.get("Status").equals("Failure"))
+        {
+            String[] ErrorDescription = ObjectArrayToStringArray((Object[]) response.get("ErrorDescription"));
 
-            // An unknown error occurred
-            throw new Types.XenAPIException(ErrorDescription);
+            throw toException(ErrorDescription);
         }
 
         throw new BadServerResponse(response);
     }
 
+    private static XenAPIException toException(String[] ErrorDescription)
+    {
+        ErrorFactory factory = ERRORS.get(ErrorDescription[0]);
+        if (factory != null)
+        {
+            return factory.create(ErrorDescription);
+        }
+
+        // An unknown error occurred
+        return new Types.XenAPIException(ErrorDescription);
+    }
+
     public enum StorageOperations {
         /**
          * The value does not belong to this enumeration
@@ -13845,6 +11904,10 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof String) {
+            //JSON-RPC sends whole numbers without a fraction, which are read as strings
+            return Double.valueOf((String) object);
+        }
         return (Double) object;
     }
 
@@ -13862,604 +11925,506 @@ public class Types
         try {
             return (Date) object;
         } catch (ClassCastException e){
+            String value = (String) object;
+            if (value.indexOf('T') == 8) {
+                //JSON-RPC sends dates as strings in the xmlrpc format
+                SimpleDateFormat format = new SimpleDateFormat("yyyyMMdd'T'HH:mm:ss");
+                format.setTimeZone(TimeZone.getTimeZone("UTC"));
+                Date date = format.parse(value.replace("-", ""), new ParsePosition(0));
+                if (date != null) {
+                    return date;
+                }
+            }
             //Occasionally the date comes back as an ocaml float rather than
             //in the xmlrpc format! Catch this and convert.
-            return (new Date((long) (1000*Double.parseDouble((String) object))));
+            return (new Date((long) (1000*Double.parseDouble(value))));
         }
     }
 
+    private static final EnumLookup<XenAPIObjects> XEN_API_OBJECTS_LOOKUP = new EnumLookup<XenAPIObjects>(XenAPIObjects.class, XenAPIObjects.UNRECOGNIZED);
+
     public static Types.XenAPIObjects toXenAPIObjects(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return XenAPIObjects.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return XenAPIObjects.UNRECOGNIZED;
-        }
+        return XEN_API_OBJECTS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<AfterApplyGuidance> AFTER_APPLY_GUIDANCE_LOOKUP = new EnumLookup<AfterApplyGuidance>(AfterApplyGuidance.class, AfterApplyGuidance.UNRECOGNIZED);
+
     public static Types.AfterApplyGuidance toAfterApplyGuidance(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return AfterApplyGuidance.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return AfterApplyGuidance.UNRECOGNIZED;
-        }
+        return AFTER_APPLY_GUIDANCE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<AllocationAlgorithm> ALLOCATION_ALGORITHM_LOOKUP = new EnumLookup<AllocationAlgorithm>(AllocationAlgorithm.class, AllocationAlgorithm.UNRECOGNIZED);
+
     public static Types.AllocationAlgorithm toAllocationAlgorithm(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return AllocationAlgorithm.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return AllocationAlgorithm.UNRECOGNIZED;
-        }
+        return ALLOCATION_ALGORITHM_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<BondMode> BOND_MODE_LOOKUP = new EnumLookup<BondMode>(BondMode.class, BondMode.UNRECOGNIZED);
+
     public static Types.BondMode toBondMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return BondMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return BondMode.UNRECOGNIZED;
-        }
+        return BOND_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<Cls> CLS_LOOKUP = new EnumLookup<Cls>(Cls.class, Cls.UNRECOGNIZED);
+
     public static Types.Cls toCls(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return Cls.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return Cls.UNRECOGNIZED;
-        }
+        return CLS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<ClusterHostOperation> CLUSTER_HOST_OPERATION_LOOKUP = new EnumLookup<ClusterHostOperation>(ClusterHostOperation.class, ClusterHostOperation.UNRECOGNIZED);
+
     public static Types.ClusterHostOperation toClusterHostOperation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return ClusterHostOperation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return ClusterHostOperation.UNRECOGNIZED;
-        }
+        return CLUSTER_HOST_OPERATION_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<ClusterOperation> CLUSTER_OPERATION_LOOKUP = new EnumLookup<ClusterOperation>(ClusterOperation.class, ClusterOperation.UNRECOGNIZED);
+
     public static Types.ClusterOperation toClusterOperation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return ClusterOperation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return ClusterOperation.UNRECOGNIZED;
-        }
+        return CLUSTER_OPERATION_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<ConsoleProtocol> CONSOLE_PROTOCOL_LOOKUP = new EnumLookup<ConsoleProtocol>(ConsoleProtocol.class, ConsoleProtocol.UNRECOGNIZED);
+
     public static Types.ConsoleProtocol toConsoleProtocol(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return ConsoleProtocol.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return ConsoleProtocol.UNRECOGNIZED;
-        }
+        return CONSOLE_PROTOCOL_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<DomainType> DOMAIN_TYPE_LOOKUP = new EnumLookup<DomainType>(DomainType.class, DomainType.UNRECOGNIZED);
+
     public static Types.DomainType toDomainType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return DomainType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return DomainType.UNRECOGNIZED;
-        }
+        return DOMAIN_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<EventOperation> EVENT_OPERATION_LOOKUP = new EnumLookup<EventOperation>(EventOperation.class, EventOperation.UNRECOGNIZED);
+
     public static Types.EventOperation toEventOperation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return EventOperation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return EventOperation.UNRECOGNIZED;
-        }
+        return EVENT_OPERATION_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<HostAllowedOperations> HOST_ALLOWED_OPERATIONS_LOOKUP = new EnumLookup<HostAllowedOperations>(HostAllowedOperations.class, HostAllowedOperations.UNRECOGNIZED);
+
     public static Types.HostAllowedOperations toHostAllowedOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return HostAllowedOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return HostAllowedOperations.UNRECOGNIZED;
-        }
+        return HOST_ALLOWED_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<HostDisplay> HOST_DISPLAY_LOOKUP = new EnumLookup<HostDisplay>(HostDisplay.class, HostDisplay.UNRECOGNIZED);
+
     public static Types.HostDisplay toHostDisplay(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return HostDisplay.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return HostDisplay.UNRECOGNIZED;
-        }
+        return HOST_DISPLAY_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<IpConfigurationMode> IP_CONFIGURATION_MODE_LOOKUP = new EnumLookup<IpConfigurationMode>(IpConfigurationMode.class, IpConfigurationMode.UNRECOGNIZED);
+
     public static Types.IpConfigurationMode toIpConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return IpConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return IpConfigurationMode.UNRECOGNIZED;
-        }
+        return IP_CONFIGURATION_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<Ipv6ConfigurationMode> IPV6_CONFIGURATION_MODE_LOOKUP = new EnumLookup<Ipv6ConfigurationMode>(Ipv6ConfigurationMode.class, Ipv6ConfigurationMode.UNRECOGNIZED);
+
     public static Types.Ipv6ConfigurationMode toIpv6ConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return Ipv6ConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return Ipv6ConfigurationMode.UNRECOGNIZED;
-        }
+        return IPV6_CONFIGURATION_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<LivepatchStatus> LIVEPATCH_STATUS_LOOKUP = new EnumLookup<LivepatchStatus>(LivepatchStatus.class, LivepatchStatus.UNRECOGNIZED);
+
     public static Types.LivepatchStatus toLivepatchStatus(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return LivepatchStatus.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return LivepatchStatus.UNRECOGNIZED;
-        }
+        return LIVEPATCH_STATUS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<NetworkDefaultLockingMode> NETWORK_DEFAULT_LOCKING_MODE_LOOKUP = new EnumLookup<NetworkDefaultLockingMode>(NetworkDefaultLockingMode.class, NetworkDefaultLockingMode.UNRECOGNIZED);
+
     public static Types.NetworkDefaultLockingMode toNetworkDefaultLockingMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return NetworkDefaultLockingMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return NetworkDefaultLockingMode.UNRECOGNIZED;
-        }
+        return NETWORK_DEFAULT_LOCKING_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<NetworkOperations> NETWORK_OPERATIONS_LOOKUP = new EnumLookup<NetworkOperations>(NetworkOperations.class, NetworkOperations.UNRECOGNIZED);
+
     public static Types.NetworkOperations toNetworkOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return NetworkOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return NetworkOperations.UNRECOGNIZED;
-        }
+        return NETWORK_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<NetworkPurpose> NETWORK_PURPOSE_LOOKUP = new EnumLookup<NetworkPurpose>(NetworkPurpose.class, NetworkPurpose.UNRECOGNIZED);
+
     public static Types.NetworkPurpose toNetworkPurpose(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return NetworkPurpose.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return NetworkPurpose.UNRECOGNIZED;
-        }
+        return NETWORK_PURPOSE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<OnBoot> ON_BOOT_LOOKUP = new EnumLookup<OnBoot>(OnBoot.class, OnBoot.UNRECOGNIZED);
+
     public static Types.OnBoot toOnBoot(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return OnBoot.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return OnBoot.UNRECOGNIZED;
-        }
+        return ON_BOOT_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<OnCrashBehaviour> ON_CRASH_BEHAVIOUR_LOOKUP = new EnumLookup<OnCrashBehaviour>(OnCrashBehaviour.class, OnCrashBehaviour.UNRECOGNIZED);
+
     public static Types.OnCrashBehaviour toOnCrashBehaviour(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return OnCrashBehaviour.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return OnCrashBehaviour.UNRECOGNIZED;
-        }
+        return ON_CRASH_BEHAVIOUR_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<OnNormalExit> ON_NORMAL_EXIT_LOOKUP = new EnumLookup<OnNormalExit>(OnNormalExit.class, OnNormalExit.UNRECOGNIZED);
+
     public static Types.OnNormalExit toOnNormalExit(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return OnNormalExit.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return OnNormalExit.UNRECOGNIZED;
-        }
+        return ON_NORMAL_EXIT_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<PgpuDom0Access> PGPU_DOM0_ACCESS_LOOKUP = new EnumLookup<PgpuDom0Access>(PgpuDom0Access.class, PgpuDom0Access.UNRECOGNIZED);
+
     public static Types.PgpuDom0Access toPgpuDom0Access(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PgpuDom0Access.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PgpuDom0Access.UNRECOGNIZED;
-        }
+        return PGPU_DOM0_ACCESS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<PifIgmpStatus> PIF_IGMP_STATUS_LOOKUP = new EnumLookup<PifIgmpStatus>(PifIgmpStatus.class, PifIgmpStatus.UNRECOGNIZED);
+
     public static Types.PifIgmpStatus toPifIgmpStatus(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PifIgmpStatus.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PifIgmpStatus.UNRECOGNIZED;
-        }
+        return PIF_IGMP_STATUS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<PoolAllowedOperations> POOL_ALLOWED_OPERATIONS_LOOKUP = new EnumLookup<PoolAllowedOperations>(PoolAllowedOperations.class, PoolAllowedOperations.UNRECOGNIZED);
+
     public static Types.PoolAllowedOperations toPoolAllowedOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PoolAllowedOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PoolAllowedOperations.UNRECOGNIZED;
-        }
+        return POOL_ALLOWED_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<PrimaryAddressType> PRIMARY_ADDRESS_TYPE_LOOKUP = new EnumLookup<PrimaryAddressType>(PrimaryAddressType.class, PrimaryAddressType.UNRECOGNIZED);
+
     public static Types.PrimaryAddressType toPrimaryAddressType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PrimaryAddressType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PrimaryAddressType.UNRECOGNIZED;
-        }
+        return PRIMARY_ADDRESS_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<PvsProxyStatus> PVS_PROXY_STATUS_LOOKUP = new EnumLookup<PvsProxyStatus>(PvsProxyStatus.class, PvsProxyStatus.UNRECOGNIZED);
+
     public static Types.PvsProxyStatus toPvsProxyStatus(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return PvsProxyStatus.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return PvsProxyStatus.UNRECOGNIZED;
-        }
+        return PVS_PROXY_STATUS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<SdnControllerProtocol> SDN_CONTROLLER_PROTOCOL_LOOKUP = new EnumLookup<SdnControllerProtocol>(SdnControllerProtocol.class, SdnControllerProtocol.UNRECOGNIZED);
+
     public static Types.SdnControllerProtocol toSdnControllerProtocol(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return SdnControllerProtocol.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return SdnControllerProtocol.UNRECOGNIZED;
-        }
+        return SDN_CONTROLLER_PROTOCOL_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<SrHealth> SR_HEALTH_LOOKUP = new EnumLookup<SrHealth>(SrHealth.class, SrHealth.UNRECOGNIZED);
+
     public static Types.SrHealth toSrHealth(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return SrHealth.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return SrHealth.UNRECOGNIZED;
-        }
+        return SR_HEALTH_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<SriovConfigurationMode> SRIOV_CONFIGURATION_MODE_LOOKUP = new EnumLookup<SriovConfigurationMode>(SriovConfigurationMode.class, SriovConfigurationMode.UNRECOGNIZED);
+
     public static Types.SriovConfigurationMode toSriovConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return SriovConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return SriovConfigurationMode.UNRECOGNIZED;
-        }
+        return SRIOV_CONFIGURATION_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<StorageOperations> STORAGE_OPERATIONS_LOOKUP = new EnumLookup<StorageOperations>(StorageOperations.class, StorageOperations.UNRECOGNIZED);
+
     public static Types.StorageOperations toStorageOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return StorageOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return StorageOperations.UNRECOGNIZED;
-        }
+        return STORAGE_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<TaskAllowedOperations> TASK_ALLOWED_OPERATIONS_LOOKUP = new EnumLookup<TaskAllowedOperations>(TaskAllowedOperations.class, TaskAllowedOperations.UNRECOGNIZED);
+
     public static Types.TaskAllowedOperations toTaskAllowedOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return TaskAllowedOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return TaskAllowedOperations.UNRECOGNIZED;
-        }
+        return TASK_ALLOWED_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<TaskStatusType> TASK_STATUS_TYPE_LOOKUP = new EnumLookup<TaskStatusType>(TaskStatusType.class, TaskStatusType.UNRECOGNIZED);
+
     public static Types.TaskStatusType toTaskStatusType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return TaskStatusType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return TaskStatusType.UNRECOGNIZED;
-        }
+        return TASK_STATUS_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<TristateType> TRISTATE_TYPE_LOOKUP = new EnumLookup<TristateType>(TristateType.class, TristateType.UNRECOGNIZED);
+
     public static Types.TristateType toTristateType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return TristateType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return TristateType.UNRECOGNIZED;
-        }
+        return TRISTATE_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<UpdateAfterApplyGuidance> UPDATE_AFTER_APPLY_GUIDANCE_LOOKUP = new EnumLookup<UpdateAfterApplyGuidance>(UpdateAfterApplyGuidance.class, UpdateAfterApplyGuidance.UNRECOGNIZED);
+
     public static Types.UpdateAfterApplyGuidance toUpdateAfterApplyGuidance(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return UpdateAfterApplyGuidance.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return UpdateAfterApplyGuidance.UNRECOGNIZED;
-        }
+        return UPDATE_AFTER_APPLY_GUIDANCE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VbdMode> VBD_MODE_LOOKUP = new EnumLookup<VbdMode>(VbdMode.class, VbdMode.UNRECOGNIZED);
+
     public static Types.VbdMode toVbdMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VbdMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VbdMode.UNRECOGNIZED;
-        }
+        return VBD_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VbdOperations> VBD_OPERATIONS_LOOKUP = new EnumLookup<VbdOperations>(VbdOperations.class, VbdOperations.UNRECOGNIZED);
+
     public static Types.VbdOperations toVbdOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VbdOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VbdOperations.UNRECOGNIZED;
-        }
+        return VBD_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VbdType> VBD_TYPE_LOOKUP = new EnumLookup<VbdType>(VbdType.class, VbdType.UNRECOGNIZED);
+
     public static Types.VbdType toVbdType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VbdType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VbdType.UNRECOGNIZED;
-        }
+        return VBD_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VdiOperations> VDI_OPERATIONS_LOOKUP = new EnumLookup<VdiOperations>(VdiOperations.class, VdiOperations.UNRECOGNIZED);
+
     public static Types.VdiOperations toVdiOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VdiOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VdiOperations.UNRECOGNIZED;
-        }
+        return VDI_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VdiType> VDI_TYPE_LOOKUP = new EnumLookup<VdiType>(VdiType.class, VdiType.UNRECOGNIZED);
+
     public static Types.VdiType toVdiType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VdiType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VdiType.UNRECOGNIZED;
-        }
+        return VDI_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VgpuTypeImplementation> VGPU_TYPE_IMPLEMENTATION_LOOKUP = new EnumLookup<VgpuTypeImplementation>(VgpuTypeImplementation.class, VgpuTypeImplementation.UNRECOGNIZED);
+
     public static Types.VgpuTypeImplementation toVgpuTypeImplementation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VgpuTypeImplementation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VgpuTypeImplementation.UNRECOGNIZED;
-        }
+        return VGPU_TYPE_IMPLEMENTATION_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VifIpv4ConfigurationMode> VIF_IPV4_CONFIGURATION_MODE_LOOKUP = new EnumLookup<VifIpv4ConfigurationMode>(VifIpv4ConfigurationMode.class, VifIpv4ConfigurationMode.UNRECOGNIZED);
+
     public static Types.VifIpv4ConfigurationMode toVifIpv4ConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VifIpv4ConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VifIpv4ConfigurationMode.UNRECOGNIZED;
-        }
+        return VIF_IPV4_CONFIGURATION_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VifIpv6ConfigurationMode> VIF_IPV6_CONFIGURATION_MODE_LOOKUP = new EnumLookup<VifIpv6ConfigurationMode>(VifIpv6ConfigurationMode.class, VifIpv6ConfigurationMode.UNRECOGNIZED);
+
     public static Types.VifIpv6ConfigurationMode toVifIpv6ConfigurationMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VifIpv6ConfigurationMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VifIpv6ConfigurationMode.UNRECOGNIZED;
-        }
+        return VIF_IPV6_CONFIGURATION_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VifLockingMode> VIF_LOCKING_MODE_LOOKUP = new EnumLookup<VifLockingMode>(VifLockingMode.class, VifLockingMode.UNRECOGNIZED);
+
     public static Types.VifLockingMode toVifLockingMode(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VifLockingMode.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VifLockingMode.UNRECOGNIZED;
-        }
+        return VIF_LOCKING_MODE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VifOperations> VIF_OPERATIONS_LOOKUP = new EnumLookup<VifOperations>(VifOperations.class, VifOperations.UNRECOGNIZED);
+
     public static Types.VifOperations toVifOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VifOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VifOperations.UNRECOGNIZED;
-        }
+        return VIF_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmApplianceOperation> VM_APPLIANCE_OPERATION_LOOKUP = new EnumLookup<VmApplianceOperation>(VmApplianceOperation.class, VmApplianceOperation.UNRECOGNIZED);
+
     public static Types.VmApplianceOperation toVmApplianceOperation(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmApplianceOperation.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmApplianceOperation.UNRECOGNIZED;
-        }
+        return VM_APPLIANCE_OPERATION_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmOperations> VM_OPERATIONS_LOOKUP = new EnumLookup<VmOperations>(VmOperations.class, VmOperations.UNRECOGNIZED);
+
     public static Types.VmOperations toVmOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmOperations.UNRECOGNIZED;
-        }
+        return VM_OPERATIONS_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmPowerState> VM_POWER_STATE_LOOKUP = new EnumLookup<VmPowerState>(VmPowerState.class, VmPowerState.UNRECOGNIZED);
+
     public static Types.VmPowerState toVmPowerState(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmPowerState.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmPowerState.UNRECOGNIZED;
-        }
+        return VM_POWER_STATE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmppArchiveFrequency> VMPP_ARCHIVE_FREQUENCY_LOOKUP = new EnumLookup<VmppArchiveFrequency>(VmppArchiveFrequency.class, VmppArchiveFrequency.UNRECOGNIZED);
+
     public static Types.VmppArchiveFrequency toVmppArchiveFrequency(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmppArchiveFrequency.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmppArchiveFrequency.UNRECOGNIZED;
-        }
+        return VMPP_ARCHIVE_FREQUENCY_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmppArchiveTargetType> VMPP_ARCHIVE_TARGET_TYPE_LOOKUP = new EnumLookup<VmppArchiveTargetType>(VmppArchiveTargetType.class, VmppArchiveTargetType.UNRECOGNIZED);
+
     public static Types.VmppArchiveTargetType toVmppArchiveTargetType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmppArchiveTargetType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmppArchiveTargetType.UNRECOGNIZED;
-        }
+        return VMPP_ARCHIVE_TARGET_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmppBackupFrequency> VMPP_BACKUP_FREQUENCY_LOOKUP = new EnumLookup<VmppBackupFrequency>(VmppBackupFrequency.class, VmppBackupFrequency.UNRECOGNIZED);
+
     public static Types.VmppBackupFrequency toVmppBackupFrequency(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmppBackupFrequency.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmppBackupFrequency.UNRECOGNIZED;
-        }
+        return VMPP_BACKUP_FREQUENCY_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmppBackupType> VMPP_BACKUP_TYPE_LOOKUP = new EnumLookup<VmppBackupType>(VmppBackupType.class, VmppBackupType.UNRECOGNIZED);
+
     public static Types.VmppBackupType toVmppBackupType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmppBackupType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmppBackupType.UNRECOGNIZED;
-        }
+        return VMPP_BACKUP_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmssFrequency> VMSS_FREQUENCY_LOOKUP = new EnumLookup<VmssFrequency>(VmssFrequency.class, VmssFrequency.UNRECOGNIZED);
+
     public static Types.VmssFrequency toVmssFrequency(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmssFrequency.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmssFrequency.UNRECOGNIZED;
-        }
+        return VMSS_FREQUENCY_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VmssType> VMSS_TYPE_LOOKUP = new EnumLookup<VmssType>(VmssType.class, VmssType.UNRECOGNIZED);
+
     public static Types.VmssType toVmssType(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VmssType.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VmssType.UNRECOGNIZED;
-        }
+        return VMSS_TYPE_LOOKUP.get((String) object);
     }
 
+    private static final EnumLookup<VusbOperations> VUSB_OPERATIONS_LOOKUP = new EnumLookup<VusbOperations>(VusbOperations.class, VusbOperations.UNRECOGNIZED);
+
     public static Types.VusbOperations toVusbOperations(Object object) {
         if (object == null) {
             return null;
         }
-        try {
-            return VusbOperations.valueOf(((String) object).toUpperCase().replace('-','_'));
-        } catch (IllegalArgumentException ex) {
-            return VusbOperations.UNRECOGNIZED;
-        }
+        return VUSB_OPERATIONS_LOOKUP.get((String) object);
     }
 
     public static Set<String> toSetOfString(Object object) {
@@ -16712,412 +14677,415 @@ public class Types
         if (object == null) {
             return null;
         }
-        return new Bond((String) object);
+        return XenAPIObjectCache.intern(Bond.class, (String) object, ref -> new Bond(ref));
     }
 
     public static Cluster toCluster(Object object) {
         if (object == null) {
             return null;
         }
-        return new Cluster((String) object);
+        return XenAPIObjectCache.intern(Cluster.class, (String) object, ref -> new Cluster(ref));
     }
 
     public static ClusterHost toClusterHost(Object object) {
         if (object == null) {
             return null;
         }
-        return new ClusterHost((String) object);
+        return XenAPIObjectCache.intern(ClusterHost.class, (String) object, ref -> new ClusterHost(ref));
     }
 
     public static DRTask toDRTask(Object object) {
         if (object == null) {
             return null;
         }
-        return new DRTask((String) object);
+        return XenAPIObjectCache.intern(DRTask.class, (String) object, ref -> new DRTask(ref));
     }
 
     public static Feature toFeature(Object object) {
         if (object == null) {
             return null;
         }
-        return new Feature((String) object);
+        return XenAPIObjectCache.intern(Feature.class, (String) object, ref -> new Feature(ref));
     }
 
     public static GPUGroup toGPUGroup(Object object) {
         if (object == null) {
             return null;
         }
-        return new GPUGroup((String) object);
+        return XenAPIObjectCache.intern(GPUGroup.class, (String) object, ref -> new GPUGroup(ref));
     }
 
     public static LVHD toLVHD(Object object) {
         if (object == null) {
             return null;
         }
-        return new LVHD((String) object);
+        return XenAPIObjectCache.intern(LVHD.class, (String) object, ref -> new LVHD(ref));
     }
 
     public static PBD toPBD(Object object) {
         if (object == null) {
             return null;
         }
-        return new PBD((String) object);
+        return XenAPIObjectCache.intern(PBD.class, (String) object, ref -> new PBD(ref));
     }
 
     public static PCI toPCI(Object object) {
         if (object == null) {
             return null;
         }
-        return new PCI((String) object);
+        return XenAPIObjectCache.intern(PCI.class, (String) object, ref -> new PCI(ref));
     }
 
     public static PGPU toPGPU(Object object) {
         if (object == null) {
             return null;
         }
-        return new PGPU((String) object);
+        return XenAPIObjectCache.intern(PGPU.class, (String) object, ref -> new PGPU(ref));
     }
 
     public static PIF toPIF(Object object) {
         if (object == null) {
             return null;
         }
-        return new PIF((String) object);
+        return XenAPIObjectCache.intern(PIF.class, (String) object, ref -> new PIF(ref));
     }
 
     public static PIFMetrics toPIFMetrics(Object object) {
         if (object == null) {
             return null;
         }
-        return new PIFMetrics((String) object);
+        return XenAPIObjectCache.intern(PIFMetrics.class, (String) object, ref -> new PIFMetrics(ref));
     }
 
     public static PUSB toPUSB(Object object) {
         if (object == null) {
             return null;
         }
-        return new PUSB((String) object);
+        return XenAPIObjectCache.intern(PUSB.class, (String) object, ref -> new PUSB(ref));
     }
 
     public static PVSCacheStorage toPVSCacheStorage(Object object) {
         if (object == null) {
             return null;
         }
-        return new PVSCacheStorage((String) object);
+        return XenAPIObjectCache.intern(PVSCacheStorage.class, (String) object, ref -> new PVSCacheStorage(ref));
     }
 
     public static PVSProxy toPVSProxy(Object object) {
         if (object == null) {
             return null;
         }
-        return new PVSProxy((String) object);
+        return XenAPIObjectCache.intern(PVSProxy.class, (String) object, ref -> new PVSProxy(ref));
     }
 
     public static PVSServer toPVSServer(Object object) {
         if (object == null) {
             return null;
         }
-        return new PVSServer((String) object);
+        return XenAPIObjectCache.intern(PVSServer.class, (String) object, ref -> new PVSServer(ref));
     }
 
     public static PVSSite toPVSSite(Object object) {
         if (object == null) {
             return null;
         }
-        return new PVSSite((String) object);
+        return XenAPIObjectCache.intern(PVSSite.class, (String) object, ref -> new PVSSite(ref));
     }
 
     public static SDNController toSDNController(Object object) {
         if (object == null) {
             return null;
         }
-        return new SDNController((String) object);
+        return XenAPIObjectCache.intern(SDNController.class, (String) object, ref -> new SDNController(ref));
     }
 
     public static SM toSM(Object object) {
         if (object == null) {
             return null;
         }
-        return new SM((String) object);
+        return XenAPIObjectCache.intern(SM.class, (String) object, ref -> new SM(ref));
     }
 
     public static SR toSR(Object object) {
         if (object == null) {
             return null;
         }
-        return new SR((String) object);
+        return XenAPIObjectCache.intern(SR.class, (String) object, ref -> new SR(ref));
     }
 
     public static USBGroup toUSBGroup(Object object) {
         if (object == null) {
             return null;
         }
-        return new USBGroup((String) object);
+        return XenAPIObjectCache.intern(USBGroup.class, (String) object, ref -> new USBGroup(ref));
     }
 
     public static VBD toVBD(Object object) {
         if (object == null) {
             return null;
         }
-        return new VBD((String) object);
+        return XenAPIObjectCache.intern(VBD.class, (String) object, ref -> new VBD(ref));
     }
 
     public static VBDMetrics toVBDMetrics(Object object) {
         if (object == null) {
             return null;
         }
-        return new VBDMetrics((String) object);
+        return XenAPIObjectCache.intern(VBDMetrics.class, (String) object, ref -> new VBDMetrics(ref));
     }
 
     public static VDI toVDI(Object object) {
         if (object == null) {
             return null;
         }
-        return new VDI((String) object);
+        return XenAPIObjectCache.intern(VDI.class, (String) object, ref -> new VDI(ref));
     }
 
     public static VGPU toVGPU(Object object) {
         if (object == null) {
             return null;
         }
-        return new VGPU((String) object);
+        return XenAPIObjectCache.intern(VGPU.class, (String) object, ref -> new VGPU(ref));
     }
 
     public static VGPUType toVGPUType(Object object) {
         if (object == null) {
             return null;
         }
-        return new VGPUType((String) object);
+        return XenAPIObjectCache.intern(VGPUType.class, (String) object, ref -> new VGPUType(ref));
     }
 
     public static VIF toVIF(Object object) {
         if (object == null) {
             return null;
         }
-        return new VIF((String) object);
+        return XenAPIObjectCache.intern(VIF.class, (String) object, ref -> new VIF(ref));
     }
 
     public static VIFMetrics toVIFMetrics(Object object) {
         if (object == null) {
             return null;
         }
-        return new VIFMetrics((String) object);
+        return XenAPIObjectCache.intern(VIFMetrics.class, (String) object, ref -> new VIFMetrics(ref));
     }
 
     public static VLAN toVLAN(Object object) {
         if (object == null) {
             return null;
         }
-        return new VLAN((String) object);
+        return XenAPIObjectCache.intern(VLAN.class, (String) object, ref -> new VLAN(ref));
     }
 
     public static VM toVM(Object object) {
         if (object == null) {
             return null;
         }
-        return new VM((String) object);
+        return XenAPIObjectCache.intern(VM.class, (String) object, ref -> new VM(ref));
     }
 
     public static VMPP toVMPP(Object object) {
         if (object == null) {
             return null;
         }
-        return new VMPP((String) object);
+        return XenAPIObjectCache.intern(VMPP.class, (String) object, ref -> new VMPP(ref));
     }
 
     public static VMSS toVMSS(Object object) {
         if (object == null) {
             return null;
         }
-        return new VMSS((String) object);
+        return XenAPIObjectCache.intern(VMSS.class, (String) object, ref -> new VMSS(ref));
     }
 
     public static VMAppliance toVMAppliance(Object object) {
         if (object == null) {
             return null;
         }
-        return new VMAppliance((String) object);
+        return XenAPIObjectCache.intern(VMAppliance.class, (String) object, ref -> new VMAppliance(ref));
     }
 
     public static VMGuestMetrics toVMGuestMetrics(Object object) {
         if (object == null) {
             return null;
         }
-        return new VMGuestMetrics((String) object);
+        return XenAPIObjectCache.intern(VMGuestMetrics.class, (String) object, ref -> new VMGuestMetrics(ref));
     }
 
     public static VMMetrics toVMMetrics(Object object) {
         if (object == null) {
             return null;
         }
-        return new VMMetrics((String) object);
+        return XenAPIObjectCache.intern(VMMetrics.class, (String) object, ref -> new VMMetrics(ref));
     }
 
     public static VTPM toVTPM(Object object) {
         if (object == null) {
             return null;
         }
-        return new VTPM((String) object);
+        return XenAPIObjectCache.intern(VTPM.class, (String) object, ref -> new VTPM(ref));
     }
 
     public static VUSB toVUSB(Object object) {
         if (object == null) {
             return null;
         }
-        return new VUSB((String) object);
+        return XenAPIObjectCache.intern(VUSB.class, (String) object, ref -> new VUSB(ref));
     }
 
     public static Blob toBlob(Object object) {
         if (object == null) {
             return null;
         }
-        return new Blob((String) object);
+        return XenAPIObjectCache.intern(Blob.class, (String) object, ref -> new Blob(ref));
     }
 
     public static Console toConsole(Object object) {
         if (object == null) {
             return null;
         }
-        return new Console((String) object);
+        return XenAPIObjectCache.intern(Console.class, (String) object, ref -> new Console(ref));
     }
 
     public static Crashdump toCrashdump(Object object) {
         if (object == null) {
             return null;
         }
-        return new Crashdump((String) object);
+        return XenAPIObjectCache.intern(Crashdump.class, (String) object, ref -> new Crashdump(ref));
     }
 
     public static Host toHost(Object object) {
         if (object == null) {
             return null;
         }
-        return new Host((String) object);
+        return XenAPIObjectCache.intern(Host.class, (String) object, ref -> new Host(ref));
     }
 
     public static HostCpu toHostCpu(Object object) {
         if (object == null) {
             return null;
         }
-        return new HostCpu((String) object);
+        return XenAPIObjectCache.intern(HostCpu.class, (String) object, ref -> new HostCpu(ref));
     }
 
     public static HostCrashdump toHostCrashdump(Object object) {
         if (object == null) {
             return null;
         }
-        return new HostCrashdump((String) object);
+        return XenAPIObjectCache.intern(HostCrashdump.class, (String) object, ref -> new HostCrashdump(ref));
     }
 
     public static HostMetrics toHostMetrics(Object object) {
         if (object == null) {
             return null;
         }
-        return new HostMetrics((String) object);
+        return XenAPIObjectCache.intern(HostMetrics.class, (String) object, ref -> new HostMetrics(ref));
     }
 
     public static HostPatch toHostPatch(Object object) {
         if (object == null) {
             return null;
         }
-        return new HostPatch((String) object);
+        return XenAPIObjectCache.intern(HostPatch.class, (String) object, ref -> new HostPatch(ref));
     }
 
     public static Message toMessage(Object object) {
         if (object == null) {
             return null;
         }
-        return new Message((String) object);
+        return XenAPIObjectCache.intern(Message.class, (String) object, ref -> new Message(ref));
     }
 
     public static Network toNetwork(Object object) {
         if (object == null) {
             return null;
         }
-        return new Network((String) object);
+        return XenAPIObjectCache.intern(Network.class, (String) object, ref -> new Network(ref));
     }
 
     public static NetworkSriov toNetworkSriov(Object object) {
         if (object == null) {
             return null;
         }
-        return new NetworkSriov((String) object);
+        return XenAPIObjectCache.intern(NetworkSriov.class, (String) object, ref -> new NetworkSriov(ref));
     }
 
     public static Pool toPool(Object object) {
         if (object == null) {
             return null;
         }
-        return new Pool((String) object);
+        return XenAPIObjectCache.intern(Pool.class, (String) object, ref -> new Pool(ref));
     }
 
     public static PoolPatch toPoolPatch(Object object) {
         if (object == null) {
             return null;
         }
-        return new PoolPatch((String) object);
+        return XenAPIObjectCache.intern(PoolPatch.class, (String) object, ref -> new PoolPatch(ref));
     }
 
     public static PoolUpdate toPoolUpdate(Object object) {
         if (object == null) {
             return null;
         }
-        return new PoolUpdate((String) object);
+        return XenAPIObjectCache.intern(PoolUpdate.class, (String) object, ref -> new PoolUpdate(ref));
     }
 
     public static Role toRole(Object object) {
         if (object == null) {
             return null;
         }
-        return new Role((String) object);
+        return XenAPIObjectCache.intern(Role.class, (String) object, ref -> new Role(ref));
     }
 
     public static Secret toSecret(Object object) {
         if (object == null) {
             return null;
         }
-        return new Secret((String) object);
+        return XenAPIObjectCache.intern(Secret.class, (String) object, ref -> new Secret(ref));
     }
 
     public static Session toSession(Object object) {
         if (object == null) {
             return null;
         }
-        return new Session((String) object);
+        return XenAPIObjectCache.intern(Session.class, (String) object, ref -> new Session(ref));
     }
 
     public static Subject toSubject(Object object) {
         if (object == null) {
             return null;
         }
-        return new Subject((String) object);
+        return XenAPIObjectCache.intern(Subject.class, (String) object, ref -> new Subject(ref));
     }
 
     public static Task toTask(Object object) {
         if (object == null) {
             return null;
         }
-        return new Task((String) object);
+        return XenAPIObjectCache.intern(Task.class, (String) object, ref -> new Task(ref));
     }
 
     public static Tunnel toTunnel(Object object) {
         if (object == null) {
             return null;
         }
-        return new Tunnel((String) object);
+        return XenAPIObjectCache.intern(Tunnel.class, (String) object, ref -> new Tunnel(ref));
     }
 
     public static User toUser(Object object) {
         if (object == null) {
             return null;
         }
-        return new User((String) object);
+        return XenAPIObjectCache.intern(User.class, (String) object, ref -> new User(ref));
     }
 
     public static Bond.Record toBondRecord(Object object) {
         if (object == null) {
             return null;
         }
+        if (object instanceof Bond.Record) {
+            return (Bond.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Bond.Record record = new Bond.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17135,6 +15103,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Cluster.Record) {
+            return (Cluster.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Cluster.Record record = new Cluster.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17156,6 +15127,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof ClusterHost.Record) {
+            return (ClusterHost.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         ClusterHost.Record record = new ClusterHost.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17172,6 +15146,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof DRTask.Record) {
+            return (DRTask.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         DRTask.Record record = new DRTask.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17183,6 +15160,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Feature.Record) {
+            return (Feature.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Feature.Record record = new Feature.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17199,6 +15179,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof GPUGroup.Record) {
+            return (GPUGroup.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         GPUGroup.Record record = new GPUGroup.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17218,6 +15201,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof LVHD.Record) {
+            return (LVHD.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         LVHD.Record record = new LVHD.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17228,6 +15214,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PBD.Record) {
+            return (PBD.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PBD.Record record = new PBD.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17243,6 +15232,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PCI.Record) {
+            return (PCI.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PCI.Record record = new PCI.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17263,6 +15255,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PGPU.Record) {
+            return (PGPU.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PGPU.Record record = new PGPU.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17284,6 +15279,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PIF.Record) {
+            return (PIF.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PIF.Record record = new PIF.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17328,6 +15326,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PIFMetrics.Record) {
+            return (PIFMetrics.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PIFMetrics.Record record = new PIFMetrics.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17350,6 +15351,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PUSB.Record) {
+            return (PUSB.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PUSB.Record record = new PUSB.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17372,6 +15376,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PVSCacheStorage.Record) {
+            return (PVSCacheStorage.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PVSCacheStorage.Record record = new PVSCacheStorage.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17387,6 +15394,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PVSProxy.Record) {
+            return (PVSProxy.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PVSProxy.Record record = new PVSProxy.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17401,6 +15411,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PVSServer.Record) {
+            return (PVSServer.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PVSServer.Record record = new PVSServer.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17415,6 +15428,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PVSSite.Record) {
+            return (PVSSite.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PVSSite.Record record = new PVSSite.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17431,6 +15447,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof SDNController.Record) {
+            return (SDNController.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         SDNController.Record record = new SDNController.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17444,6 +15463,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof SM.Record) {
+            return (SM.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         SM.Record record = new SM.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17467,6 +15489,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof SR.Record) {
+            return (SR.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         SR.Record record = new SR.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17497,6 +15522,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof USBGroup.Record) {
+            return (USBGroup.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         USBGroup.Record record = new USBGroup.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17512,6 +15540,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VBD.Record) {
+            return (VBD.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VBD.Record record = new VBD.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17543,6 +15574,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VBDMetrics.Record) {
+            return (VBDMetrics.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VBDMetrics.Record record = new VBDMetrics.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17557,6 +15591,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VDI.Record) {
+            return (VDI.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VDI.Record record = new VDI.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17598,6 +15635,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VGPU.Record) {
+            return (VGPU.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VGPU.Record record = new VGPU.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17617,6 +15657,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VGPUType.Record) {
+            return (VGPUType.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VGPUType.Record record = new VGPUType.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17641,6 +15684,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VIF.Record) {
+            return (VIF.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VIF.Record record = new VIF.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17677,6 +15723,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VIFMetrics.Record) {
+            return (VIFMetrics.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VIFMetrics.Record record = new VIFMetrics.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17691,6 +15740,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VLAN.Record) {
+            return (VLAN.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VLAN.Record record = new VLAN.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17705,6 +15757,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VM.Record) {
+            return (VM.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VM.Record record = new VM.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17798,6 +15853,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VMPP.Record) {
+            return (VMPP.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VMPP.Record record = new VMPP.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17827,6 +15885,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VMSS.Record) {
+            return (VMSS.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VMSS.Record record = new VMSS.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17846,6 +15907,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VMAppliance.Record) {
+            return (VMAppliance.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VMAppliance.Record record = new VMAppliance.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17861,6 +15925,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VMGuestMetrics.Record) {
+            return (VMGuestMetrics.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VMGuestMetrics.Record record = new VMGuestMetrics.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17884,6 +15951,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VMMetrics.Record) {
+            return (VMMetrics.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VMMetrics.Record record = new VMMetrics.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17909,6 +15979,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VTPM.Record) {
+            return (VTPM.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VTPM.Record record = new VTPM.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17921,6 +15994,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VUSB.Record) {
+            return (VUSB.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VUSB.Record record = new VUSB.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17937,6 +16013,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Blob.Record) {
+            return (Blob.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Blob.Record record = new Blob.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17953,6 +16032,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Console.Record) {
+            return (Console.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Console.Record record = new Console.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17967,6 +16049,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Crashdump.Record) {
+            return (Crashdump.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Crashdump.Record record = new Crashdump.Record();
             record.uuid = toString(map.get("uuid"));
@@ -17980,6 +16065,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof DataSource.Record) {
+            return (DataSource.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         DataSource.Record record = new DataSource.Record();
             record.nameLabel = toString(map.get("name_label"));
@@ -17997,6 +16085,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Event.Record) {
+            return (Event.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Event.Record record = new Event.Record();
             record.id = toLong(map.get("id"));
@@ -18084,6 +16175,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Host.Record) {
+            return (Host.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Host.Record record = new Host.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18151,6 +16245,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof HostCpu.Record) {
+            return (HostCpu.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         HostCpu.Record record = new HostCpu.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18173,6 +16270,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof HostCrashdump.Record) {
+            return (HostCrashdump.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         HostCrashdump.Record record = new HostCrashdump.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18187,6 +16287,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof HostMetrics.Record) {
+            return (HostMetrics.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         HostMetrics.Record record = new HostMetrics.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18202,6 +16305,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof HostPatch.Record) {
+            return (HostPatch.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         HostPatch.Record record = new HostPatch.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18221,6 +16327,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Message.Record) {
+            return (Message.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Message.Record record = new Message.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18237,6 +16346,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Network.Record) {
+            return (Network.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Network.Record record = new Network.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18262,6 +16374,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof NetworkSriov.Record) {
+            return (NetworkSriov.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         NetworkSriov.Record record = new NetworkSriov.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18276,6 +16391,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Pool.Record) {
+            return (Pool.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Pool.Record record = new Pool.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18321,6 +16439,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PoolPatch.Record) {
+            return (PoolPatch.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PoolPatch.Record record = new PoolPatch.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18340,6 +16461,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof PoolUpdate.Record) {
+            return (PoolUpdate.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         PoolUpdate.Record record = new PoolUpdate.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18360,6 +16484,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof ProbeResult.Record) {
+            return (ProbeResult.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         ProbeResult.Record record = new ProbeResult.Record();
             record.configuration = toMapOfStringString(map.get("configuration"));
@@ -18373,6 +16500,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Role.Record) {
+            return (Role.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Role.Record record = new Role.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18386,6 +16516,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Secret.Record) {
+            return (Secret.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Secret.Record record = new Secret.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18398,6 +16531,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Session.Record) {
+            return (Session.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Session.Record record = new Session.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18422,6 +16558,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof SrStat.Record) {
+            return (SrStat.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         SrStat.Record record = new SrStat.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18438,6 +16577,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Subject.Record) {
+            return (Subject.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Subject.Record record = new Subject.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18451,6 +16593,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Task.Record) {
+            return (Task.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Task.Record record = new Task.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18477,6 +16622,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof Tunnel.Record) {
+            return (Tunnel.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         Tunnel.Record record = new Tunnel.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18491,6 +16639,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof User.Record) {
+            return (User.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         User.Record record = new User.Record();
             record.uuid = toString(map.get("uuid"));
@@ -18504,6 +16655,9 @@ public class Types
         if (object == null) {
             return null;
         }
+        if (object instanceof VdiNbdServerInfo.Record) {
+            return (VdiNbdServerInfo.Record) object;
+        }
         Map<String,Object> map = (Map<String,Object>) object;
         VdiNbdServerInfo.Record record = new VdiNbdServerInfo.Record();
             record.exportname = toString(map.get("exportname"));
@@ -1233,4 +1233,23 @@ public class VBD extends XenAPIObject {
             return Types.toMapOfVBDVBDRecord(result);
     }
 
+    /**
+     * Return a map of VBD references to VBD records for all VBDs matching the expression, for example
+     * field "type"="Disk". Only the matching records are sent by the server.
+     *
+     * @param expr The expression to match
+     * @return records of the matching objects
+     */
+    public static Map<VBD, VBD.Record> getAllRecordsWhere(Connection c, String expr) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VBD.get_all_records_where";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(expr)};
+        Map response = c.dispatch(method_call, method_params);
+        Object result = response.get("Value");
+            return Types.toMapOfVBDVBDRecord(result);
+    }
+
 }
\ No newline at end of file
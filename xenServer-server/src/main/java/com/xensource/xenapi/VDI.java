@@ -2593,4 +2593,23 @@ public class VDI extends XenAPIObject {
             return Types.toMapOfVDIVDIRecord(result);
     }
 
+    /**
+     * Return a map of VDI references to VDI records for all VDIs matching the expression, for example
+     * field "is_a_snapshot"="false". Only the matching records are sent by the server.
+     *
+     * @param expr The expression to match
+     * @return records of the matching objects
+     */
+    public static Map<VDI, VDI.Record> getAllRecordsWhere(Connection c, String expr) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VDI.get_all_records_where";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(expr)};
+        Map response = c.dispatch(method_call, method_params);
+        Object result = response.get("Value");
+            return Types.toMapOfVDIVDIRecord(result);
+    }
+
 }
\ No newline at end of file
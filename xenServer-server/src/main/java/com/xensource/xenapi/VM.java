@@ -654,6 +654,671 @@ public class VM extends XenAPIObject {
         public Types.DomainType domainType;
     }
 
+    /**
+     * A VM record whose fields are decoded from the raw struct the first time they are read
+     */
+    public static class LazyRecord extends AbstractLazyRecord {
+        static final ResponseDecoder.RecordConverter CONVERTER = new ResponseDecoder.RecordConverter() {
+            public Object convert(Map<String, Object> raw) {
+                return new LazyRecord(raw);
+            }
+        };
+
+        private final VM.Record decoded;
+
+        LazyRecord(Map<String, Object> raw) {
+            super(raw, 84);
+            this.decoded = null;
+        }
+
+        private LazyRecord(VM.Record decoded) {
+            super(null, 0);
+            this.decoded = decoded;
+        }
+
+        /**
+         * Wraps a record that has already been decoded, such as an event snapshot
+         */
+        public static LazyRecord of(VM.Record record) {
+            return record == null ? null : new LazyRecord(record);
+        }
+
+        /**
+         * Decodes all the fields into a VM.Record
+         */
+        public VM.Record toRecord() {
+            return decoded != null ? decoded : Types.toVMRecord(raw());
+        }
+
+        public Map<String,Object> toMap() {
+            return toRecord().toMap();
+        }
+
+        /**
+         * Unique identifier/object reference
+         */
+        public String getUuid() {
+            return decoded != null ? decoded.uuid : (String) field(0, "uuid", raw -> Types.toString(raw));
+        }
+
+        /**
+         * list of the operations allowed in this state. This list is advisory only and the server state may have changed by the time this field is read by a client.
+         */
+        public Set<Types.VmOperations> getAllowedOperations() {
+            return decoded != null ? decoded.allowedOperations : (Set<Types.VmOperations>) field(1, "allowed_operations", raw -> Types.toSetOfVmOperations(raw));
+        }
+
+        /**
+         * links each of the running tasks using this object (by reference) to a current_operation enum which describes the nature of the task.
+         */
+        public Map<String, Types.VmOperations> getCurrentOperations() {
+            return decoded != null ? decoded.currentOperations : (Map<String, Types.VmOperations>) field(2, "current_operations", raw -> Types.toMapOfStringVmOperations(raw));
+        }
+
+        /**
+         * Current power state of the machine
+         */
+        public Types.VmPowerState getPowerState() {
+            return decoded != null ? decoded.powerState : (Types.VmPowerState) field(3, "power_state", raw -> Types.toVmPowerState(raw));
+        }
+
+        /**
+         * a human-readable name
+         */
+        public String getNameLabel() {
+            return decoded != null ? decoded.nameLabel : (String) field(4, "name_label", raw -> Types.toString(raw));
+        }
+
+        /**
+         * a notes field containing human-readable description
+         */
+        public String getNameDescription() {
+            return decoded != null ? decoded.nameDescription : (String) field(5, "name_description", raw -> Types.toString(raw));
+        }
+
+        /**
+         * Creators of VMs and templates may store version information here.
+         */
+        public Long getUserVersion() {
+            return decoded != null ? decoded.userVersion : (Long) field(6, "user_version", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * true if this is a template. Template VMs can never be started, they are used only for cloning other VMs
+         */
+        public Boolean getIsATemplate() {
+            return decoded != null ? decoded.isATemplate : (Boolean) field(7, "is_a_template", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * true if this is a default template. Default template VMs can never be started or migrated, they are used only for cloning other VMs
+         * First published in XenServer 7.2.
+         */
+        public Boolean getIsDefaultTemplate() {
+            return decoded != null ? decoded.isDefaultTemplate : (Boolean) field(8, "is_default_template", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * The VDI that a suspend image is stored on. (Only has meaning if VM is currently suspended)
+         */
+        public VDI getSuspendVDI() {
+            return decoded != null ? decoded.suspendVDI : (VDI) field(9, "suspend_VDI", raw -> Types.toVDI(raw));
+        }
+
+        /**
+         * the host the VM is currently resident on
+         */
+        public Host getResidentOn() {
+            return decoded != null ? decoded.residentOn : (Host) field(10, "resident_on", raw -> Types.toHost(raw));
+        }
+
+        /**
+         * A host which the VM has some affinity for (or NULL). This is used as a hint to the start call when it decides where to run the VM. Resource constraints may cause the VM to be started elsewhere.
+         */
+        public Host getAffinity() {
+            return decoded != null ? decoded.affinity : (Host) field(11, "affinity", raw -> Types.toHost(raw));
+        }
+
+        /**
+         * Virtualization memory overhead (bytes).
+         */
+        public Long getMemoryOverhead() {
+            return decoded != null ? decoded.memoryOverhead : (Long) field(12, "memory_overhead", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Dynamically-set memory target (bytes). The value of this field indicates the current target for memory available to this VM.
+         */
+        public Long getMemoryTarget() {
+            return decoded != null ? decoded.memoryTarget : (Long) field(13, "memory_target", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Statically-set (i.e. absolute) maximum (bytes). The value of this field at VM start time acts as a hard limit of the amount of memory a guest can use. New values only take effect on reboot.
+         */
+        public Long getMemoryStaticMax() {
+            return decoded != null ? decoded.memoryStaticMax : (Long) field(14, "memory_static_max", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Dynamic maximum (bytes)
+         */
+        public Long getMemoryDynamicMax() {
+            return decoded != null ? decoded.memoryDynamicMax : (Long) field(15, "memory_dynamic_max", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Dynamic minimum (bytes)
+         */
+        public Long getMemoryDynamicMin() {
+            return decoded != null ? decoded.memoryDynamicMin : (Long) field(16, "memory_dynamic_min", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Statically-set (i.e. absolute) mininum (bytes). The value of this field indicates the least amount of memory this VM can boot with without crashing.
+         */
+        public Long getMemoryStaticMin() {
+            return decoded != null ? decoded.memoryStaticMin : (Long) field(17, "memory_static_min", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * configuration parameters for the selected VCPU policy
+         */
+        public Map<String, String> getVCPUsParams() {
+            return decoded != null ? decoded.VCPUsParams : (Map<String, String>) field(18, "VCPUs_params", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * Max number of VCPUs
+         */
+        public Long getVCPUsMax() {
+            return decoded != null ? decoded.VCPUsMax : (Long) field(19, "VCPUs_max", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Boot number of VCPUs
+         */
+        public Long getVCPUsAtStartup() {
+            return decoded != null ? decoded.VCPUsAtStartup : (Long) field(20, "VCPUs_at_startup", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * action to take after the guest has shutdown itself
+         */
+        public Types.OnNormalExit getActionsAfterShutdown() {
+            return decoded != null ? decoded.actionsAfterShutdown : (Types.OnNormalExit) field(21, "actions_after_shutdown", raw -> Types.toOnNormalExit(raw));
+        }
+
+        /**
+         * action to take after the guest has rebooted itself
+         */
+        public Types.OnNormalExit getActionsAfterReboot() {
+            return decoded != null ? decoded.actionsAfterReboot : (Types.OnNormalExit) field(22, "actions_after_reboot", raw -> Types.toOnNormalExit(raw));
+        }
+
+        /**
+         * action to take if the guest crashes
+         */
+        public Types.OnCrashBehaviour getActionsAfterCrash() {
+            return decoded != null ? decoded.actionsAfterCrash : (Types.OnCrashBehaviour) field(23, "actions_after_crash", raw -> Types.toOnCrashBehaviour(raw));
+        }
+
+        /**
+         * virtual console devices
+         */
+        public Set<Console> getConsoles() {
+            return decoded != null ? decoded.consoles : (Set<Console>) field(24, "consoles", raw -> Types.toSetOfConsole(raw));
+        }
+
+        /**
+         * virtual network interfaces
+         */
+        public Set<VIF> getVIFs() {
+            return decoded != null ? decoded.VIFs : (Set<VIF>) field(25, "VIFs", raw -> Types.toSetOfVIF(raw));
+        }
+
+        /**
+         * virtual block devices
+         */
+        public Set<VBD> getVBDs() {
+            return decoded != null ? decoded.VBDs : (Set<VBD>) field(26, "VBDs", raw -> Types.toSetOfVBD(raw));
+        }
+
+        /**
+         * vitual usb devices
+         */
+        public Set<VUSB> getVUSBs() {
+            return decoded != null ? decoded.VUSBs : (Set<VUSB>) field(27, "VUSBs", raw -> Types.toSetOfVUSB(raw));
+        }
+
+        /**
+         * crash dumps associated with this VM
+         */
+        public Set<Crashdump> getCrashDumps() {
+            return decoded != null ? decoded.crashDumps : (Set<Crashdump>) field(28, "crash_dumps", raw -> Types.toSetOfCrashdump(raw));
+        }
+
+        /**
+         * virtual TPMs
+         */
+        public Set<VTPM> getVTPMs() {
+            return decoded != null ? decoded.VTPMs : (Set<VTPM>) field(29, "VTPMs", raw -> Types.toSetOfVTPM(raw));
+        }
+
+        /**
+         * name of or path to bootloader
+         */
+        public String getPVBootloader() {
+            return decoded != null ? decoded.PVBootloader : (String) field(30, "PV_bootloader", raw -> Types.toString(raw));
+        }
+
+        /**
+         * path to the kernel
+         */
+        public String getPVKernel() {
+            return decoded != null ? decoded.PVKernel : (String) field(31, "PV_kernel", raw -> Types.toString(raw));
+        }
+
+        /**
+         * path to the initrd
+         */
+        public String getPVRamdisk() {
+            return decoded != null ? decoded.PVRamdisk : (String) field(32, "PV_ramdisk", raw -> Types.toString(raw));
+        }
+
+        /**
+         * kernel command-line arguments
+         */
+        public String getPVArgs() {
+            return decoded != null ? decoded.PVArgs : (String) field(33, "PV_args", raw -> Types.toString(raw));
+        }
+
+        /**
+         * miscellaneous arguments for the bootloader
+         */
+        public String getPVBootloaderArgs() {
+            return decoded != null ? decoded.PVBootloaderArgs : (String) field(34, "PV_bootloader_args", raw -> Types.toString(raw));
+        }
+
+        /**
+         * to make Zurich guests boot
+         */
+        public String getPVLegacyArgs() {
+            return decoded != null ? decoded.PVLegacyArgs : (String) field(35, "PV_legacy_args", raw -> Types.toString(raw));
+        }
+
+        /**
+         * HVM boot policy
+         */
+        public String getHVMBootPolicy() {
+            return decoded != null ? decoded.HVMBootPolicy : (String) field(36, "HVM_boot_policy", raw -> Types.toString(raw));
+        }
+
+        /**
+         * HVM boot params
+         */
+        public Map<String, String> getHVMBootParams() {
+            return decoded != null ? decoded.HVMBootParams : (Map<String, String>) field(37, "HVM_boot_params", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * multiplier applied to the amount of shadow that will be made available to the guest
+         * First published in XenServer 4.1.
+         */
+        public Double getHVMShadowMultiplier() {
+            return decoded != null ? decoded.HVMShadowMultiplier : (Double) field(38, "HVM_shadow_multiplier", raw -> Types.toDouble(raw));
+        }
+
+        /**
+         * platform-specific configuration
+         */
+        public Map<String, String> getPlatform() {
+            return decoded != null ? decoded.platform : (Map<String, String>) field(39, "platform", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * PCI bus path for pass-through devices
+         */
+        public String getPCIBus() {
+            return decoded != null ? decoded.PCIBus : (String) field(40, "PCI_bus", raw -> Types.toString(raw));
+        }
+
+        /**
+         * additional configuration
+         */
+        public Map<String, String> getOtherConfig() {
+            return decoded != null ? decoded.otherConfig : (Map<String, String>) field(41, "other_config", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * domain ID (if available, -1 otherwise)
+         */
+        public Long getDomid() {
+            return decoded != null ? decoded.domid : (Long) field(42, "domid", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Domain architecture (if available, null string otherwise)
+         */
+        public String getDomarch() {
+            return decoded != null ? decoded.domarch : (String) field(43, "domarch", raw -> Types.toString(raw));
+        }
+
+        /**
+         * describes the CPU flags on which the VM was last booted
+         */
+        public Map<String, String> getLastBootCPUFlags() {
+            return decoded != null ? decoded.lastBootCPUFlags : (Map<String, String>) field(44, "last_boot_CPU_flags", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * true if this is a control domain (domain 0 or a driver domain)
+         */
+        public Boolean getIsControlDomain() {
+            return decoded != null ? decoded.isControlDomain : (Boolean) field(45, "is_control_domain", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * metrics associated with this VM
+         */
+        public VMMetrics getMetrics() {
+            return decoded != null ? decoded.metrics : (VMMetrics) field(46, "metrics", raw -> Types.toVMMetrics(raw));
+        }
+
+        /**
+         * metrics associated with the running guest
+         */
+        public VMGuestMetrics getGuestMetrics() {
+            return decoded != null ? decoded.guestMetrics : (VMGuestMetrics) field(47, "guest_metrics", raw -> Types.toVMGuestMetrics(raw));
+        }
+
+        /**
+         * marshalled value containing VM record at time of last boot, updated dynamically to reflect the runtime state of the domain
+         * First published in XenServer 4.1.
+         */
+        public String getLastBootedRecord() {
+            return decoded != null ? decoded.lastBootedRecord : (String) field(48, "last_booted_record", raw -> Types.toString(raw));
+        }
+
+        /**
+         * An XML specification of recommended values and ranges for properties of this VM
+         */
+        public String getRecommendations() {
+            return decoded != null ? decoded.recommendations : (String) field(49, "recommendations", raw -> Types.toString(raw));
+        }
+
+        /**
+         * data to be inserted into the xenstore tree (/local/domain/<domid>/vm-data) after the VM is created.
+         * First published in XenServer 4.1.
+         */
+        public Map<String, String> getXenstoreData() {
+            return decoded != null ? decoded.xenstoreData : (Map<String, String>) field(50, "xenstore_data", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * if true then the system will attempt to keep the VM running as much as possible.
+         * First published in XenServer 5.0.
+         */
+        public Boolean getHaAlwaysRun() {
+            return decoded != null ? decoded.haAlwaysRun : (Boolean) field(51, "ha_always_run", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * has possible values: "best-effort" meaning "try to restart this VM if possible but don't consider the Pool to be overcommitted if this is not possible"; "restart" meaning "this VM should be restarted"; "" meaning "do not try to restart this VM"
+         * First published in XenServer 5.0.
+         */
+        public String getHaRestartPriority() {
+            return decoded != null ? decoded.haRestartPriority : (String) field(52, "ha_restart_priority", raw -> Types.toString(raw));
+        }
+
+        /**
+         * true if this is a snapshot. Snapshotted VMs can never be started, they are used only for cloning other VMs
+         * First published in XenServer 5.0.
+         */
+        public Boolean getIsASnapshot() {
+            return decoded != null ? decoded.isASnapshot : (Boolean) field(53, "is_a_snapshot", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * Ref pointing to the VM this snapshot is of.
+         * First published in XenServer 5.0.
+         */
+        public VM getSnapshotOf() {
+            return decoded != null ? decoded.snapshotOf : (VM) field(54, "snapshot_of", raw -> Types.toVM(raw));
+        }
+
+        /**
+         * List pointing to all the VM snapshots.
+         * First published in XenServer 5.0.
+         */
+        public Set<VM> getSnapshots() {
+            return decoded != null ? decoded.snapshots : (Set<VM>) field(55, "snapshots", raw -> Types.toSetOfVM(raw));
+        }
+
+        /**
+         * Date/time when this snapshot was created.
+         * First published in XenServer 5.0.
+         */
+        public Date getSnapshotTime() {
+            return decoded != null ? decoded.snapshotTime : (Date) field(56, "snapshot_time", raw -> Types.toDate(raw));
+        }
+
+        /**
+         * Transportable ID of the snapshot VM
+         * First published in XenServer 5.0.
+         */
+        public String getTransportableSnapshotId() {
+            return decoded != null ? decoded.transportableSnapshotId : (String) field(57, "transportable_snapshot_id", raw -> Types.toString(raw));
+        }
+
+        /**
+         * Binary blobs associated with this VM
+         * First published in XenServer 5.0.
+         */
+        public Map<String, Blob> getBlobs() {
+            return decoded != null ? decoded.blobs : (Map<String, Blob>) field(58, "blobs", raw -> Types.toMapOfStringBlob(raw));
+        }
+
+        /**
+         * user-specified tags for categorization purposes
+         * First published in XenServer 5.0.
+         */
+        public Set<String> getTags() {
+            return decoded != null ? decoded.tags : (Set<String>) field(59, "tags", raw -> Types.toSetOfString(raw));
+        }
+
+        /**
+         * List of operations which have been explicitly blocked and an error code
+         * First published in XenServer 5.0.
+         */
+        public Map<Types.VmOperations, String> getBlockedOperations() {
+            return decoded != null ? decoded.blockedOperations : (Map<Types.VmOperations, String>) field(60, "blocked_operations", raw -> Types.toMapOfVmOperationsString(raw));
+        }
+
+        /**
+         * Human-readable information concerning this snapshot
+         * First published in XenServer 5.6.
+         */
+        public Map<String, String> getSnapshotInfo() {
+            return decoded != null ? decoded.snapshotInfo : (Map<String, String>) field(61, "snapshot_info", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * Encoded information about the VM's metadata this is a snapshot of
+         * First published in XenServer 5.6.
+         */
+        public String getSnapshotMetadata() {
+            return decoded != null ? decoded.snapshotMetadata : (String) field(62, "snapshot_metadata", raw -> Types.toString(raw));
+        }
+
+        /**
+         * Ref pointing to the parent of this VM
+         * First published in XenServer 5.6.
+         */
+        public VM getParent() {
+            return decoded != null ? decoded.parent : (VM) field(63, "parent", raw -> Types.toVM(raw));
+        }
+
+        /**
+         * List pointing to all the children of this VM
+         * First published in XenServer 5.6.
+         */
+        public Set<VM> getChildren() {
+            return decoded != null ? decoded.children : (Set<VM>) field(64, "children", raw -> Types.toSetOfVM(raw));
+        }
+
+        /**
+         * BIOS strings
+         * First published in XenServer 5.6.
+         */
+        public Map<String, String> getBiosStrings() {
+            return decoded != null ? decoded.biosStrings : (Map<String, String>) field(65, "bios_strings", raw -> Types.toMapOfStringString(raw));
+        }
+
+        /**
+         * Ref pointing to a protection policy for this VM
+         * First published in XenServer 5.6 FP1.
+         */
+        public VMPP getProtectionPolicy() {
+            return decoded != null ? decoded.protectionPolicy : (VMPP) field(66, "protection_policy", raw -> Types.toVMPP(raw));
+        }
+
+        /**
+         * true if this snapshot was created by the protection policy
+         * First published in XenServer 5.6 FP1.
+         */
+        public Boolean getIsSnapshotFromVmpp() {
+            return decoded != null ? decoded.isSnapshotFromVmpp : (Boolean) field(67, "is_snapshot_from_vmpp", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * Ref pointing to a snapshot schedule for this VM
+         * First published in XenServer 7.2.
+         */
+        public VMSS getSnapshotSchedule() {
+            return decoded != null ? decoded.snapshotSchedule : (VMSS) field(68, "snapshot_schedule", raw -> Types.toVMSS(raw));
+        }
+
+        /**
+         * true if this snapshot was created by the snapshot schedule
+         * First published in XenServer 7.2.
+         */
+        public Boolean getIsVmssSnapshot() {
+            return decoded != null ? decoded.isVmssSnapshot : (Boolean) field(69, "is_vmss_snapshot", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * the appliance to which this VM belongs
+         */
+        public VMAppliance getAppliance() {
+            return decoded != null ? decoded.appliance : (VMAppliance) field(70, "appliance", raw -> Types.toVMAppliance(raw));
+        }
+
+        /**
+         * The delay to wait before proceeding to the next order in the startup sequence (seconds)
+         * First published in XenServer 6.0.
+         */
+        public Long getStartDelay() {
+            return decoded != null ? decoded.startDelay : (Long) field(71, "start_delay", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * The delay to wait before proceeding to the next order in the shutdown sequence (seconds)
+         * First published in XenServer 6.0.
+         */
+        public Long getShutdownDelay() {
+            return decoded != null ? decoded.shutdownDelay : (Long) field(72, "shutdown_delay", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * The point in the startup or shutdown sequence at which this VM will be started
+         * First published in XenServer 6.0.
+         */
+        public Long getOrder() {
+            return decoded != null ? decoded.order : (Long) field(73, "order", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Virtual GPUs
+         * First published in XenServer 6.0.
+         */
+        public Set<VGPU> getVGPUs() {
+            return decoded != null ? decoded.VGPUs : (Set<VGPU>) field(74, "VGPUs", raw -> Types.toSetOfVGPU(raw));
+        }
+
+        /**
+         * Currently passed-through PCI devices
+         * First published in XenServer 6.0.
+         */
+        public Set<PCI> getAttachedPCIs() {
+            return decoded != null ? decoded.attachedPCIs : (Set<PCI>) field(75, "attached_PCIs", raw -> Types.toSetOfPCI(raw));
+        }
+
+        /**
+         * The SR on which a suspend image is stored
+         * First published in XenServer 6.0.
+         */
+        public SR getSuspendSR() {
+            return decoded != null ? decoded.suspendSR : (SR) field(76, "suspend_SR", raw -> Types.toSR(raw));
+        }
+
+        /**
+         * The number of times this VM has been recovered
+         * First published in XenServer 6.0.
+         */
+        public Long getVersion() {
+            return decoded != null ? decoded.version : (Long) field(77, "version", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * Generation ID of the VM
+         * First published in XenServer 6.2.
+         */
+        public String getGenerationId() {
+            return decoded != null ? decoded.generationId : (String) field(78, "generation_id", raw -> Types.toString(raw));
+        }
+
+        /**
+         * The host virtual hardware platform version the VM can run on
+         * First published in XenServer 6.5 SP1.
+         */
+        public Long getHardwarePlatformVersion() {
+            return decoded != null ? decoded.hardwarePlatformVersion : (Long) field(79, "hardware_platform_version", raw -> Types.toLong(raw));
+        }
+
+        /**
+         * When an HVM guest starts, this controls the presence of the emulated C000 PCI device which triggers Windows Update to fetch or update PV drivers.
+         * First published in XenServer 7.0.
+         */
+        public Boolean getHasVendorDevice() {
+            return decoded != null ? decoded.hasVendorDevice : (Boolean) field(80, "has_vendor_device", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * Indicates whether a VM requires a reboot in order to update its configuration, e.g. its memory allocation.
+         * First published in XenServer 7.1.
+         */
+        public Boolean getRequiresReboot() {
+            return decoded != null ? decoded.requiresReboot : (Boolean) field(81, "requires_reboot", raw -> Types.toBoolean(raw));
+        }
+
+        /**
+         * Textual reference to the template used to create a VM. This can be used by clients in need of an immutable reference to the template since the latter's uuid and name_label may change, for example, after a package installation or upgrade.
+         * First published in XenServer 7.1.
+         */
+        public String getReferenceLabel() {
+            return decoded != null ? decoded.referenceLabel : (String) field(82, "reference_label", raw -> Types.toString(raw));
+        }
+
+        /**
+         * The type of domain that will be created when the VM is started
+         * First published in Unreleased.
+         */
+        public Types.DomainType getDomainType() {
+            return decoded != null ? decoded.domainType : (Types.DomainType) field(83, "domain_type", raw -> Types.toDomainType(raw));
+        }
+    }
+
     /**
      * Get a record containing the current state of the given VM.
      * First published in XenServer 4.0.
@@ -5917,4 +6582,78 @@ public class VM extends XenAPIObject {
             return Types.toMapOfVMVMRecord(result);
     }
 
+    /**
+     * Return a map of VM references to VM records for all VMs matching the expression, for example
+     * field "is_a_template"="false". Only the matching records are sent by the server.
+     *
+     * @param expr The expression to match
+     * @return records of the matching objects
+     */
+    public static Map<VM, VM.Record> getAllRecordsWhere(Connection c, String expr) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VM.get_all_records_where";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(expr)};
+        Map response = c.dispatch(method_call, method_params);
+        Object result = response.get("Value");
+            return Types.toMapOfVMVMRecord(result);
+    }
+
+    /**
+     * Return a map of VM references to lazily decoded VM records for all VMs known to the system.
+     *
+     * @return records of all objects
+     */
+    public static Map<VM, VM.LazyRecord> getAllLazyRecords(Connection c) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VM.get_all_records";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session)};
+        ResponseDecoder.RecordConverter previous = ResponseDecoder.override(method_call, LazyRecord.CONVERTER);
+        Map response;
+        try {
+            response = c.dispatch(method_call, method_params);
+        } finally {
+            ResponseDecoder.override(method_call, previous);
+        }
+        Map<?, ?> result = (Map<?, ?>) response.get("Value");
+        Map<VM, VM.LazyRecord> records = new HashMap<VM, VM.LazyRecord>();
+        for (Map.Entry<?, ?> entry : result.entrySet()) {
+            records.put(Types.toVM(entry.getKey()), (VM.LazyRecord) entry.getValue());
+        }
+        return records;
+    }
+
+    /**
+     * Return a map of VM references to lazily decoded VM records for all VMs matching the expression.
+     *
+     * @param expr The expression to match
+     * @return records of the matching objects
+     */
+    public static Map<VM, VM.LazyRecord> getAllLazyRecordsWhere(Connection c, String expr) throws
+       BadServerResponse,
+       XenAPIException,
+       XmlRpcException {
+        String method_call = "VM.get_all_records_where";
+        String session = c.getSessionReference();
+        Object[] method_params = {Marshalling.toXMLRPC(session), Marshalling.toXMLRPC(expr)};
+        ResponseDecoder.RecordConverter previous = ResponseDecoder.override(method_call, LazyRecord.CONVERTER);
+        Map response;
+        try {
+            response = c.dispatch(method_call, method_params);
+        } finally {
+            ResponseDecoder.override(method_call, previous);
+        }
+        Map<?, ?> result = (Map<?, ?>) response.get("Value");
+        Map<VM, VM.LazyRecord> records = new HashMap<VM, VM.LazyRecord>();
+        for (Map.Entry<?, ?> entry : result.entrySet()) {
+            records.put(Types.toVM(entry.getKey()), (VM.LazyRecord) entry.getValue());
+        }
+        return records;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.util.Collection;
+
+import org.apache.xmlrpc.common.TypeFactoryImpl;
+import org.apache.xmlrpc.common.XmlRpcController;
+import org.apache.xmlrpc.common.XmlRpcStreamConfig;
+import org.apache.xmlrpc.serializer.MapSerializer;
+import org.apache.xmlrpc.serializer.ObjectArraySerializer;
+import org.apache.xmlrpc.serializer.TypeSerializer;
+import org.apache.xmlrpc.serializer.TypeSerializerImpl;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Serializes the Java types of the binding onto the wire as XenAPI expects them, so Marshalling can pass call
+ * parameters through unchanged instead of copying them into wire-compatible collections first:
+ * Longs, enums and object references are written as strings, null as the empty string, Sets and other Collections
+ * as arrays and Maps as structs whose member names are the wire strings of their keys.
+ */
+class WireTypeFactory extends TypeFactoryImpl
+{
+    private static final TypeSerializer WIRE_STRING_SERIALIZER = new TypeSerializerImpl()
+    {
+        public void write(ContentHandler pHandler, Object pObject) throws SAXException
+        {
+            write(pHandler, null, toWireString(pObject));
+        }
+    };
+
+    WireTypeFactory(XmlRpcController controller)
+    {
+        super(controller);
+    }
+
+    public TypeSerializer getSerializer(XmlRpcStreamConfig pConfig, Object pObject) throws SAXException
+    {
+        if (pObject == null || pObject instanceof Long || pObject instanceof XenAPIObject || pObject instanceof Enum)
+        {
+            return WIRE_STRING_SERIALIZER;
+        }
+        else if (pObject instanceof Collection)
+        {
+            return new ObjectArraySerializer(this, pConfig)
+            {
+                protected void writeData(ContentHandler pHandler, Object pObject) throws SAXException
+                {
+                    for (Object item : (Collection) pObject)
+                    {
+                        writeObject(pHandler, item);
+                    }
+                }
+            };
+        }
+        else if (pObject instanceof java.util.Map)
+        {
+            return new MapSerializer(this, pConfig)
+            {
+                protected void writeEntry(ContentHandler pHandler, Object pKey, Object pValue) throws SAXException
+                {
+                    super.writeEntry(pHandler, toWireString(pKey), pValue);
+                }
+            };
+        }
+        return super.getSerializer(pConfig, pObject);
+    }
+
+    /**
+     * The string a scalar is sent as: "" for null, the reference of an object and the wire name of an enum value.
+     */
+    static String toWireString(Object o)
+    {
+        if (o == null)
+        {
+            return "";
+        }
+        if (o instanceof XenAPIObject)
+        {
+            return ((XenAPIObject) o).toWireString();
+        }
+        return o.toString();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) Citrix Systems, Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *   1) Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *
+ *   2) Redistributions in binary form must reproduce the above
+ *      copyright notice, this list of conditions and the following
+ *      disclaimer in the documentation and/or other materials
+ *      provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS
+ * FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.xensource.xenapi;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns XenAPIObject instances by type and reference, so the references repeated throughout the records of a pool
+ * (resident_on, affinity, the pool's hosts...) share one object and one String while they are in use. Entries are
+ * weakly held and disappear once no record refers to them any more.
+ */
+final class XenAPIObjectCache
+{
+    /**
+     * Creates the object for a reference that is not interned yet.
+     */
+    interface Factory<T extends XenAPIObject>
+    {
+        T create(String ref);
+    }
+
+    private static final ClassValue<XenAPIObjectCache> caches = new ClassValue<XenAPIObjectCache>()
+    {
+        protected XenAPIObjectCache computeValue(Class<?> type)
+        {
+            return new XenAPIObjectCache();
+        }
+    };
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+    private final ReferenceQueue<XenAPIObject> queue = new ReferenceQueue<XenAPIObject>();
+
+    private XenAPIObjectCache()
+    {
+    }
+
+    /**
+     * Returns the live object of the given type for the reference, creating and interning it if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends XenAPIObject> T intern(Class<T> type, String ref, Factory<T> factory)
+    {
+        return (T) caches.get(type).intern(ref, factory);
+    }
+
+    private XenAPIObject intern(String ref, Factory<? extends XenAPIObject> factory)
+    {
+        expunge();
+        Entry entry = entries.get(ref);
+        XenAPIObject object = entry == null ? null : entry.get();
+        if (object != null)
+        {
+            return object;
+        }
+        object = factory.create(ref);
+        Entry created = new Entry(ref, object, queue);
+        while (true)
+        {
+            entry = entries.putIfAbsent(ref, created);
+            if (entry == null)
+            {
+                return object;
+            }
+            XenAPIObject existing = entry.get();
+            if (existing != null)
+            {
+                return existing;
+            }
+            if (entries.replace(ref, entry, created))
+            {
+                return object;
+            }
+        }
+    }
+
+    private void expunge()
+    {
+        Entry entry;
+        while ((entry = (Entry) queue.poll()) != null)
+        {
+            entries.remove(entry.ref, entry);
+        }
+    }
+
+    private static final class Entry extends WeakReference<XenAPIObject>
+    {
+        private final String ref;
+
+        Entry(String ref, XenAPIObject object, ReferenceQueue<XenAPIObject> queue)
+        {
+            super(object, queue);
+            this.ref = ref;
+        }
+    }
+}
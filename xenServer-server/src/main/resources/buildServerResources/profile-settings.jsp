@@ -34,3 +34,121 @@
         <span id="error_clouds.xenserver.template" class="error"></span>
     </td>
 </tr>
+
+
+<c:set var="paramMaxConnections" value="<%=XenServerCloudParameters.MAX_CONNECTIONS%>"/>
+<tr>
+    <th><label for="${paramMaxConnections}">Max connections: <l:star/></label></th>
+    <td><props:textProperty name="${paramMaxConnections}" className="longField"/>
+        <span class="smallNote">Maximum number of keep-alive connections to the pool master</span>
+        <span id="error_clouds.xenserver.maxConnections" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramWarmPoolSize" value="<%=XenServerCloudParameters.WARM_POOL_SIZE%>"/>
+<tr>
+    <th><label for="${paramWarmPoolSize}">Warm pool size: <l:star/></label></th>
+    <td><props:textProperty name="${paramWarmPoolSize}" className="longField"/>
+        <span class="smallNote">Number of halted clones kept ready to start; 0 clones on demand</span>
+        <span id="error_clouds.xenserver.warmPoolSize" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramWarmPoolMode" value="<%=XenServerCloudParameters.WARM_POOL_MODE%>"/>
+<tr>
+    <th><label for="${paramWarmPoolMode}">Warm pool mode: <l:star/></label></th>
+    <td>
+        <props:selectProperty name="${paramWarmPoolMode}">
+            <props:option value="<%=XenServerCloudParameters.WARM_POOL_HALTED%>">Halted clones</props:option>
+            <props:option value="<%=XenServerCloudParameters.WARM_POOL_SUSPENDED%>">Booted and suspended clones</props:option>
+        </props:selectProperty>
+        <span class="smallNote">Suspended clones resume in seconds instead of booting, at the cost of their memory image on the suspend SR</span>
+        <span id="error_clouds.xenserver.warmPoolMode" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramTerminateMode" value="<%=XenServerCloudParameters.TERMINATE_MODE%>"/>
+<tr>
+    <th><label for="${paramTerminateMode}">Terminated instances: <l:star/></label></th>
+    <td>
+        <props:selectProperty name="${paramTerminateMode}">
+            <props:option value="<%=XenServerCloudParameters.TERMINATE_DESTROY%>">Destroy</props:option>
+            <props:option value="<%=XenServerCloudParameters.TERMINATE_RECYCLE%>">Recycle with reset-on-boot disks</props:option>
+            <props:option value="<%=XenServerCloudParameters.TERMINATE_REVERT%>">Revert to the snapshot taken at agent registration</props:option>
+        </props:selectProperty>
+        <span class="smallNote">Recycled and reverted instances are shut down and returned to the warm pool instead of destroyed</span>
+        <span id="error_clouds.xenserver.terminateMode" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramDestroysPerSR" value="<%=XenServerCloudParameters.DESTROYS_PER_SR%>"/>
+<tr>
+    <th><label for="${paramDestroysPerSR}">Disk destroys per SR: <l:star/></label></th>
+    <td><props:textProperty name="${paramDestroysPerSR}" className="longField"/>
+        <span class="smallNote">Maximum number of disks of terminated instances destroyed at once on each SR</span>
+        <span id="error_clouds.xenserver.destroysPerSR" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramScanAfterDestroy" value="<%=XenServerCloudParameters.SCAN_AFTER_DESTROY%>"/>
+<tr>
+    <th><label for="${paramScanAfterDestroy}">Scan SR after destroys:</label></th>
+    <td><props:checkboxProperty name="${paramScanAfterDestroy}"/>
+        <span class="smallNote">Scan each SR once its queued disks have been destroyed, to reclaim their space sooner</span>
+    </td>
+</tr>
+
+<c:set var="paramMaxInstances" value="<%=XenServerCloudParameters.MAX_INSTANCES%>"/>
+<tr>
+    <th><label for="${paramMaxInstances}">Maximum instances: <l:star/></label></th>
+    <td><props:textProperty name="${paramMaxInstances}" className="longField"/>
+        <span class="smallNote">Most instances of the image to run at once; 0 limits them only by the pool's free memory</span>
+        <span id="error_clouds.xenserver.maxInstances" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramPlacement" value="<%=XenServerCloudParameters.PLACEMENT%>"/>
+<tr>
+    <th><label for="${paramPlacement}">Instance placement: <l:star/></label></th>
+    <td>
+        <props:selectProperty name="${paramPlacement}">
+            <props:option value="<%=XenServerCloudParameters.PLACEMENT_SERVER%>">Left to XenServer</props:option>
+            <props:option value="<%=XenServerCloudParameters.PLACEMENT_SPREAD%>">Spread over the hosts</props:option>
+            <props:option value="<%=XenServerCloudParameters.PLACEMENT_PACK%>">Packed onto as few hosts as possible</props:option>
+            <props:option value="<%=XenServerCloudParameters.PLACEMENT_LEAST_LOADED%>">On the host with the lowest CPU load</props:option>
+        </props:selectProperty>
+        <span class="smallNote">Host new instances are started on, among those with enough free memory</span>
+        <span id="error_clouds.xenserver.placement" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramOrphanRunningGrace" value="<%=XenServerCloudParameters.ORPHAN_RUNNING_GRACE%>"/>
+<tr>
+    <th><label for="${paramOrphanRunningGrace}">Agentless VM grace period: <l:star/></label></th>
+    <td><props:textProperty name="${paramOrphanRunningGrace}" className="longField"/>
+        <span class="smallNote">Minutes a running VM of this profile may go without a connected agent before it is destroyed; 0 never destroys them</span>
+        <span id="error_clouds.xenserver.orphanRunningGrace" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramOrphanHaltedGrace" value="<%=XenServerCloudParameters.ORPHAN_HALTED_GRACE%>"/>
+<tr>
+    <th><label for="${paramOrphanHaltedGrace}">Halted VM grace period: <l:star/></label></th>
+    <td><props:textProperty name="${paramOrphanHaltedGrace}" className="longField"/>
+        <span class="smallNote">Minutes a halted instance or unfinished clone of this profile may stay before it is destroyed; 0 never destroys them</span>
+        <span id="error_clouds.xenserver.orphanHaltedGrace" class="error"></span>
+    </td>
+</tr>
+
+<c:set var="paramProtocol" value="<%=XenServerCloudParameters.PROTOCOL%>"/>
+<tr>
+    <th><label for="${paramProtocol}">Protocol: <l:star/></label></th>
+    <td>
+        <props:selectProperty name="${paramProtocol}">
+            <props:option value="<%=XenServerCloudParameters.PROTOCOL_JSON_RPC%>">JSON-RPC</props:option>
+            <props:option value="<%=XenServerCloudParameters.PROTOCOL_XML_RPC%>">XML-RPC</props:option>
+        </props:selectProperty>
+        <span class="smallNote">JSON-RPC falls back to XML-RPC on hosts that do not serve it</span>
+        <span id="error_clouds.xenserver.protocol" class="error"></span>
+    </td>
+</tr>
@@ -0,0 +1,145 @@
+package com.spawtz.teamcity.xenServer;
+
+import com.xensource.xenapi.Host;
+import com.xensource.xenapi.Types;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+@Test
+public class XenServerPlacementPolicyTest {
+    private static final long GIB = 1L << 30;
+
+    private static final Host H1 = Types.toHost("OpaqueRef:h1");
+    private static final Host H2 = Types.toHost("OpaqueRef:h2");
+    private static final Host H3 = Types.toHost("OpaqueRef:h3");
+
+    public void testSpreadPrefersFewerAgents() {
+        XenServerCapacity.HostLoad busy = load(H1, 64 * GIB, 0.1, 3);
+        XenServerCapacity.HostLoad quiet = load(H2, 4 * GIB, 0.9, 1);
+
+        assertTrue(XenServerPlacementPolicy.SPREAD.compare(quiet, busy) < 0);
+        assertTrue(XenServerPlacementPolicy.SPREAD.compare(busy, quiet) > 0);
+    }
+
+    public void testSpreadBreaksTiesOnMoreFreeMemory() {
+        XenServerCapacity.HostLoad roomy = load(H1, 16 * GIB, 0, 2);
+        XenServerCapacity.HostLoad full = load(H2, 0, 0, 2);
+
+        assertTrue(XenServerPlacementPolicy.SPREAD.compare(roomy, full) < 0);
+        assertTrue(XenServerPlacementPolicy.SPREAD.compare(full, roomy) > 0);
+        assertEquals(XenServerPlacementPolicy.SPREAD.compare(full, load(H3, 0, 0.5, 2)), 0);
+    }
+
+    public void testPackPrefersMoreAgents() {
+        XenServerCapacity.HostLoad busy = load(H1, 64 * GIB, 0.9, 3);
+        XenServerCapacity.HostLoad quiet = load(H2, 4 * GIB, 0.1, 1);
+
+        assertTrue(XenServerPlacementPolicy.PACK.compare(busy, quiet) < 0);
+        assertTrue(XenServerPlacementPolicy.PACK.compare(quiet, busy) > 0);
+    }
+
+    public void testPackBreaksTiesOnLessFreeMemory() {
+        XenServerCapacity.HostLoad roomy = load(H1, 16 * GIB, 0, 2);
+        XenServerCapacity.HostLoad full = load(H2, 0, 0, 2);
+
+        assertTrue(XenServerPlacementPolicy.PACK.compare(full, roomy) < 0);
+        assertTrue(XenServerPlacementPolicy.PACK.compare(roomy, full) > 0);
+        assertEquals(XenServerPlacementPolicy.PACK.compare(full, load(H3, 0, 0.5, 2)), 0);
+    }
+
+    public void testLeastLoadedPrefersLowerLoad() {
+        XenServerCapacity.HostLoad idle = load(H1, 0, 0.1, 5);
+        XenServerCapacity.HostLoad busy = load(H2, 64 * GIB, 0.8, 0);
+
+        assertTrue(XenServerPlacementPolicy.LEAST_LOADED.compare(idle, busy) < 0);
+        assertTrue(XenServerPlacementPolicy.LEAST_LOADED.compare(busy, idle) > 0);
+    }
+
+    public void testLeastLoadedComparesLoadsInTenths() {
+        XenServerCapacity.HostLoad a = load(H1, 8 * GIB, 0.12, 2);
+        XenServerCapacity.HostLoad b = load(H2, 0, 0.14, 1);
+
+        // the same tenth, so the host with fewer agents goes first
+        assertTrue(XenServerPlacementPolicy.LEAST_LOADED.compare(b, a) < 0);
+        assertTrue(XenServerPlacementPolicy.LEAST_LOADED.compare(a, b) > 0);
+        // free memory plays no part
+        assertEquals(XenServerPlacementPolicy.LEAST_LOADED.compare(b, load(H3, 64 * GIB, 0.08, 1)), 0);
+    }
+
+    public void testFromParameter() {
+        assertSame(XenServerPlacementPolicy.fromParameter(XenServerCloudParameters.PLACEMENT_SPREAD), XenServerPlacementPolicy.SPREAD);
+        assertSame(XenServerPlacementPolicy.fromParameter(XenServerCloudParameters.PLACEMENT_PACK), XenServerPlacementPolicy.PACK);
+        assertSame(XenServerPlacementPolicy.fromParameter(XenServerCloudParameters.PLACEMENT_LEAST_LOADED), XenServerPlacementPolicy.LEAST_LOADED);
+        assertNull(XenServerPlacementPolicy.fromParameter(XenServerCloudParameters.PLACEMENT_SERVER));
+        assertNull(XenServerPlacementPolicy.fromParameter(null));
+    }
+
+    public void testCandidatesLeaveOutHostsWithoutTheMemory() {
+        List<XenServerCapacity.HostLoad> candidates = XenServerCapacity.getCandidates(Arrays.asList(
+                load(H1, 0, 0, 0), load(H2, 2 * GIB, 0, 0), load(H3, 4 * GIB - 1, 0, 0)), 2 * GIB, XenServerPlacementPolicy.SPREAD);
+
+        assertEquals(candidates.size(), 2);
+        assertSame(candidates.get(0).host, H3);
+        assertSame(candidates.get(1).host, H2);
+        assertTrue(XenServerCapacity.getCandidates(Arrays.asList(load(H1, 0, 0, 0)), 1, null).isEmpty());
+    }
+
+    public void testSimulateSpread() {
+        List<Host> placed = simulate(XenServerPlacementPolicy.SPREAD, 2 * GIB, 7,
+                load(H1, 8 * GIB, 0, 0), load(H2, 6 * GIB, 0, 0), load(H3, 0, 0, 0));
+
+        assertEquals(placed, Arrays.asList(H1, H2, H1, H2, H1, H2, H1));
+    }
+
+    public void testSimulatePack() {
+        List<Host> placed = simulate(XenServerPlacementPolicy.PACK, 2 * GIB, 6,
+                load(H1, 8 * GIB, 0, 0), load(H2, 5 * GIB, 0, 1), load(H3, 0, 0, 4));
+
+        // the busiest host with the room fills up first, the one with no free memory never gets one
+        assertEquals(placed, Arrays.asList(H2, H2, H1, H1, H1, H1));
+    }
+
+    public void testSimulateLeastLoaded() {
+        List<Host> placed = simulate(XenServerPlacementPolicy.LEAST_LOADED, 2 * GIB, 5,
+                load(H1, 8 * GIB, 0.5, 0), load(H3, 4 * GIB, 0.18, 1), load(H2, 4 * GIB, 0.21, 0));
+
+        // H2 and H3 are about as idle, so they take turns by agents until out of memory, and only then is H1 used
+        assertEquals(placed, Arrays.asList(H2, H3, H2, H3, H1));
+    }
+
+    public void testSimulateRunsOutOfMemory() {
+        List<Host> placed = simulate(XenServerPlacementPolicy.SPREAD, 2 * GIB, 5,
+                load(H1, 3 * GIB, 0, 0), load(H2, 0, 0, 0));
+
+        assertEquals(placed, Arrays.asList(H1));
+    }
+
+    /**
+     * Admits up to count instances one after another the way XenServerCapacity does, each taking its memory off the
+     * host it is placed on and counting as one of its agents, and returns the hosts they were placed on.
+     */
+    private static List<Host> simulate(XenServerPlacementPolicy policy, long required, int count, XenServerCapacity.HostLoad... hosts) {
+        List<Host> placed = new ArrayList<Host>();
+        for (int i = 0; i < count; i++) {
+            List<XenServerCapacity.HostLoad> candidates = XenServerCapacity.getCandidates(Arrays.asList(hosts), required, policy);
+            if (candidates.isEmpty())
+                break;
+            XenServerCapacity.HostLoad host = candidates.get(0);
+            host.freeMemory -= required;
+            host.agents++;
+            placed.add(host.host);
+        }
+        return placed;
+    }
+
+    private static XenServerCapacity.HostLoad load(Host host, long freeMemory, double cpuLoad, int agents) {
+        XenServerCapacity.HostLoad load = new XenServerCapacity.HostLoad(host, freeMemory, cpuLoad);
+        load.agents = agents;
+        return load;
+    }
+}
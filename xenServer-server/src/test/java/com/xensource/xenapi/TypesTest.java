@@ -0,0 +1,141 @@
+package com.xensource.xenapi;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * checkResponse looks error codes up in the ERRORS table, which replaced the generated chain of equals() branches.
+ * These check that the codes the plugin runs into, and every other code in the table, still make the exception
+ * they made before, with the same parameters.
+ */
+@Test
+public class TypesTest
+{
+    public void testSuccessIsReturned() throws Exception
+    {
+        Map<String, Object> response = new HashMap<String, Object>();
+        response.put("Status", "Success");
+        response.put("Value", "OpaqueRef:vm");
+
+        assertSame(Types.checkResponse(response), response);
+    }
+
+    public void testSessionInvalid()
+    {
+        Types.SessionInvalid e = (Types.SessionInvalid) fail("SESSION_INVALID", "OpaqueRef:session");
+
+        assertEquals(e.handle, "OpaqueRef:session");
+    }
+
+    public void testOtherOperationInProgress()
+    {
+        Types.OtherOperationInProgress e = (Types.OtherOperationInProgress) fail("OTHER_OPERATION_IN_PROGRESS", "VM", "OpaqueRef:vm");
+
+        assertEquals(e.clazz, "VM");
+        assertEquals(e.object, "OpaqueRef:vm");
+    }
+
+    public void testHostNotEnoughFreeMemory()
+    {
+        Types.HostNotEnoughFreeMemory e = (Types.HostNotEnoughFreeMemory) fail("HOST_NOT_ENOUGH_FREE_MEMORY", "4294967296", "1073741824");
+
+        assertEquals(e.needed, "4294967296");
+        assertEquals(e.available, "1073741824");
+    }
+
+    public void testHandleInvalid()
+    {
+        Types.HandleInvalid e = (Types.HandleInvalid) fail("HANDLE_INVALID", "VM", "OpaqueRef:gone");
+
+        assertEquals(e.clazz, "VM");
+        assertEquals(e.handle, "OpaqueRef:gone");
+    }
+
+    public void testMissingParametersAreEmpty()
+    {
+        Types.HandleInvalid e = (Types.HandleInvalid) fail("HANDLE_INVALID", "VM");
+
+        assertEquals(e.clazz, "VM");
+        assertEquals(e.handle, "");
+    }
+
+    public void testUnknownCode()
+    {
+        Types.XenAPIException e = fail("NOT_A_XENAPI_ERROR", "a", "b");
+
+        assertSame(e.getClass(), Types.XenAPIException.class);
+        assertEquals(e.errorDescription, new String[]{"NOT_A_XENAPI_ERROR", "a", "b"});
+    }
+
+    /**
+     * Each generated exception is named after its code in camel case, and declares one public String field per
+     * parameter, in the order of the parameters.
+     */
+    public void testEveryCodeMakesItsNamedException() throws Exception
+    {
+        Field table = Types.class.getDeclaredField("ERRORS");
+        table.setAccessible(true);
+        Map<?, ?> errors = (Map<?, ?>) table.get(null);
+        assertEquals(errors.size(), 491);
+
+        for (Object code : errors.keySet())
+        {
+            String[] description = new String[10];
+            description[0] = (String) code;
+            for (int i = 1; i < description.length; i++)
+            {
+                description[i] = "p" + i;
+            }
+            Types.XenAPIException e = fail(description);
+
+            StringBuilder name = new StringBuilder();
+            for (String word : ((String) code).toLowerCase(Locale.ROOT).split("_"))
+            {
+                if (!word.isEmpty())
+                    name.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+            assertEquals(e.getClass().getSimpleName(), name.toString(), "exception of " + code);
+
+            List<Object> parameters = new ArrayList<Object>();
+            List<Object> expected = new ArrayList<Object>();
+            for (Field field : e.getClass().getDeclaredFields())
+            {
+                if (field.getType() == String.class && Modifier.isPublic(field.getModifiers()) && !Modifier.isStatic(field.getModifiers()))
+                {
+                    parameters.add(field.get(e));
+                    expected.add("p" + parameters.size());
+                }
+            }
+            assertEquals(parameters, expected, "parameters of " + code);
+        }
+    }
+
+    private static Types.XenAPIException fail(String... description)
+    {
+        Map<String, Object> response = new HashMap<String, Object>();
+        response.put("Status", "Failure");
+        response.put("ErrorDescription", description);
+        try
+        {
+            Types.checkResponse(response);
+        }
+        catch (Types.BadServerResponse e)
+        {
+            throw new AssertionError(e);
+        }
+        catch (Types.XenAPIException e)
+        {
+            return e;
+        }
+        throw new AssertionError("checkResponse accepted a failure");
+    }
+}
@@ -0,0 +1,356 @@
+package com.xensource.xenapi;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * Compares the two wire protocols on a canned VM.get_all_records response: the same pool of VMs is written as an
+ * XML-RPC and a JSON-RPC response, and each is decoded the way Connection decodes it, through ResponseDecoder and
+ * JsonRpcClient with the registered record converter. The payload sizes and median decode times are printed; only
+ * the sizes and the decoded records are asserted on, as timings vary too much between machines.
+ */
+@Test
+public class WireProtocolComparisonTest
+{
+    private static final String METHOD = "VM.get_all_records";
+    private static final int VMS = 500;
+    private static final int WARMUP_RUNS = 20;
+    private static final int RUNS = 30;
+
+    public void testVmGetAllRecords() throws Exception
+    {
+        Map<String, Map<String, Object>> pool = createPool(VMS);
+        byte[] xml = toXmlRpc(pool).getBytes("UTF-8");
+        byte[] json = toJsonRpc(pool).getBytes("UTF-8");
+        ResponseDecoder.RecordConverter converter = ResponseDecoder.forMethod(METHOD);
+
+        Map<VM, VM.Record> fromXml = decodeXmlRpc(xml, converter);
+        Map<VM, VM.Record> fromJson = decodeJsonRpc(json, converter);
+        assertEquals(fromXml.size(), VMS);
+        assertEquals(fromJson.keySet(), fromXml.keySet());
+        for (Map.Entry<VM, VM.Record> vm : fromXml.entrySet())
+        {
+            assertEquals(fromJson.get(vm.getKey()).toString(), vm.getValue().toString(), "record of " + vm.getKey().toWireString());
+        }
+        assertTrue(json.length < xml.length, "JSON-RPC payload of " + json.length + " bytes is not smaller than XML-RPC's " + xml.length);
+
+        long[] xmlNanos = new long[RUNS];
+        long[] jsonNanos = new long[RUNS];
+        for (int i = -WARMUP_RUNS; i < RUNS; i++)
+        {
+            long start = System.nanoTime();
+            decodeXmlRpc(xml, converter);
+            long middle = System.nanoTime();
+            decodeJsonRpc(json, converter);
+            long end = System.nanoTime();
+            if (i >= 0)
+            {
+                xmlNanos[i] = middle - start;
+                jsonNanos[i] = end - middle;
+            }
+        }
+        System.out.println(String.format("%s of %d VMs: XML-RPC %d bytes, %.2f ms; JSON-RPC %d bytes (%.0f%%), %.2f ms (%.0f%%)",
+                METHOD, VMS, xml.length, median(xmlNanos) / 1e6, json.length, 100.0 * json.length / xml.length,
+                median(jsonNanos) / 1e6, 100.0 * median(jsonNanos) / median(xmlNanos)));
+    }
+
+    private static Map<VM, VM.Record> decodeXmlRpc(byte[] response, ResponseDecoder.RecordConverter converter) throws Exception
+    {
+        Map struct = (Map) ResponseDecoder.parse(new ByteArrayInputStream(response), converter);
+        return Types.toMapOfVMVMRecord(Types.checkResponse(struct).get("Value"));
+    }
+
+    private static Map<VM, VM.Record> decodeJsonRpc(byte[] response, ResponseDecoder.RecordConverter converter) throws Exception
+    {
+        Map struct = JsonRpcClient.decode(new ByteArrayInputStream(response), converter);
+        return Types.toMapOfVMVMRecord(Types.checkResponse(struct).get("Value"));
+    }
+
+    private static long median(long[] nanos)
+    {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Guest VMs with the members and the kind of values xapi sends for them. Whole numbers are Longs and dates
+     * DateTimes, as the two protocols encode them differently.
+     */
+    private static Map<String, Map<String, Object>> createPool(int size)
+    {
+        Random random = new Random(42);
+        Map<String, Map<String, Object>> pool = new LinkedHashMap<String, Map<String, Object>>();
+        for (int i = 0; i < size; i++)
+        {
+            boolean running = random.nextBoolean();
+            Map<String, Object> vm = new LinkedHashMap<String, Object>();
+            vm.put("uuid", uuid(random));
+            vm.put("allowed_operations", running
+                    ? new Object[]{"clean_shutdown", "hard_shutdown", "clean_reboot", "hard_reboot", "suspend", "snapshot"}
+                    : new Object[]{"start", "start_on", "clone", "copy", "export", "destroy", "snapshot"});
+            vm.put("current_operations", Collections.emptyMap());
+            vm.put("power_state", running ? "Running" : "Halted");
+            vm.put("name_label", "buildagent-" + uuid(random));
+            vm.put("name_description", "TeamCity build agent");
+            vm.put("user_version", 1L);
+            vm.put("is_a_template", false);
+            vm.put("is_default_template", false);
+            vm.put("suspend_VDI", "OpaqueRef:NULL");
+            vm.put("resident_on", running ? "OpaqueRef:" + uuid(random) : "OpaqueRef:NULL");
+            vm.put("affinity", "OpaqueRef:NULL");
+            vm.put("memory_overhead", 35651584L);
+            vm.put("memory_target", 4294967296L);
+            vm.put("memory_static_max", 4294967296L);
+            vm.put("memory_dynamic_max", 4294967296L);
+            vm.put("memory_dynamic_min", 2147483648L);
+            vm.put("memory_static_min", 1073741824L);
+            vm.put("VCPUs_params", map("weight", "256"));
+            vm.put("VCPUs_max", 4L);
+            vm.put("VCPUs_at_startup", 4L);
+            vm.put("actions_after_shutdown", "destroy");
+            vm.put("actions_after_reboot", "restart");
+            vm.put("actions_after_crash", "restart");
+            vm.put("consoles", running ? refs(random, 1) : new Object[0]);
+            vm.put("VIFs", refs(random, 1));
+            vm.put("VGPUs", new Object[0]);
+            vm.put("attached_PCIs", new Object[0]);
+            vm.put("VBDs", refs(random, 2));
+            vm.put("crash_dumps", new Object[0]);
+            vm.put("VTPMs", new Object[0]);
+            vm.put("PV_bootloader", "");
+            vm.put("PV_kernel", "");
+            vm.put("PV_ramdisk", "");
+            vm.put("PV_args", "");
+            vm.put("PV_bootloader_args", "");
+            vm.put("PV_legacy_args", "");
+            vm.put("HVM_boot_policy", "BIOS order");
+            vm.put("HVM_boot_params", map("order", "dc"));
+            vm.put("HVM_shadow_multiplier", 1.0);
+            vm.put("platform", map("timeoffset", "0", "nx", "true", "acpi", "1", "apic", "true", "pae", "true", "viridian", "true",
+                    "device_id", "0002"));
+            vm.put("PCI_bus", "");
+            vm.put("other_config", map("base_template_name", "Windows Server 2016 (64-bit)", "import_task", "OpaqueRef:NULL",
+                    "mac_seed", uuid(random), "install-methods", "cdrom"));
+            vm.put("domid", running ? (long) random.nextInt(1000) : -1L);
+            vm.put("domarch", running ? "x64" : "");
+            vm.put("last_boot_CPU_flags", running ? map("vendor", "GenuineIntel", "features", "1fcbfbff-f7fa3223-2d93fbff-00000023") : Collections.emptyMap());
+            vm.put("is_control_domain", false);
+            vm.put("metrics", "OpaqueRef:" + uuid(random));
+            vm.put("guest_metrics", running ? "OpaqueRef:" + uuid(random) : "OpaqueRef:NULL");
+            vm.put("last_booted_record", "");
+            vm.put("recommendations", "<restrictions><restriction field=\"memory-static-max\" max=\"1649267441664\"/></restrictions>");
+            vm.put("xenstore_data", map("vm-data", "", "vm-data/mmio-hole-size", "268435456"));
+            vm.put("ha_always_run", false);
+            vm.put("ha_restart_priority", "");
+            vm.put("is_a_snapshot", false);
+            vm.put("snapshot_of", "OpaqueRef:NULL");
+            vm.put("snapshots", new Object[0]);
+            vm.put("snapshot_time", new DateTime("19700101T00:00:00Z"));
+            vm.put("transportable_snapshot_id", "");
+            vm.put("blobs", Collections.emptyMap());
+            vm.put("tags", new Object[]{uuid(random)});
+            vm.put("blocked_operations", Collections.emptyMap());
+            vm.put("snapshot_info", Collections.emptyMap());
+            vm.put("snapshot_metadata", "");
+            vm.put("parent", "OpaqueRef:NULL");
+            vm.put("children", new Object[0]);
+            vm.put("bios_strings", map("bios-vendor", "Xen", "system-manufacturer", "Xen", "system-product-name", "HVM domU"));
+            vm.put("protection_policy", "OpaqueRef:NULL");
+            vm.put("is_snapshot_from_vmpp", false);
+            vm.put("appliance", "OpaqueRef:NULL");
+            vm.put("start_delay", 0L);
+            vm.put("shutdown_delay", 0L);
+            vm.put("order", 0L);
+            vm.put("suspend_SR", "OpaqueRef:NULL");
+            vm.put("version", 0L);
+            vm.put("generation_id", "0:0");
+            vm.put("hardware_platform_version", 0L);
+            vm.put("has_vendor_device", false);
+            vm.put("requires_reboot", false);
+            vm.put("reference_label", "");
+            pool.put("OpaqueRef:" + uuid(random), vm);
+        }
+        return pool;
+    }
+
+    private static String uuid(Random random)
+    {
+        return new java.util.UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static Object[] refs(Random random, int count)
+    {
+        Object[] refs = new Object[count];
+        for (int i = 0; i < count; i++)
+        {
+            refs[i] = "OpaqueRef:" + uuid(random);
+        }
+        return refs;
+    }
+
+    private static Map<String, Object> map(String... keysAndValues)
+    {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < keysAndValues.length; i += 2)
+        {
+            map.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static String toXmlRpc(Map<String, Map<String, Object>> pool)
+    {
+        StringBuilder out = new StringBuilder();
+        out.append("<?xml version=\"1.0\"?><methodResponse><params><param><value><struct>");
+        out.append("<member><name>Status</name><value>Success</value></member>");
+        out.append("<member><name>Value</name>");
+        writeXml(out, pool);
+        out.append("</member></struct></value></param></params></methodResponse>");
+        return out.toString();
+    }
+
+    private static void writeXml(StringBuilder out, Object value)
+    {
+        out.append("<value>");
+        if (value instanceof String || value instanceof Long)
+        {
+            // xapi sends strings, and whole numbers as strings, without a type element
+            escapeXml(out, value.toString());
+        }
+        else if (value instanceof Boolean)
+        {
+            out.append("<boolean>").append((Boolean) value ? '1' : '0').append("</boolean>");
+        }
+        else if (value instanceof Double)
+        {
+            out.append("<double>").append(value).append("</double>");
+        }
+        else if (value instanceof DateTime)
+        {
+            out.append("<dateTime.iso8601>").append(((DateTime) value).value).append("</dateTime.iso8601>");
+        }
+        else if (value instanceof Object[])
+        {
+            out.append("<array><data>");
+            for (Object item : (Object[]) value)
+            {
+                writeXml(out, item);
+            }
+            out.append("</data></array>");
+        }
+        else
+        {
+            out.append("<struct>");
+            for (Map.Entry<?, ?> member : ((Map<?, ?>) value).entrySet())
+            {
+                out.append("<member><name>");
+                escapeXml(out, (String) member.getKey());
+                out.append("</name>");
+                writeXml(out, member.getValue());
+                out.append("</member>");
+            }
+            out.append("</struct>");
+        }
+        out.append("</value>");
+    }
+
+    private static void escapeXml(StringBuilder out, String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if (c == '<')
+                out.append("&lt;");
+            else if (c == '>')
+                out.append("&gt;");
+            else if (c == '&')
+                out.append("&amp;");
+            else
+                out.append(c);
+        }
+    }
+
+    private static String toJsonRpc(Map<String, Map<String, Object>> pool)
+    {
+        StringBuilder out = new StringBuilder();
+        out.append("{\"jsonrpc\":\"2.0\",\"result\":");
+        writeJson(out, pool);
+        out.append(",\"id\":1}");
+        return out.toString();
+    }
+
+    private static void writeJson(StringBuilder out, Object value)
+    {
+        if (value instanceof String)
+        {
+            escapeJson(out, (String) value);
+        }
+        else if (value instanceof Long || value instanceof Boolean || value instanceof Double)
+        {
+            out.append(value);
+        }
+        else if (value instanceof DateTime)
+        {
+            escapeJson(out, ((DateTime) value).value);
+        }
+        else if (value instanceof Object[])
+        {
+            out.append('[');
+            Object[] items = (Object[]) value;
+            for (int i = 0; i < items.length; i++)
+            {
+                if (i > 0)
+                    out.append(',');
+                writeJson(out, items[i]);
+            }
+            out.append(']');
+        }
+        else
+        {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> member : ((Map<?, ?>) value).entrySet())
+            {
+                if (!first)
+                    out.append(',');
+                first = false;
+                escapeJson(out, (String) member.getKey());
+                out.append(':');
+                writeJson(out, member.getValue());
+            }
+            out.append('}');
+        }
+    }
+
+    private static void escapeJson(StringBuilder out, String value)
+    {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\')
+                out.append('\\');
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static class DateTime
+    {
+        final String value;
+
+        DateTime(String value)
+        {
+            this.value = value;
+        }
+    }
+}